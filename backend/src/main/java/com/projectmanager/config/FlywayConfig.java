@@ -0,0 +1,32 @@
+package com.projectmanager.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Entity tables are still created by Hibernate (ddl-auto: update), so Flyway only carries the
+ * PostgreSQL-specific extensions on top of them (triggers, GIN/partial indexes, ...). Migrating is
+ * therefore deferred until the entity manager factory, and with it the Hibernate schema, is built.
+ * <p>
+ * The migration runs once every singleton exists but before the context finishes refreshing, which is
+ * when the web server starts listening and the {@code @Scheduled} jobs are registered; neither can
+ * reach a table or function of a pending migration.
+ */
+@Configuration
+public class FlywayConfig {
+
+    @Bean
+    public FlywayMigrationStrategy deferredFlywayMigrationStrategy() {
+        return flyway -> {
+        };
+    }
+
+    @Bean
+    public SmartInitializingSingleton flywayDeferredMigration(Flyway flyway, EntityManagerFactory entityManagerFactory) {
+        return flyway::migrate;
+    }
+}
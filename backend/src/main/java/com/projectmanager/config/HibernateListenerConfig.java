@@ -0,0 +1,34 @@
+package com.projectmanager.config;
+
+import com.projectmanager.listener.task.TaskHistoryListener;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers Spring-managed Hibernate event listeners, which JPA's {@code @EntityListeners} callbacks
+ * cannot replace where the dirty-property information of a flush is needed.
+ */
+@Configuration
+public class HibernateListenerConfig {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final TaskHistoryListener taskHistoryListener;
+
+    public HibernateListenerConfig(EntityManagerFactory entityManagerFactory, TaskHistoryListener taskHistoryListener) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.taskHistoryListener = taskHistoryListener;
+    }
+
+    @PostConstruct
+    public void registerListeners() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, taskHistoryListener);
+        registry.appendListeners(EventType.POST_UPDATE, taskHistoryListener);
+    }
+}
@@ -0,0 +1,194 @@
+package com.projectmanager.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.projectmanager.event.TaskBatchEvent;
+import com.projectmanager.event.TaskProjectChangedEvent;
+import com.projectmanager.event.TaskUpdatedEvent;
+import com.projectmanager.repository.ProjectScopeRepository;
+import com.projectmanager.repository.UserRepository;
+import com.projectmanager.service.project.ProjectMembershipCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.access.PermissionEvaluator;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Project-scoped access for {@code @PreAuthorize("hasPermission(#id, 'task', 'write')")}. The target is a
+ * project, task, comment, attachment or dependency id; it is resolved to its project and checked against the
+ * caller's projects in {@link ProjectMembershipCache}, so a warm check makes no database round trip.
+ * <p>
+ * {@code read} requires the caller to have created or be a member of the project; {@code write} additionally
+ * requires a role other than observer. Admins pass every check. A null or unknown id passes, leaving the
+ * service to validate it and answer 400 or 404.
+ * <p>
+ * Task moves made on other instances arrive as {@link TaskProjectChangedEvent}s from
+ * {@code ProjectMembershipNotificationListener}, within {@code membership-cache.notify-poll-interval}.
+ */
+@Component
+public class ProjectPermissionEvaluator implements PermissionEvaluator {
+
+    private static final String ADMIN = "ROLE_admin";
+    private static final String PROJECT_MANAGER = "ROLE_project-manager";
+    private static final String DEVELOPER = "ROLE_developer";
+
+    private enum TargetType { PROJECT, TASK, COMMENT, ATTACHMENT, DEPENDENCY }
+
+    private record Target(TargetType type, UUID id) {
+    }
+
+    private final ProjectMembershipCache projectMembershipCache;
+    private final ProjectScopeRepository projectScopeRepository;
+    private final LoadingCache<UUID, UUID> userIdsByKey;
+    // Task and dependency ids map to their project, comments and attachments to their task.
+    private final LoadingCache<Target, UUID> parents;
+
+    public ProjectPermissionEvaluator(ProjectMembershipCache projectMembershipCache,
+                                      ProjectScopeRepository projectScopeRepository,
+                                      UserRepository userRepository,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${membership-cache.max-ids:1000000}") long maxIds,
+                                      @Value("${membership-cache.expire-after-write:PT30M}") Duration expireAfterWrite) {
+        this.projectMembershipCache = projectMembershipCache;
+        this.projectScopeRepository = projectScopeRepository;
+        this.userIdsByKey = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxIds)
+                .recordStats()
+                .build((UUID key) -> userRepository.findIdByKeycloakId(key).orElse(null)),
+                "project.permission.users");
+        this.parents = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxIds)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(this::loadParent),
+                "project.permission.targets");
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Object targetDomainObject, Object permission) {
+        return hasPermission(authentication, targetDomainObject instanceof Serializable id ? id : null, "project", permission);
+    }
+
+    @Override
+    public boolean hasPermission(Authentication authentication, Serializable targetId, String targetType, Object permission) {
+        if (!"read".equals(permission) && !"write".equals(permission)) {
+            throw new IllegalArgumentException("Unknown permission: " + permission);
+        }
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+        boolean admin = false;
+        boolean writer = false;
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            String name = authority.getAuthority();
+            admin |= ADMIN.equals(name);
+            writer |= PROJECT_MANAGER.equals(name) || DEVELOPER.equals(name);
+        }
+        if (admin) {
+            return true;
+        }
+        if ("write".equals(permission) && !writer) {
+            return false;
+        }
+        UUID id = toUuid(targetId);
+        if (id == null) {
+            return true;
+        }
+        UUID projectId = projectId(TargetType.valueOf(targetType.toUpperCase(Locale.ROOT)), id);
+        if (projectId == null) {
+            return true;
+        }
+        UUID userId = userId(authentication);
+        return userId != null && projectMembershipCache.canAccess(userId, projectId);
+    }
+
+    /**
+     * Loads the caller's project set as soon as the bearer token is accepted, so the first check of the
+     * request is served from memory.
+     */
+    @EventListener
+    public void handleAuthenticationSuccessEvent(AuthenticationSuccessEvent event) {
+        UUID userId = userId(event.getAuthentication());
+        if (userId != null) {
+            projectMembershipCache.getProjectIds(userId);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskUpdatedEvent(TaskUpdatedEvent event) {
+        // The task may have moved to another project.
+        parents.invalidate(new Target(TargetType.TASK, event.getTask().getId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskBatchEvent(TaskBatchEvent event) {
+        evictTasks();
+    }
+
+    @EventListener
+    public void handleTaskProjectChangedEvent(TaskProjectChangedEvent event) {
+        if (event.getTaskId() == null) {
+            evictTasks();
+        } else {
+            parents.invalidate(new Target(TargetType.TASK, event.getTaskId()));
+        }
+    }
+
+    private void evictTasks() {
+        parents.asMap().keySet().removeIf(target -> target.type() == TargetType.TASK);
+    }
+
+    private UUID projectId(TargetType type, UUID id) {
+        return switch (type) {
+            case PROJECT -> id;
+            case TASK, DEPENDENCY -> parents.get(new Target(type, id));
+            case COMMENT, ATTACHMENT -> {
+                UUID taskId = parents.get(new Target(type, id));
+                yield taskId == null ? null : parents.get(new Target(TargetType.TASK, taskId));
+            }
+        };
+    }
+
+    private UUID loadParent(Target target) {
+        Optional<UUID> parent = switch (target.type()) {
+            case TASK -> projectScopeRepository.findProjectIdByTaskId(target.id());
+            case COMMENT -> projectScopeRepository.findTaskIdByCommentId(target.id());
+            case ATTACHMENT -> projectScopeRepository.findTaskIdByAttachmentId(target.id());
+            case DEPENDENCY -> projectScopeRepository.findProjectIdByDependencyId(target.id());
+            case PROJECT -> Optional.of(target.id());
+        };
+        return parent.orElse(null);
+    }
+
+    private UUID userId(Authentication authentication) {
+        UUID key = toUuid(authentication.getName());
+        return key == null ? null : userIdsByKey.get(key);
+    }
+
+    private static UUID toUuid(Object value) {
+        if (value instanceof UUID id) {
+            return id;
+        }
+        if (value instanceof String text) {
+            try {
+                return UUID.fromString(text);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+}
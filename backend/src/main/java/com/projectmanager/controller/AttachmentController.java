@@ -12,6 +12,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -38,17 +39,20 @@ public class AttachmentController {
 
 
 
+    @PreAuthorize("hasPermission(#commentId, 'comment', 'read')")
     @GetMapping("/comments/{commentId}")
     public ResponseEntity<List<AttachmentResponse>> getAttachmentsForComment(@PathVariable UUID commentId) {
         List<AttachmentResponse> commentAttachments = attachmentService.getAttachmentsForComment(commentId);
         return new ResponseEntity<>(commentAttachments, HttpStatus.OK);
     }
+    @PreAuthorize("hasPermission(#taskId, 'task', 'read')")
     @GetMapping("/tasks/{taskId}")
     public ResponseEntity<List<AttachmentResponse>> getAttachmentsForTask(@PathVariable UUID taskId) {
         List<AttachmentResponse> taskAttachments = attachmentService.getAttachmentsForTask(taskId);
         return new ResponseEntity<>(taskAttachments, HttpStatus.OK);
     }
 
+    @PreAuthorize("hasPermission(#taskId, 'task', 'write') and hasPermission(#commentId, 'comment', 'write')")
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<AttachmentResponse> uploadAttachment(
             @RequestParam("file") MultipartFile file,
@@ -68,6 +72,7 @@ public class AttachmentController {
         return new ResponseEntity<>(response, HttpStatus.CREATED);
     }
 
+    @PreAuthorize("hasPermission(#id, 'attachment', 'read')")
     @GetMapping("/{id}/download-url")
     public ResponseEntity<Map<String, String>> getDownloadUrl(@PathVariable UUID id) throws IOException {
         String downloadUrl = attachmentService.getPresignedDownloadUrl(id);
@@ -101,6 +106,7 @@ public class AttachmentController {
 //        }
 //    }
 
+    @PreAuthorize("hasPermission(#id, 'attachment', 'write')")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteAttachment(@PathVariable UUID id) throws IOException {
         attachmentService.deleteAttachment(id);
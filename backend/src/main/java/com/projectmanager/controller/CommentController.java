@@ -10,6 +10,7 @@ import com.projectmanager.service.user.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.security.Principal;
@@ -33,6 +34,7 @@ public class CommentController {
         this.commentMapper = commentMapper;
     }
 
+    @PreAuthorize("hasPermission(#id, 'comment', 'read')")
     @GetMapping("{id}")
     public ResponseEntity<CommentResponse> getCommentById(@PathVariable UUID id) {
     Optional<Comment> comment = commentService.getCommentById(id);
@@ -43,12 +45,7 @@ public class CommentController {
         return ResponseEntity.ok(commentResponse);
     }
 
-    @GetMapping
-    public ResponseEntity<List<CommentResponse>> getAllComments() {
-        List<CommentResponse> comments = commentService.getComments();
-        return ResponseEntity.ok(comments);
-    }
-
+    @PreAuthorize("hasPermission(#request.taskId, 'task', 'write')")
     @PostMapping
     public ResponseEntity<CommentResponse> createComment(@RequestBody CommentRequest request, Principal principal) {
         String username = principal.getName();
@@ -58,17 +55,20 @@ public class CommentController {
         return new ResponseEntity<>(createdComment, HttpStatus.CREATED);
     }
 
+    @PreAuthorize("hasPermission(#id, 'comment', 'write')")
     @PutMapping("/{id}")
     public ResponseEntity<CommentResponse> updateComment(@PathVariable UUID id, @RequestBody CommentRequest request) {
         CommentResponse updatedComment = commentService.updateComment(id, request);
         return ResponseEntity.ok(updatedComment);
     }
 
+    @PreAuthorize("hasPermission(#id, 'task', 'read')")
     @GetMapping("/tasks/{id}")
     public ResponseEntity<List<CommentResponse>> getCommentsByTaskId(@PathVariable UUID id) {
         List<CommentResponse> taskComments = commentService.getCommentsForTask(id);
         return ResponseEntity.ok(taskComments);
     }
+    @PreAuthorize("hasPermission(#id, 'comment', 'write')")
     @DeleteMapping("/{id}")
     public ResponseEntity<CommentResponse> deleteComment(@PathVariable UUID id) {
         commentService.deleteCommentById(id);
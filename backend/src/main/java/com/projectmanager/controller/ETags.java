@@ -0,0 +1,75 @@
+package com.projectmanager.controller;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Supplier;
+
+/**
+ * Strong ETags derived from a numeric version, e.g. {@code "42"}, or from an entity version and the version of
+ * content embedded with it, e.g. {@code "42.7"}. {@code If-Match} compares the first version only.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    static String of(Long version) {
+        return "\"" + (version == null ? 0 : version) + "\"";
+    }
+
+    static String of(Long version, long embeddedVersion) {
+        return "\"" + (version == null ? 0 : version) + "." + embeddedVersion + "\"";
+    }
+
+    static boolean matches(String header, Long version) {
+        return matches(header, of(version));
+    }
+
+    static boolean matches(String header, String expected) {
+        if (header == null) {
+            return false;
+        }
+        for (String candidate : header.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(expected)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses an {@code If-Match} header into the version it expects. Returns {@code null} when the
+     * header is absent or {@code *}, meaning any current version is acceptable.
+     */
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/") || tag.contains(",")) {
+            throw new IllegalArgumentException("If-Match must be a single strong ETag");
+        }
+        String version = tag.replace("\"", "");
+        int embedded = version.indexOf('.');
+        try {
+            return Long.parseLong(embedded < 0 ? version : version.substring(0, embedded));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Malformed If-Match header: " + ifMatch);
+        }
+    }
+
+    /**
+     * Answers {@code 304 Not Modified} when the client already holds {@code version}; the body supplier
+     * is only invoked, and the data only loaded, when it does not.
+     */
+    static <T> ResponseEntity<T> conditional(long version, String ifNoneMatch, Supplier<T> body) {
+        String etag = of(version);
+        if (matches(ifNoneMatch, version)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(CacheControl.noCache()).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(body.get());
+    }
+}
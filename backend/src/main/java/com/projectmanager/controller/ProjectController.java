@@ -2,27 +2,45 @@ package com.projectmanager.controller;
 
 
 
+import com.projectmanager.dto.request.ProjectCloneRequest;
+import com.projectmanager.dto.request.ProjectMembersRequest;
 import com.projectmanager.dto.request.ProjectRequest;
 import com.projectmanager.dto.request.UserRequest;
+import com.projectmanager.dto.response.BurndownResponse;
+import com.projectmanager.dto.response.NetworkMapTaskResponse;
+import com.projectmanager.dto.response.ProjectDashboardResponse;
+import com.projectmanager.dto.response.ProjectMembershipResponse;
 import com.projectmanager.dto.response.ProjectResponse;
+import com.projectmanager.dto.response.PurgeJobResponse;
+import com.projectmanager.dto.response.TaskDependencySuggestionResponse;
 import com.projectmanager.dto.response.UserResponse;
+import com.projectmanager.dto.response.VelocityResponse;
 import com.projectmanager.entity.Project;
 import com.projectmanager.entity.User;
 import com.projectmanager.mapper.ProjectMapper;
+import com.projectmanager.model.project.MetricsPeriod;
 import com.projectmanager.repository.ProjectRepository;
 import com.projectmanager.service.project.ProjectAnalysisService;
+import com.projectmanager.service.project.ProjectMetricsService;
+import com.projectmanager.service.project.ProjectScheduleService;
 import com.projectmanager.service.project.ProjectService;
+import com.projectmanager.service.purge.DeletionPurgeService;
 import com.projectmanager.service.user.CurrentUserProvisioningService;
 import com.projectmanager.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
+import java.net.URI;
 import java.security.Principal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -35,15 +53,21 @@ public class ProjectController {
     private final UserService userService ;
     private final ProjectMapper projectMapper;
     private final ProjectAnalysisService projectAnalysisService;
+    private final ProjectScheduleService projectScheduleService;
+    private final ProjectMetricsService projectMetricsService;
+    private final DeletionPurgeService deletionPurgeService;
     private final ProjectRepository projectRepository;
     private final CurrentUserProvisioningService currentUserProvisioningService;
 
     @Autowired
-    public ProjectController(ProjectService projectService, UserService userService, ProjectMapper projectMapper, ProjectAnalysisService projectAnalysisService, ProjectRepository projectRepository, CurrentUserProvisioningService currentUserProvisioningService) {
+    public ProjectController(ProjectService projectService, UserService userService, ProjectMapper projectMapper, ProjectAnalysisService projectAnalysisService, ProjectScheduleService projectScheduleService, ProjectMetricsService projectMetricsService, DeletionPurgeService deletionPurgeService, ProjectRepository projectRepository, CurrentUserProvisioningService currentUserProvisioningService) {
         this.projectService = projectService;
         this.userService = userService;
         this.projectMapper = projectMapper;
         this.projectAnalysisService = projectAnalysisService;
+        this.projectScheduleService = projectScheduleService;
+        this.projectMetricsService = projectMetricsService;
+        this.deletionPurgeService = deletionPurgeService;
         this.projectRepository = projectRepository;
         this.currentUserProvisioningService = currentUserProvisioningService;
     }
@@ -55,8 +79,32 @@ public class ProjectController {
         return ResponseEntity.ok(projects);
     }
 
+    @GetMapping("/dashboard")
+    public ResponseEntity<List<ProjectDashboardResponse>> getDashboard(Principal principal) {
+        User user = currentUserProvisioningService.getOrCreateCurrentUser(principal);
+        return ResponseEntity.ok(projectService.getDashboard(user.getId()));
+    }
+
+    @GetMapping("/templates")
+    public ResponseEntity<List<ProjectResponse>> getTemplates() {
+        return ResponseEntity.ok(projectService.findTemplates());
+    }
+
+    @PostMapping("/{id}/clone")
+    public ResponseEntity<ProjectResponse> cloneProject(@PathVariable UUID id, @RequestBody ProjectCloneRequest request, Principal principal) {
+        ProjectResponse clone = projectService.cloneProject(id, request, principal.getName());
+        return ResponseEntity.created(URI.create("/api/v1/projects/" + clone.getId())).body(clone);
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
     @GetMapping("/{id}")
-    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable UUID id) {
+    public ResponseEntity<ProjectResponse> getProjectById(@PathVariable UUID id,
+                                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long version = projectService.getChangeVersion(id);
+        if (ETags.matches(ifNoneMatch, version)) {
+            return ETags.conditional(version, ifNoneMatch, () -> null);
+        }
+
         Optional<Project> projectOptional = projectService.findProjectById(id);
 
         if (projectOptional.isEmpty()) {
@@ -64,7 +112,7 @@ public class ProjectController {
         }
 
         ProjectResponse responseDto = projectMapper.toResponse(projectOptional.get());
-        return ResponseEntity.ok(responseDto);
+        return ETags.conditional(version, null, () -> responseDto);
     }
 
     @GetMapping("/debug")
@@ -81,12 +129,14 @@ public class ProjectController {
         return new ResponseEntity<>(createdProject, HttpStatus.CREATED);
     }
 
+    @PreAuthorize("hasPermission(#id, 'project', 'write')")
     @PostMapping("/{id}/add")
     public ResponseEntity<ProjectResponse> addProjectMember(@PathVariable UUID id, @RequestBody UserRequest request) {
         projectService.addProjectMember(id,request);
         return ResponseEntity.ok().build();
     }
 
+    @PreAuthorize("hasPermission(#id, 'project', 'write')")
     @PutMapping("/{id}")
     public ResponseEntity<ProjectResponse> updateProject(@PathVariable UUID id, @RequestBody ProjectRequest request) {
         ProjectResponse updatedProject = projectService.updateProject(id, request);
@@ -94,32 +144,89 @@ public class ProjectController {
     }
 
 
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
     @GetMapping("/{id}/members")
-    public ResponseEntity<Set<UserResponse>> getMembers(@PathVariable UUID id) {
-    Set<UserResponse> members = userService.getProjectMembers(id);
-    return ResponseEntity.ok(members);
+    public ResponseEntity<Set<UserResponse>> getMembers(@PathVariable UUID id,
+                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ETags.conditional(projectService.getChangeVersion(id), ifNoneMatch, () -> userService.getProjectMembers(id));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'write')")
+    @PostMapping("/{id}/members")
+    public ResponseEntity<ProjectMembershipResponse> addMembers(@PathVariable UUID id, @RequestBody ProjectMembersRequest request) {
+        return ResponseEntity.ok(projectService.addMembers(id, request.getUserIds()));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'write')")
+    @PutMapping("/{id}/members")
+    public ResponseEntity<ProjectMembershipResponse> setMembers(@PathVariable UUID id, @RequestBody ProjectMembersRequest request) {
+        return ResponseEntity.ok(projectService.setMembers(id, request.getUserIds()));
     }
 
+    @PreAuthorize("hasPermission(#id, 'project', 'write')")
+    @DeleteMapping("/{id}/members")
+    public ResponseEntity<ProjectMembershipResponse> removeMembers(@PathVariable UUID id, @RequestParam Set<UUID> userIds) {
+        return ResponseEntity.ok(projectService.removeMembers(id, userIds));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'write')")
     @DeleteMapping("/{id}")
-    public ResponseEntity<HttpStatus> deleteProject(@PathVariable UUID id) {
+    public ResponseEntity<Void> deleteProject(@PathVariable UUID id) {
         projectService.deleteProject(id);
-        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        return ResponseEntity.accepted().location(URI.create("/api/v1/projects/" + id + "/purge")).build();
+    }
+
+    @GetMapping("/{id}/purge")
+    public ResponseEntity<PurgeJobResponse> getProjectPurge(@PathVariable UUID id, Principal principal) {
+        return ResponseEntity.ok(deletionPurgeService.getPurge(id, principal.getName()));
     }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
+    @GetMapping("/{id}/network-map")
+    public ResponseEntity<List<NetworkMapTaskResponse>> getNetworkMap(@PathVariable UUID id,
+                                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ETags.conditional(projectService.getChangeVersion(id), ifNoneMatch, () -> projectScheduleService.getNetworkMap(id));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
+    @GetMapping("/{id}/burndown")
+    public ResponseEntity<BurndownResponse> getBurndown(@PathVariable UUID id,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(projectMetricsService.getBurndown(id, from, to));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
+    @GetMapping("/{id}/velocity")
+    public ResponseEntity<VelocityResponse> getVelocity(@PathVariable UUID id,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                        @RequestParam(defaultValue = "WEEK") MetricsPeriod period) {
+        return ResponseEntity.ok(projectMetricsService.getVelocity(id, from, to, period));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
     @PostMapping("/analyze/{id}")
-    public ResponseEntity<?> analyzeProject(@PathVariable UUID id) {
+    public ResponseEntity<List<NetworkMapTaskResponse>> analyzeProject(@PathVariable UUID id) {
+        return ResponseEntity.ok(projectScheduleService.getNetworkMap(id));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'write')")
+    @PostMapping("/{id}/dependencies/suggestions")
+    public ResponseEntity<?> suggestDependencies(@PathVariable UUID id) {
         Optional<Project> project = projectService.findProjectById(id);
         if (project.isEmpty()){
             throw new EntityNotFoundException("Project not found");
         }
 
         try {
-            List<Map<String, Object>> analyzedTasks = projectAnalysisService.analyzeProjectForNetworkMap(id);
+            List<TaskDependencySuggestionResponse> suggestions = projectAnalysisService.suggestMissingDependencies(id);
 
-            return ResponseEntity.ok(analyzedTasks);
+            return ResponseEntity.ok(suggestions);
         } catch (IOException | InterruptedException e) {
             e.printStackTrace(); // Log the exception for debugging.
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body("Failed to perform AI analysis: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,38 @@
+package com.projectmanager.controller;
+
+import com.projectmanager.dto.response.PageResponse;
+import com.projectmanager.dto.response.TaskSearchResultResponse;
+import com.projectmanager.entity.User;
+import com.projectmanager.service.search.SearchService;
+import com.projectmanager.service.user.CurrentUserProvisioningService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.security.Principal;
+
+@RestController
+@RequestMapping("/api/v1/search")
+public class SearchController {
+
+    private final SearchService searchService;
+    private final CurrentUserProvisioningService currentUserProvisioningService;
+
+    @Autowired
+    public SearchController(SearchService searchService, CurrentUserProvisioningService currentUserProvisioningService) {
+        this.searchService = searchService;
+        this.currentUserProvisioningService = currentUserProvisioningService;
+    }
+
+    @GetMapping
+    public ResponseEntity<PageResponse<TaskSearchResultResponse>> search(@RequestParam("q") String query,
+                                                                         @RequestParam(defaultValue = "0") int page,
+                                                                         @RequestParam(defaultValue = "20") int size,
+                                                                         Principal principal) {
+        User user = currentUserProvisioningService.getOrCreateCurrentUser(principal);
+        return ResponseEntity.ok(searchService.searchTasks(query, user.getId(), page, size));
+    }
+}
@@ -1,37 +1,86 @@
 package com.projectmanager.controller;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.projectmanager.dto.request.TaskBatchUpdateRequest;
+import com.projectmanager.dto.request.TaskDependencyRequest;
+import com.projectmanager.dto.request.TaskFilterRequest;
+import com.projectmanager.dto.request.TaskReorderRequest;
 import com.projectmanager.dto.request.TaskRequest;
+import com.projectmanager.dto.request.TaskStatusTransitionRequest;
+import com.projectmanager.dto.response.CursorPageResponse;
+import com.projectmanager.dto.response.PageResponse;
+import com.projectmanager.dto.response.PurgeJobResponse;
+import com.projectmanager.dto.response.TaskBoardStatsResponse;
+import com.projectmanager.dto.response.TaskChangeResponse;
+import com.projectmanager.dto.response.TaskDependencyResponse;
+import com.projectmanager.dto.response.TaskImportJobResponse;
 import com.projectmanager.dto.response.TaskResponse;
+import com.projectmanager.dto.response.TaskStateResponse;
+import com.projectmanager.dto.response.TaskStatusTransitionResponse;
+import com.projectmanager.dto.response.TaskSummaryResponse;
 import com.projectmanager.entity.Task;
 import com.projectmanager.entity.User;
 import com.projectmanager.mapper.TaskMapper;
+import com.projectmanager.model.task.TaskExportFormat;
+import com.projectmanager.model.task.TaskImportFormat;
 import com.projectmanager.model.task.TaskStatus;
 import com.projectmanager.service.project.ProjectService;
+import com.projectmanager.service.purge.DeletionPurgeService;
 import com.projectmanager.service.user.CurrentUserProvisioningService;
+import com.projectmanager.service.task.TaskDependencyService;
+import com.projectmanager.service.task.TaskExportService;
+import com.projectmanager.service.task.TaskHistoryService;
+import com.projectmanager.service.task.TaskImportService;
 import com.projectmanager.service.task.TaskService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/tasks")
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskDependencyService taskDependencyService;
+    private final TaskExportService taskExportService;
+    private final TaskImportService taskImportService;
+    private final TaskHistoryService taskHistoryService;
+    private final DeletionPurgeService deletionPurgeService;
 
     private final ProjectService projectService;
     private final TaskMapper taskMapper;
     private final CurrentUserProvisioningService currentUserProvisioningService;
 
     @Autowired
-    public TaskController(TaskService taskService, ProjectService projectService, TaskMapper taskMapper, CurrentUserProvisioningService currentUserProvisioningService) {
+    public TaskController(TaskService taskService, TaskDependencyService taskDependencyService, TaskExportService taskExportService, TaskImportService taskImportService, TaskHistoryService taskHistoryService, DeletionPurgeService deletionPurgeService, ProjectService projectService, TaskMapper taskMapper, CurrentUserProvisioningService currentUserProvisioningService) {
         this.taskService = taskService;
+        this.taskDependencyService = taskDependencyService;
+        this.taskExportService = taskExportService;
+        this.taskImportService = taskImportService;
+        this.taskHistoryService = taskHistoryService;
+        this.deletionPurgeService = deletionPurgeService;
         this.projectService = projectService;
         this.taskMapper = taskMapper;
         this.currentUserProvisioningService = currentUserProvisioningService;
@@ -44,46 +93,242 @@ public class TaskController {
         return ResponseEntity.ok(tasks);
     }
 
+    @PreAuthorize("hasPermission(#id, 'task', 'read')")
     @GetMapping("/id/{id}")
-    public ResponseEntity<TaskResponse> getTaskById(@PathVariable UUID id) {
+    public ResponseEntity<TaskResponse> getTaskById(@PathVariable UUID id,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         Optional<Task> task = taskService.getTask(id);
         if(task.isEmpty()){
             return ResponseEntity.notFound().build();
         }
 
+        // The response embeds comments and attachments, which bump the project's change version but not the
+        // task's. It is read before those lazy collections load, so the tag can be older than the body but never newer.
+        String etag = ETags.of(task.get().getVersion(), projectService.getChangeVersion(task.get().getProject().getId()));
+        if (ETags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
         TaskResponse taskResponse = taskMapper.toResponse(task.get());
-        return ResponseEntity.ok(taskResponse);
+        return ResponseEntity.ok().eTag(etag).body(taskResponse);
     }
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<List<TaskResponse>> getTaskByStatus(@PathVariable TaskStatus status) {
-        List<TaskResponse> tasks = taskService.getTasksByStatus(status);
+    public ResponseEntity<List<TaskResponse>> getTaskByStatus(@PathVariable TaskStatus status, Principal principal) {
+        List<TaskResponse> tasks = taskService.getTasksByStatus(status, principal.getName());
         return ResponseEntity.ok(tasks);
     }
 
+    @PreAuthorize("hasPermission(#filter.projectId, 'project', 'read')")
+    @GetMapping("/filter")
+    public ResponseEntity<PageResponse<TaskResponse>> filterTasks(@ModelAttribute TaskFilterRequest filter,
+                                                                  @PageableDefault(size = 50, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+                                                                  Principal principal) {
+        return ResponseEntity.ok(taskService.filterTasks(filter, pageable, principal.getName()));
+    }
+
+    @PreAuthorize("hasPermission(#request.projectId, 'project', 'write')")
     @PostMapping
     public ResponseEntity<TaskResponse> createTask(@RequestBody TaskRequest request, Principal principal) {
         String creator = principal.getName();
         return new ResponseEntity<>((taskService.addTask(request, creator)), HttpStatus.CREATED);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskResponse>> createTasks(@RequestBody List<TaskRequest> requests, Principal principal) {
+        return new ResponseEntity<>(taskService.addTasks(requests, principal.getName()), HttpStatus.CREATED);
+    }
+
+    @PutMapping("/batch")
+    public ResponseEntity<List<TaskResponse>> updateTasks(@RequestBody List<TaskBatchUpdateRequest> requests, Principal principal) {
+        return ResponseEntity.ok(taskService.updateTasks(requests, principal.getName()));
+    }
+
+    @PostMapping("/batch/status")
+    public ResponseEntity<TaskStatusTransitionResponse> transitionStatus(@RequestBody TaskStatusTransitionRequest request, Principal principal) {
+        return ResponseEntity.ok(taskService.transitionStatus(request, principal.getName()));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'task', 'write') and hasPermission(#request.projectId, 'project', 'write')")
     @PutMapping("/{id}")
-    public ResponseEntity<TaskResponse> updateTask(@PathVariable UUID id, @RequestBody TaskRequest request) {
-        TaskResponse updatedTask = taskService.updateTask(id, request);
-        return ResponseEntity.ok(updatedTask);
+    public ResponseEntity<TaskResponse> updateTask(@PathVariable UUID id, @RequestBody TaskRequest request,
+                                                   @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse updatedTask = taskService.updateTask(id, request, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(updatedTask.getVersion())).body(updatedTask);
+    }
+
+    @PreAuthorize("hasPermission(#id, 'task', 'write')")
+    @PutMapping("/{id}/rank")
+    public ResponseEntity<TaskResponse> reorderTask(@PathVariable UUID id, @RequestBody TaskReorderRequest request,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        TaskResponse movedTask = taskService.reorderTask(id, request, ETags.expectedVersion(ifMatch));
+        return ResponseEntity.ok().eTag(ETags.of(movedTask.getVersion())).body(movedTask);
+    }
+
+    @PreAuthorize("hasPermission(#id, 'task', 'write')")
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", "application/json"})
+    public ResponseEntity<TaskResponse> patchTask(@PathVariable UUID id, @RequestBody JsonNode patch,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  Principal principal) {
+        TaskResponse patchedTask = taskService.patchTask(id, patch, ETags.expectedVersion(ifMatch), principal.getName());
+        return ResponseEntity.ok().eTag(ETags.of(patchedTask.getVersion())).body(patchedTask);
     }
 
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
     @GetMapping("/projects/{id}")
-    public ResponseEntity<List<TaskResponse>> getTasksByProject(@PathVariable UUID id) {
+    public ResponseEntity<?> getTasksByProject(@PathVariable UUID id,
+                                               @RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer size,
+                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        long version = projectService.getChangeVersion(id);
+        if (cursor == null && size == null) {
+            return ETags.conditional(version, ifNoneMatch, () -> taskService.getTasksByProjectId(id));
+        }
 
-        List<TaskResponse> tasks = taskService.getTasksByProjectId(id);
-        return ResponseEntity.ok(tasks);
+        return ETags.conditional(version, ifNoneMatch, () -> taskService.getTasksByProjectId(id, cursor, size));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
+    @GetMapping("/projects/{id}/board")
+    public ResponseEntity<List<TaskResponse>> getBoard(@PathVariable UUID id,
+                                                       @RequestParam(required = false) TaskStatus status,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ETags.conditional(projectService.getChangeVersion(id), ifNoneMatch, () -> taskService.getBoard(id, status));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
+    @GetMapping("/projects/{id}/stats")
+    public ResponseEntity<TaskBoardStatsResponse> getProjectTaskStats(@PathVariable UUID id,
+                                                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ETags.conditional(projectService.getChangeVersion(id), ifNoneMatch, () -> taskService.getProjectTaskStats(id));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
+    @GetMapping("/projects/{id}/export")
+    public ResponseEntity<StreamingResponseBody> exportTasksByProject(@PathVariable UUID id,
+                                                                      @RequestParam(defaultValue = "ndjson") String format,
+                                                                      @RequestParam(defaultValue = "false") boolean gzip) {
+        TaskExportFormat exportFormat;
+        try {
+            exportFormat = TaskExportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+        if (projectService.findProjectById(id).isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        String extension = exportFormat == TaskExportFormat.CSV ? "csv" : "ndjson";
+        MediaType mediaType = exportFormat == TaskExportFormat.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : new MediaType("application", "x-ndjson", StandardCharsets.UTF_8);
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                taskExportService.exportProjectTasks(id, exportFormat, compressed);
+                compressed.finish();
+            } else {
+                taskExportService.exportProjectTasks(id, exportFormat, out);
+            }
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("project-" + id + "-tasks." + extension)
+                        .build().toString());
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'write')")
+    @PostMapping("/projects/{id}/import")
+    public ResponseEntity<TaskImportJobResponse> importTasks(@PathVariable UUID id,
+                                                             @RequestParam(defaultValue = "ndjson") String format,
+                                                             InputStream body, Principal principal) throws IOException {
+        TaskImportFormat importFormat;
+        try {
+            importFormat = TaskImportFormat.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported import format: " + format);
+        }
+        TaskImportJobResponse job = taskImportService.startImport(id, importFormat, body, principal.getName());
+        return ResponseEntity.accepted().location(URI.create("/api/v1/tasks/imports/" + job.getId())).body(job);
+    }
+
+    @GetMapping("/imports/{jobId}")
+    public ResponseEntity<TaskImportJobResponse> getImport(@PathVariable UUID jobId, Principal principal) {
+        return ResponseEntity.ok(taskImportService.getImport(jobId, principal.getName()));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
+    @GetMapping("/projects/{id}/dependencies")
+    public ResponseEntity<List<TaskDependencyResponse>> getDependenciesByProject(@PathVariable UUID id) {
+        return ResponseEntity.ok(taskDependencyService.getDependenciesByProjectId(id));
+    }
+
+    @PreAuthorize("hasPermission(#request.predecessorTaskId, 'task', 'write') and hasPermission(#request.successorTaskId, 'task', 'write')")
+    @PostMapping("/dependencies")
+    public ResponseEntity<TaskDependencyResponse> addDependency(@RequestBody TaskDependencyRequest request) {
+        return new ResponseEntity<>(taskDependencyService.addDependency(request), HttpStatus.CREATED);
+    }
+
+    @PreAuthorize("hasPermission(#dependencyId, 'dependency', 'write')")
+    @DeleteMapping("/dependencies/{dependencyId}")
+    public ResponseEntity<HttpStatus> deleteDependency(@PathVariable UUID dependencyId) {
+        taskDependencyService.deleteDependency(dependencyId);
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
     }
 
+    @GetMapping("/summary")
+    public ResponseEntity<CursorPageResponse<TaskSummaryResponse>> getTaskSummaries(@RequestParam(required = false) String cursor,
+                                                                                    @RequestParam(required = false) Integer size,
+                                                                                    Principal principal) {
+        return ResponseEntity.ok(taskService.getTaskSummaries(null, cursor, size, principal.getName()));
+    }
+
+    @GetMapping("/summary/status/{status}")
+    public ResponseEntity<CursorPageResponse<TaskSummaryResponse>> getTaskSummariesByStatus(@PathVariable TaskStatus status,
+                                                                                            @RequestParam(required = false) String cursor,
+                                                                                            @RequestParam(required = false) Integer size,
+                                                                                            Principal principal) {
+        return ResponseEntity.ok(taskService.getTaskSummaries(status, cursor, size, principal.getName()));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'project', 'read')")
+    @GetMapping("/summary/projects/{id}")
+    public ResponseEntity<List<TaskSummaryResponse>> getTaskSummariesByProject(@PathVariable UUID id,
+                                                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return ETags.conditional(projectService.getChangeVersion(id), ifNoneMatch, () -> taskService.getTaskSummariesByProjectId(id));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'task', 'write')")
     @DeleteMapping("/{id}")
-    public ResponseEntity<TaskResponse> deleteTask(@PathVariable UUID id) {
+    public ResponseEntity<Void> deleteTask(@PathVariable UUID id) {
         taskService.deleteTask(id);
-        return ResponseEntity.noContent().build();
+        return ResponseEntity.accepted().location(URI.create("/api/v1/tasks/" + id + "/purge")).build();
+    }
+
+    @GetMapping("/{id}/purge")
+    public ResponseEntity<PurgeJobResponse> getTaskPurge(@PathVariable UUID id, Principal principal) {
+        return ResponseEntity.ok(deletionPurgeService.getPurge(id, principal.getName()));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'task', 'read')")
+    @GetMapping("/{id}/history")
+    public ResponseEntity<CursorPageResponse<TaskChangeResponse>> getTaskHistory(@PathVariable UUID id,
+                                                                                 @RequestParam(required = false) String cursor,
+                                                                                 @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(taskHistoryService.getHistory(id, cursor, size));
+    }
+
+    @PreAuthorize("hasPermission(#id, 'task', 'read')")
+    @GetMapping("/{id}/history/state")
+    public ResponseEntity<TaskStateResponse> getTaskStateAt(@PathVariable UUID id,
+                                                            @RequestParam(required = false)
+                                                            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime at) {
+        return ResponseEntity.ok(taskHistoryService.getStateAt(id, at == null ? LocalDateTime.now() : at));
     }
 
 }
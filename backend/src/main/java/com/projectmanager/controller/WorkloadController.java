@@ -0,0 +1,40 @@
+package com.projectmanager.controller;
+
+import com.projectmanager.dto.response.WorkloadHeatmapResponse;
+import com.projectmanager.service.workload.WorkloadService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/workload")
+public class WorkloadController {
+
+    private final WorkloadService workloadService;
+
+    @Autowired
+    public WorkloadController(WorkloadService workloadService) {
+        this.workloadService = workloadService;
+    }
+
+    @GetMapping
+    public ResponseEntity<WorkloadHeatmapResponse> getHeatmap(@RequestParam(required = false)
+                                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                              @RequestParam(required = false)
+                                                              @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(workloadService.getHeatmap(from, to));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Long>> rebuild() {
+        return ResponseEntity.ok(Map.of("rows", workloadService.rebuild()));
+    }
+}
@@ -0,0 +1,51 @@
+package com.projectmanager.dto.request;
+
+import java.time.LocalDateTime;
+
+public class ProjectCloneRequest {
+    private String name;
+    private LocalDateTime startDate;
+    private boolean template;
+    private Boolean includeMembers;
+    private Boolean includeDependencies;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDateTime startDate) {
+        this.startDate = startDate;
+    }
+
+    public boolean isTemplate() {
+        return template;
+    }
+
+    public void setTemplate(boolean template) {
+        this.template = template;
+    }
+
+    public Boolean getIncludeMembers() {
+        return includeMembers;
+    }
+
+    public void setIncludeMembers(Boolean includeMembers) {
+        this.includeMembers = includeMembers;
+    }
+
+    public Boolean getIncludeDependencies() {
+        return includeDependencies;
+    }
+
+    public void setIncludeDependencies(Boolean includeDependencies) {
+        this.includeDependencies = includeDependencies;
+    }
+}
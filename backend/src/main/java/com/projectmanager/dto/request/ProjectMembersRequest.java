@@ -0,0 +1,16 @@
+package com.projectmanager.dto.request;
+
+import java.util.Set;
+import java.util.UUID;
+
+public class ProjectMembersRequest {
+    private Set<UUID> userIds;
+
+    public Set<UUID> getUserIds() {
+        return userIds;
+    }
+
+    public void setUserIds(Set<UUID> userIds) {
+        this.userIds = userIds;
+    }
+}
@@ -16,6 +16,7 @@ public class ProjectRequest {
     private String icon;
     private UUID createdByUserId;
     private Set<UUID> memberIds;
+    private Boolean template;
 
     public String getName() {
         return name;
@@ -88,4 +89,12 @@ public class ProjectRequest {
     public void setMemberIds(Set<UUID> memberIds) {
         this.memberIds = memberIds;
     }
+
+    public Boolean getTemplate() {
+        return template;
+    }
+
+    public void setTemplate(Boolean template) {
+        this.template = template;
+    }
 }
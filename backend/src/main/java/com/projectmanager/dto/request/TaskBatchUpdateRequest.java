@@ -0,0 +1,18 @@
+package com.projectmanager.dto.request;
+
+import java.util.UUID;
+
+public class TaskBatchUpdateRequest extends TaskRequest {
+    private UUID id;
+
+    public TaskBatchUpdateRequest() {
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+}
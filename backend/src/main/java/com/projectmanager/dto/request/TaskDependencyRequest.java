@@ -0,0 +1,24 @@
+package com.projectmanager.dto.request;
+
+import java.util.UUID;
+
+public class TaskDependencyRequest {
+    private UUID predecessorTaskId;
+    private UUID successorTaskId;
+
+    public UUID getPredecessorTaskId() {
+        return predecessorTaskId;
+    }
+
+    public void setPredecessorTaskId(UUID predecessorTaskId) {
+        this.predecessorTaskId = predecessorTaskId;
+    }
+
+    public UUID getSuccessorTaskId() {
+        return successorTaskId;
+    }
+
+    public void setSuccessorTaskId(UUID successorTaskId) {
+        this.successorTaskId = successorTaskId;
+    }
+}
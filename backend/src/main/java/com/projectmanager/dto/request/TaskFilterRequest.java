@@ -0,0 +1,78 @@
+package com.projectmanager.dto.request;
+
+import com.projectmanager.model.task.TaskPriority;
+import com.projectmanager.model.task.TaskStatus;
+import com.projectmanager.model.task.TaskType;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class TaskFilterRequest {
+    private UUID projectId;
+    private List<TaskStatus> status;
+    private List<TaskPriority> priority;
+    private List<TaskType> type;
+    private UUID assignedToUserId;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueFrom;
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime dueTo;
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public List<TaskStatus> getStatus() {
+        return status;
+    }
+
+    public void setStatus(List<TaskStatus> status) {
+        this.status = status;
+    }
+
+    public List<TaskPriority> getPriority() {
+        return priority;
+    }
+
+    public void setPriority(List<TaskPriority> priority) {
+        this.priority = priority;
+    }
+
+    public List<TaskType> getType() {
+        return type;
+    }
+
+    public void setType(List<TaskType> type) {
+        this.type = type;
+    }
+
+    public UUID getAssignedToUserId() {
+        return assignedToUserId;
+    }
+
+    public void setAssignedToUserId(UUID assignedToUserId) {
+        this.assignedToUserId = assignedToUserId;
+    }
+
+    public LocalDateTime getDueFrom() {
+        return dueFrom;
+    }
+
+    public void setDueFrom(LocalDateTime dueFrom) {
+        this.dueFrom = dueFrom;
+    }
+
+    public LocalDateTime getDueTo() {
+        return dueTo;
+    }
+
+    public void setDueTo(LocalDateTime dueTo) {
+        this.dueTo = dueTo;
+    }
+}
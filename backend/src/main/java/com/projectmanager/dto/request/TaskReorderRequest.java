@@ -0,0 +1,42 @@
+package com.projectmanager.dto.request;
+
+import com.projectmanager.model.task.TaskStatus;
+
+import java.util.UUID;
+
+/**
+ * Moves a task to a position in a board column, given the tasks that end up directly above and below it.
+ * A missing neighbour means the top or bottom of the column; both missing appends to the column.
+ */
+public class TaskReorderRequest {
+    private UUID afterTaskId;
+    private UUID beforeTaskId;
+    private TaskStatus status;
+
+    public UUID getAfterTaskId() {
+        return afterTaskId;
+    }
+
+    public void setAfterTaskId(UUID afterTaskId) {
+        this.afterTaskId = afterTaskId;
+    }
+
+    public UUID getBeforeTaskId() {
+        return beforeTaskId;
+    }
+
+    public void setBeforeTaskId(UUID beforeTaskId) {
+        this.beforeTaskId = beforeTaskId;
+    }
+
+    /**
+     * Target column; defaults to the task's current status.
+     */
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+}
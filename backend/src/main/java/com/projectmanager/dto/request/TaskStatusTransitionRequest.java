@@ -0,0 +1,52 @@
+package com.projectmanager.dto.request;
+
+import com.projectmanager.model.task.TaskStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public class TaskStatusTransitionRequest {
+    private TaskStatus status;
+    private List<Item> tasks;
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public List<Item> getTasks() {
+        return tasks;
+    }
+
+    public void setTasks(List<Item> tasks) {
+        this.tasks = tasks;
+    }
+
+    /**
+     * A task to transition and the version the client last saw; without a version the one read at the
+     * start of the transition is enforced instead.
+     */
+    public static class Item {
+        private UUID id;
+        private Long version;
+
+        public UUID getId() {
+            return id;
+        }
+
+        public void setId(UUID id) {
+            this.id = id;
+        }
+
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+    }
+}
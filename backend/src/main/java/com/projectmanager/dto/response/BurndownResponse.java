@@ -0,0 +1,122 @@
+package com.projectmanager.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public class BurndownResponse {
+    private UUID projectId;
+    private LocalDate from;
+    private LocalDate to;
+    private List<Point> points;
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public LocalDate getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDate from) {
+        this.from = from;
+    }
+
+    public LocalDate getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDate to) {
+        this.to = to;
+    }
+
+    public List<Point> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<Point> points) {
+        this.points = points;
+    }
+
+    /**
+     * Levels at the end of {@code day}; remaining work is everything not done.
+     */
+    public static class Point {
+        private LocalDate day;
+        private int openCount;
+        private int inProgressCount;
+        private int doneCount;
+        private long openHours;
+        private long inProgressHours;
+        private long doneHours;
+        private long remainingHours;
+
+        public LocalDate getDay() {
+            return day;
+        }
+
+        public void setDay(LocalDate day) {
+            this.day = day;
+        }
+
+        public int getOpenCount() {
+            return openCount;
+        }
+
+        public void setOpenCount(int openCount) {
+            this.openCount = openCount;
+        }
+
+        public int getInProgressCount() {
+            return inProgressCount;
+        }
+
+        public void setInProgressCount(int inProgressCount) {
+            this.inProgressCount = inProgressCount;
+        }
+
+        public int getDoneCount() {
+            return doneCount;
+        }
+
+        public void setDoneCount(int doneCount) {
+            this.doneCount = doneCount;
+        }
+
+        public long getOpenHours() {
+            return openHours;
+        }
+
+        public void setOpenHours(long openHours) {
+            this.openHours = openHours;
+        }
+
+        public long getInProgressHours() {
+            return inProgressHours;
+        }
+
+        public void setInProgressHours(long inProgressHours) {
+            this.inProgressHours = inProgressHours;
+        }
+
+        public long getDoneHours() {
+            return doneHours;
+        }
+
+        public void setDoneHours(long doneHours) {
+            this.doneHours = doneHours;
+        }
+
+        public long getRemainingHours() {
+            return remainingHours;
+        }
+
+        public void setRemainingHours(long remainingHours) {
+            this.remainingHours = remainingHours;
+        }
+    }
+}
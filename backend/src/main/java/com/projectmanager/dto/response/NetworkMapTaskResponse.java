@@ -0,0 +1,199 @@
+package com.projectmanager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.projectmanager.model.task.TaskPriority;
+import com.projectmanager.model.task.TaskStatus;
+import com.projectmanager.model.task.TaskType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One node of the project network map. Keeps the field names the map has always consumed
+ * ({@code isAtRisk}, {@code isCriticalPath}, {@code aiInsightSummary}) and adds the computed schedule.
+ */
+public class NetworkMapTaskResponse {
+    private UUID id;
+    private String title;
+    private String description;
+    private TaskPriority priority;
+    private TaskType type;
+    private TaskStatus status;
+    private Integer estimatedHours;
+    private LocalDateTime dueDate;
+    private UUID projectId;
+    private UUID assignedToUserId;
+    private List<UUID> dependencies;
+    private boolean atRisk;
+    private int riskScore;
+    private boolean criticalPath;
+    private String aiInsightSummary;
+    private LocalDateTime earliestStart;
+    private LocalDateTime earliestFinish;
+    private LocalDateTime latestStart;
+    private LocalDateTime latestFinish;
+    private long slackHours;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public TaskType getType() {
+        return type;
+    }
+
+    public void setType(TaskType type) {
+        this.type = type;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public Integer getEstimatedHours() {
+        return estimatedHours;
+    }
+
+    public void setEstimatedHours(Integer estimatedHours) {
+        this.estimatedHours = estimatedHours;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public UUID getAssignedToUserId() {
+        return assignedToUserId;
+    }
+
+    public void setAssignedToUserId(UUID assignedToUserId) {
+        this.assignedToUserId = assignedToUserId;
+    }
+
+    public List<UUID> getDependencies() {
+        return dependencies;
+    }
+
+    public void setDependencies(List<UUID> dependencies) {
+        this.dependencies = dependencies;
+    }
+
+    @JsonProperty("isAtRisk")
+    public boolean isAtRisk() {
+        return atRisk;
+    }
+
+    public void setAtRisk(boolean atRisk) {
+        this.atRisk = atRisk;
+    }
+
+    public int getRiskScore() {
+        return riskScore;
+    }
+
+    public void setRiskScore(int riskScore) {
+        this.riskScore = riskScore;
+    }
+
+    @JsonProperty("isCriticalPath")
+    public boolean isCriticalPath() {
+        return criticalPath;
+    }
+
+    public void setCriticalPath(boolean criticalPath) {
+        this.criticalPath = criticalPath;
+    }
+
+    public String getAiInsightSummary() {
+        return aiInsightSummary;
+    }
+
+    public void setAiInsightSummary(String aiInsightSummary) {
+        this.aiInsightSummary = aiInsightSummary;
+    }
+
+    public LocalDateTime getEarliestStart() {
+        return earliestStart;
+    }
+
+    public void setEarliestStart(LocalDateTime earliestStart) {
+        this.earliestStart = earliestStart;
+    }
+
+    public LocalDateTime getEarliestFinish() {
+        return earliestFinish;
+    }
+
+    public void setEarliestFinish(LocalDateTime earliestFinish) {
+        this.earliestFinish = earliestFinish;
+    }
+
+    public LocalDateTime getLatestStart() {
+        return latestStart;
+    }
+
+    public void setLatestStart(LocalDateTime latestStart) {
+        this.latestStart = latestStart;
+    }
+
+    public LocalDateTime getLatestFinish() {
+        return latestFinish;
+    }
+
+    public void setLatestFinish(LocalDateTime latestFinish) {
+        this.latestFinish = latestFinish;
+    }
+
+    public long getSlackHours() {
+        return slackHours;
+    }
+
+    public void setSlackHours(long slackHours) {
+        this.slackHours = slackHours;
+    }
+}
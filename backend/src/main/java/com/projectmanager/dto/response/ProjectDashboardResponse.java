@@ -0,0 +1,146 @@
+package com.projectmanager.dto.response;
+
+import com.projectmanager.model.project.ProjectStatus;
+import com.projectmanager.model.task.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+public class ProjectDashboardResponse {
+    private UUID id;
+    private String name;
+    private String description;
+    private ProjectStatus status;
+    private String color;
+    private String icon;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private UUID createdByUserId;
+    private LocalDateTime createdAt;
+    private long memberCount;
+    private long taskCount;
+    private Map<TaskStatus, Long> tasksByStatus;
+    private long overdueCount;
+    private LocalDateTime lastActivityAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public ProjectStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(ProjectStatus status) {
+        this.status = status;
+    }
+
+    public String getColor() {
+        return color;
+    }
+
+    public void setColor(String color) {
+        this.color = color;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public void setIcon(String icon) {
+        this.icon = icon;
+    }
+
+    public LocalDateTime getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDateTime startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDateTime getEndDate() {
+        return endDate;
+    }
+
+    public void setEndDate(LocalDateTime endDate) {
+        this.endDate = endDate;
+    }
+
+    public UUID getCreatedByUserId() {
+        return createdByUserId;
+    }
+
+    public void setCreatedByUserId(UUID createdByUserId) {
+        this.createdByUserId = createdByUserId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public long getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(long memberCount) {
+        this.memberCount = memberCount;
+    }
+
+    public long getTaskCount() {
+        return taskCount;
+    }
+
+    public void setTaskCount(long taskCount) {
+        this.taskCount = taskCount;
+    }
+
+    public Map<TaskStatus, Long> getTasksByStatus() {
+        return tasksByStatus;
+    }
+
+    public void setTasksByStatus(Map<TaskStatus, Long> tasksByStatus) {
+        this.tasksByStatus = tasksByStatus;
+    }
+
+    public long getOverdueCount() {
+        return overdueCount;
+    }
+
+    public void setOverdueCount(long overdueCount) {
+        this.overdueCount = overdueCount;
+    }
+
+    public LocalDateTime getLastActivityAt() {
+        return lastActivityAt;
+    }
+
+    public void setLastActivityAt(LocalDateTime lastActivityAt) {
+        this.lastActivityAt = lastActivityAt;
+    }
+}
@@ -0,0 +1,43 @@
+package com.projectmanager.dto.response;
+
+import java.util.Set;
+import java.util.UUID;
+
+public class ProjectMembershipResponse {
+    private UUID projectId;
+    private Set<UUID> addedUserIds;
+    private Set<UUID> removedUserIds;
+    private long memberCount;
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public Set<UUID> getAddedUserIds() {
+        return addedUserIds;
+    }
+
+    public void setAddedUserIds(Set<UUID> addedUserIds) {
+        this.addedUserIds = addedUserIds;
+    }
+
+    public Set<UUID> getRemovedUserIds() {
+        return removedUserIds;
+    }
+
+    public void setRemovedUserIds(Set<UUID> removedUserIds) {
+        this.removedUserIds = removedUserIds;
+    }
+
+    public long getMemberCount() {
+        return memberCount;
+    }
+
+    public void setMemberCount(long memberCount) {
+        this.memberCount = memberCount;
+    }
+}
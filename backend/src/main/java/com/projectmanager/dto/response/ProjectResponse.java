@@ -16,6 +16,7 @@ public class ProjectResponse {
     private String icon;
     private UUID createdByUserId;
     private Set<UUID> memberIds;
+    private boolean template;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -114,4 +115,12 @@ public class ProjectResponse {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
\ No newline at end of file
+
+    public boolean isTemplate() {
+        return template;
+    }
+
+    public void setTemplate(boolean template) {
+        this.template = template;
+    }
+}
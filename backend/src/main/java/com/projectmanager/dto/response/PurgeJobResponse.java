@@ -0,0 +1,118 @@
+package com.projectmanager.dto.response;
+
+import com.projectmanager.model.purge.PurgeStatus;
+import com.projectmanager.model.purge.PurgeTarget;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class PurgeJobResponse {
+    private UUID targetId;
+    private PurgeTarget target;
+    private PurgeStatus status;
+    private long tasksPurged;
+    private long commentsPurged;
+    private long attachmentsPurged;
+    private long activitiesPurged;
+    private long objectsDeleted;
+    private long objectDeleteFailures;
+    private String failureMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public UUID getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(UUID targetId) {
+        this.targetId = targetId;
+    }
+
+    public PurgeTarget getTarget() {
+        return target;
+    }
+
+    public void setTarget(PurgeTarget target) {
+        this.target = target;
+    }
+
+    public PurgeStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(PurgeStatus status) {
+        this.status = status;
+    }
+
+    public long getTasksPurged() {
+        return tasksPurged;
+    }
+
+    public void setTasksPurged(long tasksPurged) {
+        this.tasksPurged = tasksPurged;
+    }
+
+    public long getCommentsPurged() {
+        return commentsPurged;
+    }
+
+    public void setCommentsPurged(long commentsPurged) {
+        this.commentsPurged = commentsPurged;
+    }
+
+    public long getAttachmentsPurged() {
+        return attachmentsPurged;
+    }
+
+    public void setAttachmentsPurged(long attachmentsPurged) {
+        this.attachmentsPurged = attachmentsPurged;
+    }
+
+    public long getActivitiesPurged() {
+        return activitiesPurged;
+    }
+
+    public void setActivitiesPurged(long activitiesPurged) {
+        this.activitiesPurged = activitiesPurged;
+    }
+
+    public long getObjectsDeleted() {
+        return objectsDeleted;
+    }
+
+    public void setObjectsDeleted(long objectsDeleted) {
+        this.objectsDeleted = objectsDeleted;
+    }
+
+    public long getObjectDeleteFailures() {
+        return objectDeleteFailures;
+    }
+
+    public void setObjectDeleteFailures(long objectDeleteFailures) {
+        this.objectDeleteFailures = objectDeleteFailures;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public void setFailureMessage(String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -0,0 +1,34 @@
+package com.projectmanager.dto.response;
+
+import java.util.List;
+import java.util.UUID;
+
+public class ScheduleDeltaResponse {
+    private UUID projectId;
+    private long projectDurationHours;
+    private List<NetworkMapTaskResponse> changedTasks;
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public long getProjectDurationHours() {
+        return projectDurationHours;
+    }
+
+    public void setProjectDurationHours(long projectDurationHours) {
+        this.projectDurationHours = projectDurationHours;
+    }
+
+    public List<NetworkMapTaskResponse> getChangedTasks() {
+        return changedTasks;
+    }
+
+    public void setChangedTasks(List<NetworkMapTaskResponse> changedTasks) {
+        this.changedTasks = changedTasks;
+    }
+}
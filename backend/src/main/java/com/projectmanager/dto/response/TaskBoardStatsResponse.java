@@ -0,0 +1,64 @@
+package com.projectmanager.dto.response;
+
+import com.projectmanager.model.task.TaskPriority;
+import com.projectmanager.model.task.TaskStatus;
+
+import java.util.Map;
+import java.util.UUID;
+
+public class TaskBoardStatsResponse {
+    private UUID projectId;
+    private long totalTasks;
+    private Map<TaskStatus, Long> countsByStatus;
+    private Map<TaskPriority, Long> countsByPriority;
+    private long overdueCount;
+    private long totalEstimatedHours;
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public long getTotalTasks() {
+        return totalTasks;
+    }
+
+    public void setTotalTasks(long totalTasks) {
+        this.totalTasks = totalTasks;
+    }
+
+    public Map<TaskStatus, Long> getCountsByStatus() {
+        return countsByStatus;
+    }
+
+    public void setCountsByStatus(Map<TaskStatus, Long> countsByStatus) {
+        this.countsByStatus = countsByStatus;
+    }
+
+    public Map<TaskPriority, Long> getCountsByPriority() {
+        return countsByPriority;
+    }
+
+    public void setCountsByPriority(Map<TaskPriority, Long> countsByPriority) {
+        this.countsByPriority = countsByPriority;
+    }
+
+    public long getOverdueCount() {
+        return overdueCount;
+    }
+
+    public void setOverdueCount(long overdueCount) {
+        this.overdueCount = overdueCount;
+    }
+
+    public long getTotalEstimatedHours() {
+        return totalEstimatedHours;
+    }
+
+    public void setTotalEstimatedHours(long totalEstimatedHours) {
+        this.totalEstimatedHours = totalEstimatedHours;
+    }
+}
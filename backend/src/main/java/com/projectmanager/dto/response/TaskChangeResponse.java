@@ -0,0 +1,82 @@
+package com.projectmanager.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+public class TaskChangeResponse {
+    private long version;
+    private LocalDateTime changedAt;
+    private UUID actorUserId;
+    private String actorUsername;
+    private Map<String, FieldChange> changes;
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getChangedAt() {
+        return changedAt;
+    }
+
+    public void setChangedAt(LocalDateTime changedAt) {
+        this.changedAt = changedAt;
+    }
+
+    public UUID getActorUserId() {
+        return actorUserId;
+    }
+
+    public void setActorUserId(UUID actorUserId) {
+        this.actorUserId = actorUserId;
+    }
+
+    public String getActorUsername() {
+        return actorUsername;
+    }
+
+    public void setActorUsername(String actorUsername) {
+        this.actorUsername = actorUsername;
+    }
+
+    public Map<String, FieldChange> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(Map<String, FieldChange> changes) {
+        this.changes = changes;
+    }
+
+    public static class FieldChange {
+        private Object oldValue;
+        private Object newValue;
+
+        public FieldChange() {
+        }
+
+        public FieldChange(Object oldValue, Object newValue) {
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+
+        public Object getOldValue() {
+            return oldValue;
+        }
+
+        public void setOldValue(Object oldValue) {
+            this.oldValue = oldValue;
+        }
+
+        public Object getNewValue() {
+            return newValue;
+        }
+
+        public void setNewValue(Object newValue) {
+            this.newValue = newValue;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.projectmanager.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public class TaskDependencyResponse {
+    private UUID id;
+    private UUID projectId;
+    private UUID predecessorTaskId;
+    private UUID successorTaskId;
+    private LocalDateTime createdAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public UUID getPredecessorTaskId() {
+        return predecessorTaskId;
+    }
+
+    public void setPredecessorTaskId(UUID predecessorTaskId) {
+        this.predecessorTaskId = predecessorTaskId;
+    }
+
+    public UUID getSuccessorTaskId() {
+        return successorTaskId;
+    }
+
+    public void setSuccessorTaskId(UUID successorTaskId) {
+        this.successorTaskId = successorTaskId;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
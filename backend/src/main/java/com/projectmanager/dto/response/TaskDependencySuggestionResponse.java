@@ -0,0 +1,33 @@
+package com.projectmanager.dto.response;
+
+import java.util.UUID;
+
+public class TaskDependencySuggestionResponse {
+    private UUID predecessorTaskId;
+    private UUID successorTaskId;
+    private String reason;
+
+    public UUID getPredecessorTaskId() {
+        return predecessorTaskId;
+    }
+
+    public void setPredecessorTaskId(UUID predecessorTaskId) {
+        this.predecessorTaskId = predecessorTaskId;
+    }
+
+    public UUID getSuccessorTaskId() {
+        return successorTaskId;
+    }
+
+    public void setSuccessorTaskId(UUID successorTaskId) {
+        this.successorTaskId = successorTaskId;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+}
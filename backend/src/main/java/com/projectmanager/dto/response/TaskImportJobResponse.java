@@ -0,0 +1,128 @@
+package com.projectmanager.dto.response;
+
+import com.projectmanager.model.task.TaskImportFormat;
+import com.projectmanager.model.task.TaskImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public class TaskImportJobResponse {
+    private UUID id;
+    private UUID projectId;
+    private TaskImportFormat format;
+    private TaskImportStatus status;
+    private long rowsRead;
+    private long rowsStaged;
+    private long tasksImported;
+    private long commentsImported;
+    private long errorCount;
+    private List<TaskImportErrorResponse> errors;
+    private String failureMessage;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public TaskImportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(TaskImportFormat format) {
+        this.format = format;
+    }
+
+    public TaskImportStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskImportStatus status) {
+        this.status = status;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public void setRowsRead(long rowsRead) {
+        this.rowsRead = rowsRead;
+    }
+
+    public long getRowsStaged() {
+        return rowsStaged;
+    }
+
+    public void setRowsStaged(long rowsStaged) {
+        this.rowsStaged = rowsStaged;
+    }
+
+    public long getTasksImported() {
+        return tasksImported;
+    }
+
+    public void setTasksImported(long tasksImported) {
+        this.tasksImported = tasksImported;
+    }
+
+    public long getCommentsImported() {
+        return commentsImported;
+    }
+
+    public void setCommentsImported(long commentsImported) {
+        this.commentsImported = commentsImported;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    public void setErrorCount(long errorCount) {
+        this.errorCount = errorCount;
+    }
+
+    public List<TaskImportErrorResponse> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(List<TaskImportErrorResponse> errors) {
+        this.errors = errors;
+    }
+
+    public String getFailureMessage() {
+        return failureMessage;
+    }
+
+    public void setFailureMessage(String failureMessage) {
+        this.failureMessage = failureMessage;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+}
@@ -19,11 +19,14 @@ public class TaskResponse {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private LocalDateTime dueDate;
+    private String rank;
     private UUID projectId;
     private UUID assignedToUserId;
     private UUID createdByUserId;
     private Set<CommentResponse> comments;
     private Set<AttachmentResponse> attachments;
+    private Long commentCount;
+    private Long version;
 
     public UUID getId() {
         return id;
@@ -105,6 +108,14 @@ public class TaskResponse {
         this.dueDate = dueDate;
     }
 
+    public String getRank() {
+        return rank;
+    }
+
+    public void setRank(String rank) {
+        this.rank = rank;
+    }
+
     public UUID getProjectId() {
         return projectId;
     }
@@ -144,4 +155,20 @@ public class TaskResponse {
     public void setAttachments(Set<AttachmentResponse> attachments) {
         this.attachments = attachments;
     }
+
+    public Long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(Long commentCount) {
+        this.commentCount = commentCount;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
@@ -0,0 +1,81 @@
+package com.projectmanager.dto.response;
+
+import com.projectmanager.model.task.TaskStatus;
+
+import java.util.UUID;
+
+public class TaskSearchResultResponse {
+    private UUID taskId;
+    private UUID projectId;
+    private String projectName;
+    private String title;
+    private TaskStatus status;
+    private double rank;
+    // titleHighlight and snippet are HTML: escaped task text with the matched terms wrapped in <mark>.
+    private String titleHighlight;
+    private String snippet;
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(UUID taskId) {
+        this.taskId = taskId;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public void setProjectName(String projectName) {
+        this.projectName = projectName;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public double getRank() {
+        return rank;
+    }
+
+    public void setRank(double rank) {
+        this.rank = rank;
+    }
+
+    public String getTitleHighlight() {
+        return titleHighlight;
+    }
+
+    public void setTitleHighlight(String titleHighlight) {
+        this.titleHighlight = titleHighlight;
+    }
+
+    public String getSnippet() {
+        return snippet;
+    }
+
+    public void setSnippet(String snippet) {
+        this.snippet = snippet;
+    }
+}
@@ -0,0 +1,44 @@
+package com.projectmanager.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+public class TaskStateResponse {
+    private UUID taskId;
+    private LocalDateTime asOf;
+    private long version;
+    private Map<String, Object> state;
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(UUID taskId) {
+        this.taskId = taskId;
+    }
+
+    public LocalDateTime getAsOf() {
+        return asOf;
+    }
+
+    public void setAsOf(LocalDateTime asOf) {
+        this.asOf = asOf;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
+    public Map<String, Object> getState() {
+        return state;
+    }
+
+    public void setState(Map<String, Object> state) {
+        this.state = state;
+    }
+}
@@ -0,0 +1,46 @@
+package com.projectmanager.dto.response;
+
+import com.projectmanager.model.task.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+public class TaskStatusTransitionResponse {
+    private TaskStatus status;
+    private LocalDateTime updatedAt;
+    private int updatedCount;
+    private Map<UUID, Long> versions;
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+
+    public void setUpdatedCount(int updatedCount) {
+        this.updatedCount = updatedCount;
+    }
+
+    public Map<UUID, Long> getVersions() {
+        return versions;
+    }
+
+    public void setVersions(Map<UUID, Long> versions) {
+        this.versions = versions;
+    }
+}
@@ -0,0 +1,120 @@
+package com.projectmanager.dto.response;
+
+import com.projectmanager.model.task.TaskPriority;
+import com.projectmanager.model.task.TaskStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only list view of a task, built directly from a JPQL constructor projection.
+ */
+public class TaskSummaryResponse {
+    private UUID id;
+    private String title;
+    private TaskStatus status;
+    private TaskPriority priority;
+    private LocalDateTime dueDate;
+    private LocalDateTime createdAt;
+    private UUID projectId;
+    private UUID assignedToUserId;
+    private String assignedToUsername;
+    private long commentCount;
+
+    public TaskSummaryResponse() {
+    }
+
+    public TaskSummaryResponse(UUID id, String title, TaskStatus status, TaskPriority priority, LocalDateTime dueDate,
+                               LocalDateTime createdAt, UUID projectId, UUID assignedToUserId, String assignedToUsername, Long commentCount) {
+        this.id = id;
+        this.title = title;
+        this.status = status;
+        this.priority = priority;
+        this.dueDate = dueDate;
+        this.createdAt = createdAt;
+        this.projectId = projectId;
+        this.assignedToUserId = assignedToUserId;
+        this.assignedToUsername = assignedToUsername;
+        this.commentCount = commentCount == null ? 0 : commentCount;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TaskStatus status) {
+        this.status = status;
+    }
+
+    public TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public LocalDateTime getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDateTime dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public UUID getAssignedToUserId() {
+        return assignedToUserId;
+    }
+
+    public void setAssignedToUserId(UUID assignedToUserId) {
+        this.assignedToUserId = assignedToUserId;
+    }
+
+    public String getAssignedToUsername() {
+        return assignedToUsername;
+    }
+
+    public void setAssignedToUsername(String assignedToUsername) {
+        this.assignedToUsername = assignedToUsername;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+
+    public void setCommentCount(long commentCount) {
+        this.commentCount = commentCount;
+    }
+}
@@ -0,0 +1,85 @@
+package com.projectmanager.dto.response;
+
+import com.projectmanager.model.project.MetricsPeriod;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public class VelocityResponse {
+    private UUID projectId;
+    private MetricsPeriod period;
+    private List<Point> points;
+    private double averageCount;
+    private double averageHours;
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(UUID projectId) {
+        this.projectId = projectId;
+    }
+
+    public MetricsPeriod getPeriod() {
+        return period;
+    }
+
+    public void setPeriod(MetricsPeriod period) {
+        this.period = period;
+    }
+
+    public List<Point> getPoints() {
+        return points;
+    }
+
+    public void setPoints(List<Point> points) {
+        this.points = points;
+    }
+
+    public double getAverageCount() {
+        return averageCount;
+    }
+
+    public void setAverageCount(double averageCount) {
+        this.averageCount = averageCount;
+    }
+
+    public double getAverageHours() {
+        return averageHours;
+    }
+
+    public void setAverageHours(double averageHours) {
+        this.averageHours = averageHours;
+    }
+
+    public static class Point {
+        private LocalDate periodStart;
+        private int completedCount;
+        private long completedHours;
+
+        public LocalDate getPeriodStart() {
+            return periodStart;
+        }
+
+        public void setPeriodStart(LocalDate periodStart) {
+            this.periodStart = periodStart;
+        }
+
+        public int getCompletedCount() {
+            return completedCount;
+        }
+
+        public void setCompletedCount(int completedCount) {
+            this.completedCount = completedCount;
+        }
+
+        public long getCompletedHours() {
+            return completedHours;
+        }
+
+        public void setCompletedHours(long completedHours) {
+            this.completedHours = completedHours;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.projectmanager.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public class WorkloadHeatmapResponse {
+    private List<LocalDate> weeks;
+    private List<Member> members;
+
+    public List<LocalDate> getWeeks() {
+        return weeks;
+    }
+
+    public void setWeeks(List<LocalDate> weeks) {
+        this.weeks = weeks;
+    }
+
+    public List<Member> getMembers() {
+        return members;
+    }
+
+    public void setMembers(List<Member> members) {
+        this.members = members;
+    }
+
+    /**
+     * One heatmap row; {@code cells} lists only the weeks in which the user has work.
+     */
+    public static class Member {
+        private UUID userId;
+        private String username;
+        private long totalHours;
+        private List<Cell> cells;
+
+        public UUID getUserId() {
+            return userId;
+        }
+
+        public void setUserId(UUID userId) {
+            this.userId = userId;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public long getTotalHours() {
+            return totalHours;
+        }
+
+        public void setTotalHours(long totalHours) {
+            this.totalHours = totalHours;
+        }
+
+        public List<Cell> getCells() {
+            return cells;
+        }
+
+        public void setCells(List<Cell> cells) {
+            this.cells = cells;
+        }
+    }
+
+    public static class Cell {
+        private LocalDate weekStart;
+        private int taskCount;
+        private long estimatedHours;
+        private int openTaskCount;
+        private long openHours;
+
+        public LocalDate getWeekStart() {
+            return weekStart;
+        }
+
+        public void setWeekStart(LocalDate weekStart) {
+            this.weekStart = weekStart;
+        }
+
+        public int getTaskCount() {
+            return taskCount;
+        }
+
+        public void setTaskCount(int taskCount) {
+            this.taskCount = taskCount;
+        }
+
+        public long getEstimatedHours() {
+            return estimatedHours;
+        }
+
+        public void setEstimatedHours(long estimatedHours) {
+            this.estimatedHours = estimatedHours;
+        }
+
+        public int getOpenTaskCount() {
+            return openTaskCount;
+        }
+
+        public void setOpenTaskCount(int openTaskCount) {
+            this.openTaskCount = openTaskCount;
+        }
+
+        public long getOpenHours() {
+            return openHours;
+        }
+
+        public void setOpenHours(long openHours) {
+            this.openHours = openHours;
+        }
+    }
+}
@@ -9,7 +9,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "activities")
+@Table(name = "activities", indexes = {
+        @Index(name = "idx_activities_task_id", columnList = "task_id"),
+        @Index(name = "idx_activities_project_created_at", columnList = "project_id, created_at")
+})
 @Data
 public class Activity {
     @Id
@@ -32,8 +35,17 @@ public class Activity {
     @JoinColumn(name = "project_id")
     private Project project;
 
+    // Partition key of activities; see V13__activity_partitions.sql.
+    @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
     public UUID getId() {
         return id;
     }
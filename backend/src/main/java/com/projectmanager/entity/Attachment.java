@@ -7,7 +7,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "attachments")
+@Table(name = "attachments", indexes = {
+        @Index(name = "idx_attachments_task_id", columnList = "task_id"),
+        @Index(name = "idx_attachments_comment_id", columnList = "comment_id")
+})
 @Data
 public class Attachment {
     @Id
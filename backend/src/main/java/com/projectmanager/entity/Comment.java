@@ -19,7 +19,7 @@ import java.util.UUID;
 @Getter
 @Setter
 @Entity
-@Table(name = "comments")
+@Table(name = "comments", indexes = @Index(name = "idx_comments_task_id", columnList = "task_id"))
 @Data
 public class Comment {
     @Id
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.fasterxml.jackson.annotation.ObjectIdGenerators;
 import com.projectmanager.model.project.ProjectStatus;
 import jakarta.persistence.*;
+import org.hibernate.annotations.SQLRestriction;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
@@ -19,6 +20,8 @@ import java.util.UUID;
 @JsonIdentityInfo(generator = ObjectIdGenerators.PropertyGenerator.class, property = "id")
 @Entity
 @Table(name = "projects")
+// Deleted projects stay hidden until the background purge removes them.
+@SQLRestriction("deleted_at IS NULL")
 public class Project {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -47,6 +50,12 @@ public class Project {
 
     private LocalDateTime updatedAt;
 
+    @JsonIgnore
+    private LocalDateTime deletedAt;
+
+    @Column(name = "is_template", nullable = false, columnDefinition = "boolean default false")
+    private boolean template;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private Set<Task> tasks = new HashSet<>();
 
@@ -54,7 +63,8 @@ public class Project {
     @JoinTable(
             name = "project_members",
             joinColumns = @JoinColumn(name = "project_id"),
-            inverseJoinColumns = @JoinColumn(name = "user_id")
+            inverseJoinColumns = @JoinColumn(name = "user_id"),
+            indexes = @Index(name = "idx_project_members_user_id", columnList = "user_id")
     )
     private Set<User> members = new HashSet<>();
 
@@ -168,6 +178,22 @@ public class Project {
         this.updatedAt = updatedAt;
     }
 
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public boolean isTemplate() {
+        return template;
+    }
+
+    public void setTemplate(boolean template) {
+        this.template = template;
+    }
+
     public Set<Task> getTasks() {
         return tasks;
     }
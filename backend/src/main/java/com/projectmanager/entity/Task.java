@@ -7,6 +7,8 @@ import com.projectmanager.model.task.TaskStatus;
 import com.projectmanager.model.task.TaskType;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -20,6 +22,10 @@ import java.util.UUID;
 @EntityListeners(TaskActivityListener.class)
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Entity
+@DynamicUpdate
+// Deleted tasks stay hidden until the background purge removes them.
+@SQLRestriction("deleted_at IS NULL")
+// Indexes are created by the Flyway migrations under db/migration.
 @Table(name = "tasks")
 @Setter
 @Getter
@@ -63,6 +69,18 @@ public class Task {
 
     private LocalDateTime dueDate;
 
+    /**
+     * Position within the task's board column; see {@code LexoRank}.
+     */
+    @Column(name = "board_rank")
+    private String rank;
+
+    @Version
+    private Long version;
+
+    @JsonIgnore
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "task", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
     private Set<Comment> comments = new HashSet<>();
 
@@ -198,6 +216,14 @@ public class Task {
         this.dueDate = dueDate;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Set<Comment> getComments() {
         return comments;
     }
@@ -0,0 +1,106 @@
+package com.projectmanager.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * "{@code successor} cannot start before {@code predecessor} finishes". Both tasks belong to {@code project}.
+ */
+@Entity
+@Table(name = "task_dependencies",
+        uniqueConstraints = @UniqueConstraint(name = "uk_task_dependencies_edge",
+                columnNames = {"predecessor_task_id", "successor_task_id"}),
+        indexes = {
+                @Index(name = "idx_task_dependencies_project", columnList = "project_id"),
+                @Index(name = "idx_task_dependencies_successor", columnList = "successor_task_id")
+        })
+public class TaskDependency {
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "predecessor_task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task predecessor;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "successor_task_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Task successor;
+
+    private LocalDateTime createdAt;
+
+    public TaskDependency() {
+    }
+
+    public TaskDependency(Project project, Task predecessor, Task successor, LocalDateTime createdAt) {
+        this.project = project;
+        this.predecessor = predecessor;
+        this.successor = successor;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        TaskDependency that = (TaskDependency) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public Task getPredecessor() {
+        return predecessor;
+    }
+
+    public void setPredecessor(Task predecessor) {
+        this.predecessor = predecessor;
+    }
+
+    public Task getSuccessor() {
+        return successor;
+    }
+
+    public void setSuccessor(Task successor) {
+        this.successor = successor;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
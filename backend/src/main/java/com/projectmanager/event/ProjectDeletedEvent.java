@@ -0,0 +1,18 @@
+package com.projectmanager.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+public class ProjectDeletedEvent extends ApplicationEvent {
+    private final UUID projectId;
+
+    public ProjectDeletedEvent(Object source, UUID projectId) {
+        super(source);
+        this.projectId = projectId;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+}
@@ -0,0 +1,34 @@
+package com.projectmanager.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Users whose access to a project changed: members added or removed, and the creator of a new project.
+ */
+public class ProjectMembershipChangedEvent extends ApplicationEvent {
+    private final UUID projectId;
+    private final Set<UUID> addedUserIds;
+    private final Set<UUID> removedUserIds;
+
+    public ProjectMembershipChangedEvent(Object source, UUID projectId, Set<UUID> addedUserIds, Set<UUID> removedUserIds) {
+        super(source);
+        this.projectId = projectId;
+        this.addedUserIds = addedUserIds;
+        this.removedUserIds = removedUserIds;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public Set<UUID> getAddedUserIds() {
+        return addedUserIds;
+    }
+
+    public Set<UUID> getRemovedUserIds() {
+        return removedUserIds;
+    }
+}
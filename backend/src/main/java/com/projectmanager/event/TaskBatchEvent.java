@@ -0,0 +1,36 @@
+package com.projectmanager.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+public class TaskBatchEvent extends ApplicationEvent {
+    private final UUID projectId;
+    private final UUID actorUserId;
+    private final int createdCount;
+    private final int updatedCount;
+
+    public TaskBatchEvent(Object source, UUID projectId, UUID actorUserId, int createdCount, int updatedCount) {
+        super(source);
+        this.projectId = projectId;
+        this.actorUserId = actorUserId;
+        this.createdCount = createdCount;
+        this.updatedCount = updatedCount;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public UUID getActorUserId() {
+        return actorUserId;
+    }
+
+    public int getCreatedCount() {
+        return createdCount;
+    }
+
+    public int getUpdatedCount() {
+        return updatedCount;
+    }
+}
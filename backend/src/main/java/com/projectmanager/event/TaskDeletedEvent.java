@@ -0,0 +1,16 @@
+package com.projectmanager.event;
+
+import com.projectmanager.entity.Task;
+import org.springframework.context.ApplicationEvent;
+
+public class TaskDeletedEvent extends ApplicationEvent {
+    private final Task task;
+
+    public TaskDeletedEvent(Object source, Task task) {
+        super(source);
+        this.task = task;
+    }
+    public Task getTask() {
+        return task;
+    }
+}
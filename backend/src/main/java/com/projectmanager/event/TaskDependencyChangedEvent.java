@@ -0,0 +1,36 @@
+package com.projectmanager.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+public class TaskDependencyChangedEvent extends ApplicationEvent {
+    private final UUID projectId;
+    private final UUID predecessorId;
+    private final UUID successorId;
+    private final boolean added;
+
+    public TaskDependencyChangedEvent(Object source, UUID projectId, UUID predecessorId, UUID successorId, boolean added) {
+        super(source);
+        this.projectId = projectId;
+        this.predecessorId = predecessorId;
+        this.successorId = successorId;
+        this.added = added;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public UUID getPredecessorId() {
+        return predecessorId;
+    }
+
+    public UUID getSuccessorId() {
+        return successorId;
+    }
+
+    public boolean isAdded() {
+        return added;
+    }
+}
@@ -0,0 +1,22 @@
+package com.projectmanager.event;
+
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+/**
+ * A task moved to another project, possibly on another instance. A null task id means moves may have been
+ * missed, e.g. while the notification channel was down, so any task may have moved.
+ */
+public class TaskProjectChangedEvent extends ApplicationEvent {
+    private final UUID taskId;
+
+    public TaskProjectChangedEvent(Object source, UUID taskId) {
+        super(source);
+        this.taskId = taskId;
+    }
+
+    public UUID getTaskId() {
+        return taskId;
+    }
+}
@@ -0,0 +1,28 @@
+package com.projectmanager.event;
+
+import com.projectmanager.model.task.TaskStatus;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.UUID;
+
+public class TaskRankRebalanceEvent extends ApplicationEvent {
+    private final UUID projectId;
+    private final TaskStatus status;
+
+    /**
+     * @param status the board column to rebalance, or {@code null} for every column of the project
+     */
+    public TaskRankRebalanceEvent(Object source, UUID projectId, TaskStatus status) {
+        super(source);
+        this.projectId = projectId;
+        this.status = status;
+    }
+
+    public UUID getProjectId() {
+        return projectId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+}
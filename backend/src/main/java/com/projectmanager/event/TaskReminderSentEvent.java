@@ -0,0 +1,27 @@
+package com.projectmanager.event;
+
+import com.projectmanager.dto.response.UserResponse;
+import com.projectmanager.entity.Activity;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * A due-date reminder was claimed and recorded; the notification goes out once that has committed.
+ */
+public class TaskReminderSentEvent extends ApplicationEvent {
+    private final Activity activity;
+    private final UserResponse recipient;
+
+    public TaskReminderSentEvent(Object source, Activity activity, UserResponse recipient) {
+        super(source);
+        this.activity = activity;
+        this.recipient = recipient;
+    }
+
+    public Activity getActivity() {
+        return activity;
+    }
+
+    public UserResponse getRecipient() {
+        return recipient;
+    }
+}
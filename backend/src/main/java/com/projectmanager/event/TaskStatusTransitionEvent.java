@@ -0,0 +1,38 @@
+package com.projectmanager.event;
+
+import com.projectmanager.model.task.TaskStatus;
+import org.springframework.context.ApplicationEvent;
+
+import java.util.Set;
+import java.util.UUID;
+
+public class TaskStatusTransitionEvent extends ApplicationEvent {
+    private final Set<UUID> projectIds;
+    private final UUID actorUserId;
+    private final TaskStatus status;
+    private final int taskCount;
+
+    public TaskStatusTransitionEvent(Object source, Set<UUID> projectIds, UUID actorUserId, TaskStatus status, int taskCount) {
+        super(source);
+        this.projectIds = projectIds;
+        this.actorUserId = actorUserId;
+        this.status = status;
+        this.taskCount = taskCount;
+    }
+
+    public Set<UUID> getProjectIds() {
+        return projectIds;
+    }
+
+    public UUID getActorUserId() {
+        return actorUserId;
+    }
+
+    public TaskStatus getStatus() {
+        return status;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+}
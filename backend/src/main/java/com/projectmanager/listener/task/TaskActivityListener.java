@@ -3,12 +3,16 @@ package com.projectmanager.listener.task;
 import com.projectmanager.entity.Activity;
 import com.projectmanager.entity.Task;
 import com.projectmanager.entity.User;
+import com.projectmanager.event.TaskCreatedEvent;
+import com.projectmanager.event.TaskDeletedEvent;
 import com.projectmanager.event.TaskUpdatedEvent;
 import com.projectmanager.repository.TaskRepository;
 import com.projectmanager.service.activity.ActivityService;
 import com.projectmanager.service.task.TaskService;
 import com.projectmanager.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
 import jakarta.persistence.PostUpdate;
 import org.hibernate.event.spi.PostUpdateEvent;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -30,10 +34,24 @@ public class TaskActivityListener {
 
     @PostUpdate
     public void onPostUpdate(Task task) {
-    if(eventPublisher != null) {
+    if(eventPublisher != null && !TaskEventSuppression.isSuppressed()) {
         eventPublisher.publishEvent(new TaskUpdatedEvent(this, task));
     }
     }
 
+    @PostPersist
+    public void onPostPersist(Task task) {
+        if (eventPublisher != null && !TaskEventSuppression.isSuppressed()) {
+            eventPublisher.publishEvent(new TaskCreatedEvent(this, task));
+        }
+    }
+
+    @PostRemove
+    public void onPostRemove(Task task) {
+        if (eventPublisher != null && !TaskEventSuppression.isSuppressed()) {
+            eventPublisher.publishEvent(new TaskDeletedEvent(this, task));
+        }
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.projectmanager.listener.task;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Lets bulk operations turn off the per-task {@link TaskActivityListener} events for the
+ * current transaction; they publish their own aggregated event instead.
+ */
+public final class TaskEventSuppression {
+
+    private static final Object KEY = TaskEventSuppression.class;
+
+    private TaskEventSuppression() {
+    }
+
+    public static void suppressForCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Task event suppression requires an active transaction");
+        }
+        if (TransactionSynchronizationManager.hasResource(KEY)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(KEY, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(KEY);
+            }
+        });
+    }
+
+    public static boolean isSuppressed() {
+        return TransactionSynchronizationManager.hasResource(KEY);
+    }
+}
@@ -0,0 +1,231 @@
+package com.projectmanager.listener.task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanager.entity.Project;
+import com.projectmanager.entity.Task;
+import com.projectmanager.entity.User;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records field-level task history from Hibernate's flush: every update appends the dirty tracked fields with
+ * their old and new values to task_changes, and every insert, plus every {@code task-history.snapshot-interval}
+ * versions, stores the full tracked state in task_snapshots (V8__task_history).
+ * <p>
+ * Rows are collected per session and written in one JDBC batch just before the transaction commits, after
+ * the final flush, so they commit or roll back with the task changes themselves. Writes that bypass the
+ * persistence context (bulk SQL) record their own history.
+ */
+@Component
+public class TaskHistoryListener implements PostInsertEventListener, PostUpdateEventListener {
+
+    /** Task properties whose changes are recorded; keys of the JSON written by task_history_state(). */
+    public static final Set<String> TRACKED_PROPERTIES = Set.of(
+            "title", "description", "priority", "type", "status", "estimatedHours", "dueDate", "assignedTo", "project");
+
+    private static final String INSERT_CHANGE = "INSERT INTO task_changes (task_id, version, changed_at, actor_key, changes) " +
+            "VALUES (?, ?, ?, ?, CAST(? AS jsonb)) ON CONFLICT DO NOTHING";
+    private static final String INSERT_SNAPSHOT = "INSERT INTO task_snapshots (task_id, version, taken_at, state) " +
+            "VALUES (?, ?, ?, CAST(? AS jsonb)) ON CONFLICT DO NOTHING";
+
+    private record Row(UUID taskId, long version, LocalDateTime at, UUID actorKey, String json) {
+    }
+
+    private static final class Pending {
+        private final List<Row> changes = new ArrayList<>();
+        private final List<Row> snapshots = new ArrayList<>();
+    }
+
+    private final ObjectMapper objectMapper;
+    private final int snapshotInterval;
+    private final Map<EventSource, Pending> pending = new ConcurrentHashMap<>();
+
+    public TaskHistoryListener(ObjectMapper objectMapper,
+                               @Value("${task-history.snapshot-interval:20}") int snapshotInterval) {
+        this.objectMapper = objectMapper;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (!(event.getEntity() instanceof Task task)) {
+            return;
+        }
+        String[] names = event.getPersister().getPropertyNames();
+        pending(event.getSession()).snapshots.add(new Row(task.getId(), version(event.getPersister(), event.getState()),
+                LocalDateTime.now(), null, toJson(state(names, event.getState()))));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Task task)) {
+            return;
+        }
+        EntityPersister persister = event.getPersister();
+        String[] names = persister.getPropertyNames();
+        Object[] oldState = event.getOldState();
+        Object[] newState = event.getState();
+        long version = version(persister, newState);
+        LocalDateTime now = LocalDateTime.now();
+        Pending rows = pending(event.getSession());
+
+        if (oldState == null) {
+            // Nothing to diff against (e.g. an update of a detached instance); keep the full state instead.
+            rows.snapshots.add(new Row(task.getId(), version, now, null, toJson(state(names, newState))));
+            return;
+        }
+        int[] dirty = event.getDirtyProperties();
+        if (dirty == null) {
+            dirty = new int[names.length];
+            Arrays.setAll(dirty, i -> i);
+        }
+        Map<String, List<Object>> changes = new LinkedHashMap<>();
+        for (int i : dirty) {
+            if (!TRACKED_PROPERTIES.contains(names[i])) {
+                continue;
+            }
+            Object before = value(oldState[i]);
+            Object after = value(newState[i]);
+            if (!Objects.equals(before, after)) {
+                changes.put(names[i], Arrays.asList(before, after));
+            }
+        }
+        if (changes.isEmpty()) {
+            return;
+        }
+        rows.changes.add(new Row(task.getId(), version, now, actorKey(), toJson(changes)));
+        if (snapshotInterval > 0 && version % snapshotInterval == 0) {
+            rows.snapshots.add(new Row(task.getId(), version, now, null, toJson(state(names, newState))));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private Pending pending(EventSource session) {
+        return pending.computeIfAbsent(session, key -> {
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) completing -> {
+                Pending rows = pending.remove(key);
+                if (rows != null) {
+                    write(completing, rows);
+                }
+            });
+            // Drops what a rolled-back transaction collected.
+            session.getActionQueue().registerProcess(
+                    (AfterTransactionCompletionProcess) (success, completed) -> pending.remove(key));
+            return new Pending();
+        });
+    }
+
+    private static void write(SessionImplementor session, Pending rows) {
+        session.doWork(connection -> {
+            if (!rows.changes.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_CHANGE)) {
+                    for (Row row : rows.changes) {
+                        statement.setObject(1, row.taskId());
+                        statement.setLong(2, row.version());
+                        statement.setObject(3, row.at());
+                        statement.setObject(4, row.actorKey());
+                        statement.setString(5, row.json());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+            if (!rows.snapshots.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_SNAPSHOT)) {
+                    for (Row row : rows.snapshots) {
+                        statement.setObject(1, row.taskId());
+                        statement.setLong(2, row.version());
+                        statement.setObject(3, row.at());
+                        statement.setString(4, row.json());
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                }
+            }
+        });
+    }
+
+    private static Map<String, Object> state(String[] names, Object[] values) {
+        Map<String, Object> state = new LinkedHashMap<>();
+        for (int i = 0; i < names.length; i++) {
+            if (TRACKED_PROPERTIES.contains(names[i])) {
+                state.put(names[i], value(values[i]));
+            }
+        }
+        return state;
+    }
+
+    private static long version(EntityPersister persister, Object[] state) {
+        Object version = persister.isVersioned() ? state[persister.getVersionProperty()] : null;
+        return version instanceof Number number ? number.longValue() : 0L;
+    }
+
+    /**
+     * JSON-friendly form of a property value, matching task_history_state(): enums by name, associations
+     * by id, dates in ISO-8601.
+     */
+    private static Object value(Object value) {
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        if (value instanceof User user) {
+            return Objects.toString(user.getId(), null);
+        }
+        if (value instanceof Project project) {
+            return Objects.toString(project.getId(), null);
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            return dateTime.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+        }
+        return value;
+    }
+
+    private static UUID actorKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(authentication.getName());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise task history", e);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.projectmanager.mapper;
+
+import com.projectmanager.dto.response.TaskDependencyResponse;
+import com.projectmanager.entity.TaskDependency;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.ReportingPolicy;
+
+import java.util.List;
+
+@Mapper(
+        componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE
+)
+public interface TaskDependencyMapper {
+
+    @Mapping(source = "project.id", target = "projectId")
+    @Mapping(source = "predecessor.id", target = "predecessorTaskId")
+    @Mapping(source = "successor.id", target = "successorTaskId")
+    TaskDependencyResponse toResponse(TaskDependency dependency);
+
+    List<TaskDependencyResponse> toResponseList(List<TaskDependency> dependencies);
+}
@@ -20,6 +20,7 @@ public interface TaskMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "comments", ignore = true)
     @Mapping(target = "attachments", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Task toEntity(TaskRequest taskRequest);
 
 
@@ -28,6 +29,15 @@ public interface TaskMapper {
     @Mapping(source = "createdBy.id", target = "createdByUserId")
     TaskResponse toResponse(Task task);
 
+    @Named("toListResponse")
+    @Mapping(source = "project.id", target = "projectId")
+    @Mapping(source = "assignedTo.id", target = "assignedToUserId")
+    @Mapping(source = "createdBy.id", target = "createdByUserId")
+    @Mapping(target = "comments", ignore = true)
+    @Mapping(target = "attachments", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    TaskResponse toListResponse(Task task);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "project", ignore = true)
     @Mapping(target = "assignedTo", ignore = true)
@@ -36,5 +46,6 @@ public interface TaskMapper {
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "comments", ignore = true)
     @Mapping(target = "attachments", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateTaskFromDto(TaskRequest request, @MappingTarget Task task);
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.projectmanager.model.project;
+
+public enum MetricsPeriod {
+    DAY,
+    WEEK,
+    MONTH
+}
@@ -0,0 +1,8 @@
+package com.projectmanager.model.purge;
+
+public enum PurgeStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package com.projectmanager.model.purge;
+
+public enum PurgeTarget {
+    PROJECT,
+    TASK
+}
@@ -0,0 +1,6 @@
+package com.projectmanager.model.task;
+
+public enum TaskExportFormat {
+    NDJSON,
+    CSV
+}
@@ -0,0 +1,9 @@
+package com.projectmanager.model.task;
+
+public enum TaskImportStatus {
+    QUEUED,
+    STAGING,
+    MERGING,
+    COMPLETED,
+    FAILED
+}
@@ -3,23 +3,78 @@ package com.projectmanager.repository;
 import com.projectmanager.entity.Activity;
 import com.projectmanager.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface ActivityRepository extends JpaRepository<Activity, UUID> {
-     void deleteByTaskId(UUID taskId);
+     @Modifying
+     @Query("DELETE FROM Activity a WHERE a.task.id = :taskId")
+     int deleteByTaskId(@Param("taskId") UUID taskId);
+
+     /**
+      * Activities are never older than their task, so months before the oldest task are skipped; the day of
+      * slack covers clock differences between the application and the database.
+      */
+     @Modifying
+     @Query(value = "DELETE FROM activities WHERE task_id IN (:taskIds) " +
+             "AND created_at >= (SELECT coalesce(min(t.created_at), '-infinity') - interval '1 day' " +
+             "FROM tasks t WHERE t.id IN (:taskIds))",
+             nativeQuery = true)
+     int deleteByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
+     /**
+      * Deletes up to {@code limit} activities of the project, provided the project has been deleted. Like
+      * {@link #deleteByTaskIds}, only months from the project's creation on are visited.
+      */
+     @Modifying
+     @Query(value = "DELETE FROM activities WHERE (id, created_at) IN " +
+             "(SELECT a.id, a.created_at FROM activities a, projects p " +
+             "WHERE p.id = :projectId AND p.deleted_at IS NOT NULL AND a.project_id = p.id " +
+             "AND a.created_at >= coalesce(p.created_at, '-infinity') - interval '1 day' LIMIT :limit)",
+             nativeQuery = true)
+     int deleteChunkByProjectId(@Param("projectId") UUID projectId, @Param("limit") int limit);
 
      @Query("SELECT a FROM Activity a " +
              "JOIN FETCH a.project p " +
-             "JOIN FETCH p.members m " +
-             "WHERE m.id = :userId " +
+             "WHERE p.id IN :projectIds AND a.createdAt >= :since " +
              "ORDER BY a.createdAt DESC")
-     List<Activity> findActivitiesForUserProjects(@Param("userId") UUID userId);
+     List<Activity> findActivitiesForUserProjects(@Param("projectIds") Collection<UUID> projectIds,
+                                                  @Param("since") LocalDateTime since);
+
+     /**
+      * Creates the missing monthly partitions from {@code from} through {@code to}; returns how many.
+      */
+     @Query(value = "SELECT create_activity_partitions(CAST(:from AS date), CAST(:to AS date))", nativeQuery = true)
+     int createPartitions(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+     /**
+      * Names of the monthly partitions that end on or before {@code before}, oldest first.
+      */
+     @Query(value = "SELECT activity_partitions_before(CAST(:before AS date))", nativeQuery = true)
+     List<String> findPartitionsBefore(@Param("before") LocalDate before);
+
+     /**
+      * Moves one monthly partition into activity_archive and drops it; returns how many activities it held.
+      * Needs a transaction of its own, see archive_activity_partition in V18__activity_archive_per_partition.
+      */
+     @Query(value = "SELECT archive_activity_partition(:name)", nativeQuery = true)
+     long archivePartition(@Param("name") String name);
+
+     /**
+      * Moves the activities of the default partition created before {@code before} into activity_archive;
+      * returns how many.
+      */
+     @Query(value = "SELECT archive_default_activities(CAST(:before AS date))", nativeQuery = true)
+     long archiveDefaultPartition(@Param("before") LocalDate before);
 
      Activity findActivityByProjectId(UUID projectId);
 }
@@ -1,15 +1,32 @@
 package com.projectmanager.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.projectmanager.entity.Attachment;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface AttachmentRepository extends JpaRepository<Attachment, UUID> {
+    String OF_TASKS = "FROM attachments a WHERE a.task_id IN (:taskIds) " +
+            "OR a.comment_id IN (SELECT c.id FROM comments c WHERE c.task_id IN (:taskIds))";
+
     List<Attachment> findByTaskId(UUID taskId);
 
     List<Attachment> findByCommentId(UUID commentId);
+
+    /**
+     * Object names of the attachments of the tasks and of their comments.
+     */
+    @Query(value = "SELECT a.file_path " + OF_TASKS, nativeQuery = true)
+    List<String> findFilePathsByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
+    @Modifying
+    @Query(value = "DELETE " + OF_TASKS, nativeQuery = true)
+    int deleteByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
 }
@@ -2,12 +2,23 @@ package com.projectmanager.repository;
 
 import com.projectmanager.entity.Comment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, UUID> {
      List<Comment> findByTaskId(UUID taskId);
+
+     @Query("SELECT c.task.id, COUNT(c) FROM Comment c WHERE c.task.id IN :taskIds GROUP BY c.task.id")
+     List<Object[]> countByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
+
+     @Modifying
+     @Query(value = "DELETE FROM comments WHERE task_id IN (:taskIds)", nativeQuery = true)
+     int deleteByTaskIds(@Param("taskIds") Collection<UUID> taskIds);
 }
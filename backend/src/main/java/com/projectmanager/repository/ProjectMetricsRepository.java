@@ -0,0 +1,38 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.Project;
+import com.projectmanager.repository.projection.ProjectDailyStatusRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the project_daily_status buckets from the V10__project_daily_status migration.
+ */
+@Repository
+public interface ProjectMetricsRepository extends JpaRepository<Project, UUID> {
+
+    String DAILY_STATUS_COLUMNS = "day AS day, open_count AS \"openCount\", in_progress_count AS \"inProgressCount\", " +
+            "done_count AS \"doneCount\", open_hours AS \"openHours\", in_progress_hours AS \"inProgressHours\", " +
+            "done_hours AS \"doneHours\", completed_count AS \"completedCount\", completed_hours AS \"completedHours\" ";
+
+    /**
+     * The project's bucket rows for days in {@code [from, to]}, preceded by the latest row before
+     * {@code from}, which carries the levels the range starts with. Ordered by day.
+     */
+    @Query(value = "(SELECT " + DAILY_STATUS_COLUMNS + "FROM project_daily_status " +
+            "WHERE project_id = :projectId AND day < :from ORDER BY day DESC LIMIT 1) " +
+            "UNION ALL " +
+            "(SELECT " + DAILY_STATUS_COLUMNS + "FROM project_daily_status " +
+            "WHERE project_id = :projectId AND day BETWEEN :from AND :to ORDER BY day) " +
+            "ORDER BY day",
+            nativeQuery = true)
+    List<ProjectDailyStatusRow> findDailyStatus(@Param("projectId") UUID projectId,
+                                                @Param("from") LocalDate from,
+                                                @Param("to") LocalDate to);
+}
@@ -2,9 +2,16 @@ package com.projectmanager.repository;
 
 import com.projectmanager.entity.Project;
 import com.projectmanager.entity.User;
+import com.projectmanager.repository.projection.ProjectDashboardRow;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -24,6 +31,118 @@ public interface ProjectRepository extends JpaRepository<Project, UUID> {
     @Query("SELECT p FROM Project p JOIN FETCH p.members u WHERE u.id= :userId")
     List<Project> findByMember_Id(@Param("userId") UUID memberId);
 
-    @Query("SELECT p FROM Project p LEFT JOIN p.members m WHERE p.createdBy.id = :userId OR m.id = :userId")
+    @Query("SELECT DISTINCT p FROM Project p LEFT JOIN p.members m WHERE p.createdBy.id = :userId OR m.id = :userId")
     List<Project> findProjectsByUserIdOrCreator(@Param("userId") UUID userId);
-}
\ No newline at end of file
+
+    /**
+     * Dashboard summary of every project the user created or is a member of, in one statement: each
+     * aggregate is a correlated lookup on its own index (project_members, idx_tasks_project_status_priority,
+     * idx_tasks_project_due_date, idx_activities_project_created_at), so no rows are multiplied by joins.
+     */
+    @Query(value = "SELECT p.id AS id, p.name AS name, p.description AS description, p.status AS status, " +
+            "p.color AS color, p.icon AS icon, p.start_date AS \"startDate\", p.end_date AS \"endDate\", " +
+            "p.created_by_user_id AS \"createdByUserId\", p.created_at AS \"createdAt\", " +
+            "(SELECT count(*) FROM project_members pm WHERE pm.project_id = p.id) AS \"memberCount\", " +
+            "t.total AS \"taskCount\", t.todo AS \"todoCount\", t.in_progress AS \"inProgressCount\", " +
+            "t.in_review AS \"inReviewCount\", t.testing AS \"testingCount\", t.done AS \"doneCount\", " +
+            "t.closed AS \"closedCount\", " +
+            "(SELECT count(*) FROM tasks o WHERE o.project_id = p.id AND o.deleted_at IS NULL AND o.due_date < :now " +
+            "AND o.status NOT IN ('DONE', 'CLOSED')) AS \"overdueCount\", " +
+            "(SELECT max(a.created_at) FROM activities a WHERE a.project_id = p.id) AS \"lastActivityAt\" " +
+            "FROM projects p " +
+            "CROSS JOIN LATERAL (SELECT count(*) AS total, " +
+            "count(*) FILTER (WHERE s.status = 'TODO') AS todo, " +
+            "count(*) FILTER (WHERE s.status = 'IN_PROGRESS') AS in_progress, " +
+            "count(*) FILTER (WHERE s.status = 'IN_REVIEW') AS in_review, " +
+            "count(*) FILTER (WHERE s.status = 'TESTING') AS testing, " +
+            "count(*) FILTER (WHERE s.status = 'DONE') AS done, " +
+            "count(*) FILTER (WHERE s.status = 'CLOSED') AS closed " +
+            "FROM tasks s WHERE s.project_id = p.id AND s.deleted_at IS NULL) t " +
+            "WHERE p.deleted_at IS NULL AND (p.created_by_user_id = :userId " +
+            "OR EXISTS (SELECT 1 FROM project_members m WHERE m.project_id = p.id AND m.user_id = :userId)) " +
+            "ORDER BY p.created_at DESC, p.id",
+            nativeQuery = true)
+    List<ProjectDashboardRow> findDashboardByUserId(@Param("userId") UUID userId, @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT p.id FROM projects p WHERE p.deleted_at IS NULL AND (p.created_by_user_id = :userId " +
+            "OR EXISTS (SELECT 1 FROM project_members m WHERE m.project_id = p.id AND m.user_id = :userId))",
+            nativeQuery = true)
+    Set<UUID> findAccessibleProjectIds(@Param("userId") UUID userId);
+
+    @Query(value = "SELECT pm.user_id FROM project_members pm WHERE pm.project_id = :projectId", nativeQuery = true)
+    Set<UUID> findMemberIds(@Param("projectId") UUID projectId);
+
+    @Query(value = "SELECT count(*) FROM project_members pm WHERE pm.project_id = :projectId", nativeQuery = true)
+    long countMembers(@Param("projectId") UUID projectId);
+
+    /**
+     * Adds the given users as members in one statement; users that are already members are skipped.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO project_members (project_id, user_id) " +
+            "SELECT :projectId, u.id FROM users u WHERE u.id IN (:userIds) ORDER BY u.id " +
+            "ON CONFLICT DO NOTHING",
+            nativeQuery = true)
+    int insertMembers(@Param("projectId") UUID projectId, @Param("userIds") Collection<UUID> userIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM project_members WHERE project_id = :projectId AND user_id IN (:userIds)",
+            nativeQuery = true)
+    int deleteMembers(@Param("projectId") UUID projectId, @Param("userIds") Collection<UUID> userIds);
+
+    List<Project> findByTemplateTrueOrderByName();
+
+    /**
+     * Copies the project with set-based statements (V12__project_clone) and returns the new project's id, or
+     * null when the source does not exist.
+     */
+    @Query(value = "SELECT clone_project(:sourceId, :name, CAST(:startDate AS timestamp), :actorId, :template, " +
+            ":copyMembers, :copyDependencies)",
+            nativeQuery = true)
+    UUID cloneProject(@Param("sourceId") UUID sourceId,
+                      @Param("name") String name,
+                      @Param("startDate") LocalDateTime startDate,
+                      @Param("actorId") UUID actorId,
+                      @Param("template") boolean template,
+                      @Param("copyMembers") boolean copyMembers,
+                      @Param("copyDependencies") boolean copyDependencies);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Project p WHERE p.id = :id")
+    Optional<Project> findByIdForUpdate(@Param("id") UUID id);
+
+    @Query(value = "SELECT COALESCE((SELECT v.version FROM project_change_versions v WHERE v.project_id = :projectId), 0)",
+            nativeQuery = true)
+    long findChangeVersion(@Param("projectId") UUID projectId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Project p SET p.deletedAt = :deletedAt WHERE p.id = :id")
+    int softDeleteById(@Param("id") UUID id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    /**
+     * Creator and members of the project, whether or not it is deleted.
+     */
+    @Query(value = "SELECT p.created_by_user_id FROM projects p WHERE p.id = :projectId AND p.created_by_user_id IS NOT NULL " +
+            "UNION SELECT pm.user_id FROM project_members pm WHERE pm.project_id = :projectId",
+            nativeQuery = true)
+    Set<UUID> findAccessorIds(@Param("projectId") UUID projectId);
+
+    @Query(value = "SELECT p.id FROM projects p WHERE p.deleted_at IS NOT NULL", nativeQuery = true)
+    List<UUID> findDeletedIds();
+
+    /**
+     * Removes a deleted project with its membership rows, daily status buckets and archived activities; its
+     * tasks and live activities must already be gone.
+     */
+    @Modifying
+    @Query(value = "WITH members AS (DELETE FROM project_members WHERE project_id = :id), " +
+            "daily_status AS (DELETE FROM project_daily_status WHERE project_id = :id), " +
+            "archive AS (DELETE FROM activity_archive WHERE project_id = :id) " +
+            "DELETE FROM projects WHERE id = :id AND deleted_at IS NOT NULL",
+            nativeQuery = true)
+    int purgeById(@Param("id") UUID id);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_change_versions WHERE project_id = :projectId", nativeQuery = true)
+    int deleteChangeVersion(@Param("projectId") UUID projectId);
+}
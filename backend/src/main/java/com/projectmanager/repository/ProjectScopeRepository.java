@@ -0,0 +1,32 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.Task;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resolves the project that a task, comment, attachment or dependency belongs to, for project-scoped
+ * authorization. Deleted tasks still resolve so their purge status stays behind the same check.
+ */
+@Repository
+public interface ProjectScopeRepository extends JpaRepository<Task, UUID> {
+
+    @Query(value = "SELECT t.project_id FROM tasks t WHERE t.id = :taskId", nativeQuery = true)
+    Optional<UUID> findProjectIdByTaskId(@Param("taskId") UUID taskId);
+
+    @Query(value = "SELECT c.task_id FROM comments c WHERE c.id = :commentId", nativeQuery = true)
+    Optional<UUID> findTaskIdByCommentId(@Param("commentId") UUID commentId);
+
+    @Query(value = "SELECT coalesce(a.task_id, c.task_id) FROM attachments a " +
+            "LEFT JOIN comments c ON c.id = a.comment_id WHERE a.id = :attachmentId",
+            nativeQuery = true)
+    Optional<UUID> findTaskIdByAttachmentId(@Param("attachmentId") UUID attachmentId);
+
+    @Query(value = "SELECT d.project_id FROM task_dependencies d WHERE d.id = :dependencyId", nativeQuery = true)
+    Optional<UUID> findProjectIdByDependencyId(@Param("dependencyId") UUID dependencyId);
+}
@@ -0,0 +1,32 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.TaskDependency;
+import com.projectmanager.repository.projection.TaskDependencyRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TaskDependencyRepository extends JpaRepository<TaskDependency, UUID> {
+
+    @Query("SELECT d FROM TaskDependency d WHERE d.project.id = :projectId ORDER BY d.createdAt, d.id")
+    List<TaskDependency> findByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT d.predecessor.id AS predecessorId, d.successor.id AS successorId " +
+            "FROM TaskDependency d WHERE d.project.id = :projectId")
+    List<TaskDependencyRow> findEdgesByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT d FROM TaskDependency d WHERE d.predecessor.id = :taskId OR d.successor.id = :taskId")
+    List<TaskDependency> findByTaskId(@Param("taskId") UUID taskId);
+
+    boolean existsByPredecessorIdAndSuccessorId(UUID predecessorId, UUID successorId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM TaskDependency d WHERE d.predecessor.id = :taskId OR d.successor.id = :taskId")
+    int deleteByTaskId(@Param("taskId") UUID taskId);
+}
@@ -0,0 +1,49 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.Task;
+import com.projectmanager.repository.projection.TaskChangeRow;
+import com.projectmanager.repository.projection.TaskSnapshotRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Reads the task_changes and task_snapshots tables from the V8__task_history migration.
+ */
+@Repository
+public interface TaskHistoryRepository extends JpaRepository<Task, UUID> {
+
+    String CHANGE_SELECT = "SELECT c.version AS version, c.changed_at AS \"changedAt\", u.id AS \"actorUserId\", " +
+            "u.username AS \"actorUsername\", CAST(c.changes AS text) AS changes " +
+            "FROM task_changes c LEFT JOIN users u ON u.keycloak_id = c.actor_key ";
+
+    /**
+     * Changes of the task below {@code beforeVersion}, newest first.
+     */
+    @Query(value = CHANGE_SELECT + "WHERE c.task_id = :taskId AND c.version < :beforeVersion " +
+            "ORDER BY c.version DESC LIMIT :limit",
+            nativeQuery = true)
+    List<TaskChangeRow> findChanges(@Param("taskId") UUID taskId, @Param("beforeVersion") long beforeVersion,
+                                    @Param("limit") int limit);
+
+    /**
+     * Changes of the task after {@code afterVersion} made no later than {@code at}, oldest first.
+     */
+    @Query(value = CHANGE_SELECT + "WHERE c.task_id = :taskId AND c.version > :afterVersion AND c.changed_at <= :at " +
+            "ORDER BY c.version",
+            nativeQuery = true)
+    List<TaskChangeRow> findChangesBetween(@Param("taskId") UUID taskId, @Param("afterVersion") long afterVersion,
+                                           @Param("at") LocalDateTime at);
+
+    @Query(value = "SELECT s.version AS version, s.taken_at AS \"takenAt\", CAST(s.state AS text) AS state " +
+            "FROM task_snapshots s WHERE s.task_id = :taskId AND s.taken_at <= :at " +
+            "ORDER BY s.taken_at DESC, s.version DESC LIMIT 1",
+            nativeQuery = true)
+    Optional<TaskSnapshotRow> findLatestSnapshot(@Param("taskId") UUID taskId, @Param("at") LocalDateTime at);
+}
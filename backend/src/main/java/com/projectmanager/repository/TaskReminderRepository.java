@@ -0,0 +1,55 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.Task;
+import com.projectmanager.repository.projection.TaskDueRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reminder bookkeeping over the idx_tasks_open_due_date partial index and the task_reminders table
+ * from the V5__task_reminders migration. The open-task predicate is spelled exactly as in the index
+ * so the planner can use it.
+ */
+@Repository
+public interface TaskReminderRepository extends JpaRepository<Task, UUID> {
+
+    /**
+     * Open tasks due in {@code [afterDueDate, before)} that have not been reminded for their current due
+     * date, ordered by {@code (due_date, id)} and resumed after the {@code (afterDueDate, afterId)} key.
+     */
+    @Query(value = "SELECT t.id AS id, t.due_date AS \"dueDate\" FROM tasks t " +
+            "WHERE t.due_date IS NOT NULL AND t.status NOT IN ('DONE', 'CLOSED') AND t.deleted_at IS NULL " +
+            "AND (t.due_date, t.id) > (:afterDueDate, :afterId) AND t.due_date < :before " +
+            "AND NOT EXISTS (SELECT 1 FROM task_reminders r WHERE r.task_id = t.id AND r.due_date = t.due_date) " +
+            "ORDER BY t.due_date, t.id " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<TaskDueRow> findPendingReminders(@Param("afterDueDate") LocalDateTime afterDueDate,
+                                          @Param("afterId") UUID afterId,
+                                          @Param("before") LocalDateTime before,
+                                          @Param("limit") int limit);
+
+    /**
+     * Claims the reminder of a task for {@code dueDate} if the task is still open with that due date and
+     * nobody has claimed it yet.
+     *
+     * @return 1 when this caller owns the reminder, 0 otherwise
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_reminders (task_id, due_date, sent_at) " +
+            "SELECT t.id, t.due_date, :sentAt FROM tasks t " +
+            "WHERE t.id = :taskId AND t.due_date = :dueDate AND t.status NOT IN ('DONE', 'CLOSED') " +
+            "AND t.deleted_at IS NULL " +
+            "ON CONFLICT (task_id) DO UPDATE SET due_date = EXCLUDED.due_date, sent_at = EXCLUDED.sent_at " +
+            "WHERE task_reminders.due_date IS DISTINCT FROM EXCLUDED.due_date",
+            nativeQuery = true)
+    int claimReminder(@Param("taskId") UUID taskId, @Param("dueDate") LocalDateTime dueDate,
+                      @Param("sentAt") LocalDateTime sentAt);
+}
@@ -1,22 +1,53 @@
 package com.projectmanager.repository;
 
+import com.projectmanager.dto.response.TaskSummaryResponse;
 import com.projectmanager.entity.Task;
+import com.projectmanager.repository.projection.DeletedTaskRow;
+import com.projectmanager.repository.projection.TaskAggregateRow;
+import com.projectmanager.repository.projection.TaskRankRow;
+import com.projectmanager.repository.projection.TaskScheduleRow;
+import com.projectmanager.repository.projection.TaskVersionRow;
 import com.projectmanager.model.task.TaskPriority;
 import com.projectmanager.model.task.TaskStatus;
 import com.projectmanager.model.task.TaskType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.hibernate.sql.model.ast.builder.TableUpdateBuilderSkipped;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, UUID> {
+public interface TaskRepository extends JpaRepository<Task, UUID>, JpaSpecificationExecutor<Task> {
 
-    List<Task> findByStatus(TaskStatus status);
+    String SUMMARY_SELECT = "SELECT new com.projectmanager.dto.response.TaskSummaryResponse(" +
+            "t.id, t.title, t.status, t.priority, t.dueDate, t.createdAt, t.project.id, u.id, u.username, " +
+            "(SELECT COUNT(c) FROM Comment c WHERE c.task = t)) " +
+            "FROM Task t LEFT JOIN t.assignedTo u ";
+
+    /**
+     * Limits a query on {@code t} to the projects the user with id {@code :userId} created or is a member of;
+     * a null id (admins) leaves it unrestricted.
+     */
+    String VISIBLE_TO_USER = "(:userId IS NULL OR t.project.id IN (" +
+            "SELECT p.id FROM Project p LEFT JOIN p.members m WHERE p.createdBy.id = :userId OR m.id = :userId)) ";
+
+    @Query("SELECT t FROM Task t WHERE t.status = :status AND " + VISIBLE_TO_USER)
+    List<Task> findByStatusVisibleTo(@Param("status") TaskStatus status, @Param("userId") UUID userId);
 
     List<Task> findByPriority(TaskPriority priority);
 
@@ -39,7 +70,201 @@ public interface TaskRepository extends JpaRepository<Task, UUID> {
             "ORDER BY t.createdAt DESC")
     List<Task> findTaskByProjectId(@Param("projectId") UUID projectId);
 
+    /**
+     * Streams a project's tasks through a server-side cursor ({@code fetchSize} rows per round trip);
+     * must be consumed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT t FROM Task t " +
+            "JOIN FETCH t.project p " +
+            "LEFT JOIN FETCH p.createdBy " +
+            "LEFT JOIN FETCH t.assignedTo " +
+            "LEFT JOIN FETCH t.createdBy " +
+            "WHERE p.id = :projectId " +
+            "ORDER BY t.createdAt, t.id")
+    Stream<Task> streamByProjectId(@Param("projectId") UUID projectId);
+
+    @Query("SELECT t FROM Task t " +
+            "JOIN FETCH t.project p " +
+            "LEFT JOIN FETCH t.assignedTo " +
+            "LEFT JOIN FETCH t.createdBy " +
+            "WHERE p.id = :projectId " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findPageByProjectId(@Param("projectId") UUID projectId, Pageable pageable);
+
+    /**
+     * The project's board: each column in rank order, read along idx_tasks_project_status_rank.
+     */
+    @Query("SELECT t FROM Task t " +
+            "JOIN FETCH t.project p " +
+            "LEFT JOIN FETCH t.assignedTo " +
+            "LEFT JOIN FETCH t.createdBy " +
+            "WHERE p.id = :projectId AND (:status IS NULL OR t.status = :status) " +
+            "ORDER BY t.status, t.rank, t.id")
+    List<Task> findBoardByProjectId(@Param("projectId") UUID projectId, @Param("status") TaskStatus status);
+
+    /**
+     * Highest rank in a board column, i.e. the key new tasks are appended after.
+     */
+    @Query(value = "SELECT board_rank FROM tasks " +
+            "WHERE project_id = :projectId AND status = :status AND deleted_at IS NULL AND board_rank IS NOT NULL " +
+            "ORDER BY board_rank DESC LIMIT 1",
+            nativeQuery = true)
+    Optional<String> findLastRank(@Param("projectId") UUID projectId, @Param("status") String status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Task t WHERE t.id = :id")
+    Optional<Task> findByIdForUpdate(@Param("id") UUID id);
+
+    /**
+     * Board positions of the given tasks, share-locked so a concurrent rebalance of their column cannot
+     * renumber them before the caller's move commits. Rows are locked in id order.
+     */
+    @Query(value = "SELECT id AS id, project_id AS \"projectId\", status AS status, board_rank AS rank FROM tasks " +
+            "WHERE id IN (:ids) AND deleted_at IS NULL ORDER BY id FOR SHARE",
+            nativeQuery = true)
+    List<TaskRankRow> lockRanks(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Renumbers one board column, or every column of the project when {@code status} is null, with short
+     * evenly spaced ranks in the current order (rebalance_task_ranks from V11__task_rank).
+     *
+     * @return the number of tasks whose rank changed
+     */
+    @Query(value = "SELECT rebalance_task_ranks(:projectId, CAST(:status AS text))", nativeQuery = true)
+    long rebalanceRanks(@Param("projectId") UUID projectId, @Param("status") String status);
+
+    @Query("SELECT t FROM Task t " +
+            "JOIN FETCH t.project p " +
+            "LEFT JOIN FETCH t.assignedTo " +
+            "LEFT JOIN FETCH t.createdBy " +
+            "WHERE p.id = :projectId " +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<Task> findPageByProjectIdAfter(@Param("projectId") UUID projectId,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") UUID id,
+                                        Pageable pageable);
+
+
+    @Query("SELECT t FROM Task t " +
+            "LEFT JOIN FETCH t.project " +
+            "LEFT JOIN FETCH t.assignedTo " +
+            "LEFT JOIN FETCH t.createdBy " +
+            "WHERE t.id IN :ids")
+    List<Task> findAllByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * First page of the summaries of the tasks visible to the user, optionally in one status, newest first;
+     * see {@link #findSummaryPageAfter} and {@link #VISIBLE_TO_USER}.
+     */
+    @Query(SUMMARY_SELECT + "WHERE (:status IS NULL OR t.status = :status) AND " + VISIBLE_TO_USER +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskSummaryResponse> findSummaryPage(@Param("status") TaskStatus status, @Param("userId") UUID userId,
+                                              Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE (:status IS NULL OR t.status = :status) AND " + VISIBLE_TO_USER +
+            "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+            "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskSummaryResponse> findSummaryPageAfter(@Param("status") TaskStatus status,
+                                                   @Param("userId") UUID userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") UUID id,
+                                                   Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "WHERE t.project.id = :projectId ORDER BY t.createdAt DESC")
+    List<TaskSummaryResponse> findSummariesByProjectId(@Param("projectId") UUID projectId);
+
+    String SCHEDULE_SELECT = "SELECT t.id AS id, t.title AS title, t.description AS description, t.priority AS priority, " +
+            "t.type AS type, t.status AS status, t.estimatedHours AS estimatedHours, t.dueDate AS dueDate, " +
+            "u.id AS assignedToUserId, t.project.id AS projectId " +
+            "FROM Task t LEFT JOIN t.assignedTo u ";
+
+    @Query(SCHEDULE_SELECT + "WHERE t.project.id = :projectId ORDER BY t.createdAt, t.id")
+    List<TaskScheduleRow> findScheduleRowsByProjectId(@Param("projectId") UUID projectId);
+
+    @Query(SCHEDULE_SELECT + "WHERE t.id = :id")
+    Optional<TaskScheduleRow> findScheduleRowById(@Param("id") UUID id);
+
+    @Query("SELECT t.id AS id, t.project.id AS projectId, t.version AS version FROM Task t WHERE t.id IN :ids")
+    List<TaskVersionRow> findVersionRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Moves every listed task whose version still matches to {@code status} in one statement, appending the
+     * status change of each updated task to task_changes in the same statement. Tasks that change column lose
+     * their board rank, which only ordered them in the column they left; rebalance_task_ranks() appends them.
+     * {@code ids} and {@code versions} are parallel comma-separated lists.
+     *
+     * @return the number of tasks updated; fewer than listed means some were changed concurrently
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "WITH v AS (" +
+            "SELECT v.id, v.version, t.status AS old_status " +
+            "FROM unnest(CAST(string_to_array(:ids, ',') AS uuid[]), CAST(string_to_array(:versions, ',') AS bigint[])) " +
+            "AS v(id, version) JOIN tasks t ON t.id = v.id), " +
+            "updated AS (" +
+            "UPDATE tasks t SET status = :status, updated_at = :updatedAt, version = t.version + 1, " +
+            "board_rank = CASE WHEN t.status = :status THEN t.board_rank END FROM v " +
+            "WHERE t.id = v.id AND t.version = v.version AND t.deleted_at IS NULL " +
+            "RETURNING t.id, t.version, v.old_status) " +
+            "INSERT INTO task_changes (task_id, version, changed_at, actor_key, changes) " +
+            "SELECT u.id, u.version, :updatedAt, :actorKey, " +
+            "CASE WHEN u.old_status = :status THEN CAST('{}' AS jsonb) " +
+            "ELSE jsonb_build_object('status', jsonb_build_array(u.old_status, CAST(:status AS text))) END " +
+            "FROM updated u",
+            nativeQuery = true)
+    int transitionStatus(@Param("ids") String ids, @Param("versions") String versions,
+                         @Param("status") String status, @Param("updatedAt") LocalDateTime updatedAt,
+                         @Param("actorKey") UUID actorKey);
+
+    @Query("SELECT t.status AS status, t.priority AS priority, COUNT(t) AS taskCount, " +
+            "SUM(CASE WHEN t.dueDate < :now AND t.status NOT IN :closedStatuses THEN 1 ELSE 0 END) AS overdueCount, " +
+            "COALESCE(SUM(t.estimatedHours), 0) AS estimatedHours " +
+            "FROM Task t WHERE t.project.id = :projectId " +
+            "GROUP BY t.status, t.priority")
+    List<TaskAggregateRow> aggregateByProjectId(@Param("projectId") UUID projectId,
+                                                @Param("now") LocalDateTime now,
+                                                @Param("closedStatuses") Collection<TaskStatus> closedStatuses);
 
     @Query("SELECT t FROM Task t JOIN FETCH t.assignedTo u WHERE u.id= :assignedTo")
     List<Task> findByAssignedTo(@Param("assignedTo") UUID assignedTo);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.deletedAt = :deletedAt WHERE t.id = :id")
+    int softDeleteById(@Param("id") UUID id, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Task t SET t.deletedAt = :deletedAt WHERE t.project.id = :projectId")
+    int softDeleteByProjectId(@Param("projectId") UUID projectId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // Purge queries are native: the entity's deleted_at restriction would hide exactly the rows they target.
+
+    /**
+     * Locks the next {@code limit} deleted tasks of the project, skipping those another purge holds.
+     */
+    @Query(value = "SELECT t.id FROM tasks t WHERE t.project_id = :projectId AND t.deleted_at IS NOT NULL " +
+            "ORDER BY t.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<UUID> lockDeletedIdsByProjectId(@Param("projectId") UUID projectId, @Param("limit") int limit);
+
+    @Query(value = "SELECT t.id FROM tasks t WHERE t.id = :id AND t.deleted_at IS NOT NULL FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<UUID> lockDeletedId(@Param("id") UUID id);
+
+    /**
+     * Deleted tasks whose project is still live; tasks of deleted projects are purged with the project.
+     */
+    @Query(value = "SELECT t.id AS id, t.project_id AS \"projectId\" FROM tasks t WHERE t.deleted_at IS NOT NULL " +
+            "AND NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = t.project_id AND p.deleted_at IS NOT NULL) " +
+            "LIMIT :limit",
+            nativeQuery = true)
+    List<DeletedTaskRow> findDeleted(@Param("limit") int limit);
+
+    @Modifying
+    @Query(value = "DELETE FROM tasks WHERE id IN (:ids) AND deleted_at IS NOT NULL", nativeQuery = true)
+    int purgeByIds(@Param("ids") Collection<UUID> ids);
 }
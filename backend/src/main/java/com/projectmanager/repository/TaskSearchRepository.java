@@ -0,0 +1,49 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.Task;
+import com.projectmanager.repository.projection.TaskSearchRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Full-text search over the tasks.search_vector column maintained by the V1__task_search migration.
+ */
+@Repository
+public interface TaskSearchRepository extends JpaRepository<Task, UUID> {
+
+    String VISIBLE_MATCHES =
+            "FROM tasks t " +
+            "JOIN projects p ON p.id = t.project_id " +
+            "WHERE t.search_vector @@ websearch_to_tsquery('english', :query) " +
+            "AND t.deleted_at IS NULL AND p.deleted_at IS NULL " +
+            "AND (p.created_by_user_id = :userId " +
+            "     OR EXISTS (SELECT 1 FROM project_members pm WHERE pm.project_id = p.id AND pm.user_id = :userId)) ";
+
+    // Ranking and paging happen in the inner query so ts_headline only runs for the returned page.
+    // Highlights are HTML: the stored text is escaped (V15__search_highlight_escape) and only <mark> is markup.
+    @Query(value = "SELECT hit.id, hit.project_id AS \"projectId\", hit.project_name AS \"projectName\", " +
+            "hit.title, hit.status, hit.rank, " +
+            "ts_headline('english', html_escape(coalesce(hit.title, '')), websearch_to_tsquery('english', :query), " +
+            "  'StartSel=<mark>, StopSel=</mark>, HighlightAll=true') AS \"titleHighlight\", " +
+            "ts_headline('english', html_escape(coalesce(hit.description, '')), websearch_to_tsquery('english', :query), " +
+            "  'StartSel=<mark>, StopSel=</mark>, MaxFragments=2, MaxWords=30, MinWords=10') AS snippet " +
+            "FROM (SELECT t.id, t.project_id, p.name AS project_name, t.title, t.description, t.status, " +
+            "      CAST(ts_rank_cd(t.search_vector, websearch_to_tsquery('english', :query)) AS double precision) AS rank " +
+            "      " + VISIBLE_MATCHES +
+            "      ORDER BY rank DESC, t.id " +
+            "      LIMIT :limit OFFSET :offset) hit " +
+            "ORDER BY hit.rank DESC, hit.id",
+            nativeQuery = true)
+    List<TaskSearchRow> search(@Param("query") String query,
+                               @Param("userId") UUID userId,
+                               @Param("limit") int limit,
+                               @Param("offset") long offset);
+
+    @Query(value = "SELECT COUNT(*) " + VISIBLE_MATCHES, nativeQuery = true)
+    long countMatches(@Param("query") String query, @Param("userId") UUID userId);
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -18,8 +19,14 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByEmail(String email);
 
     Optional<User> findByKeycloakId(UUID key);
+
+    @Query("SELECT u.id FROM User u WHERE u.keycloakId = :key")
+    Optional<UUID> findIdByKeycloakId(@Param("key") UUID key);
 //    Set<User> findUsersByProjects(Set<Project> projects);
 
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    Set<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
     @Query("SELECT u FROM User u JOIN FETCH u.projects p WHERE p.id = :projectId")
     Set<User> findMembersByProject_Id(@Param("projectId") UUID projectId);
 }
@@ -0,0 +1,41 @@
+package com.projectmanager.repository;
+
+import com.projectmanager.entity.User;
+import com.projectmanager.repository.projection.WeeklyWorkloadRow;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reads the user_weekly_workload aggregate from the V9__user_weekly_workload migration, which the
+ * database keeps current on every task write.
+ */
+@Repository
+public interface WorkloadRepository extends JpaRepository<User, UUID> {
+
+    /**
+     * Every user's workload for the weeks starting in {@code [fromWeek, toWeek]}, as one range scan of the
+     * aggregate's (week_start, user_id) key.
+     */
+    @Query(value = "SELECT w.user_id AS \"userId\", u.username AS username, w.week_start AS \"weekStart\", " +
+            "w.task_count AS \"taskCount\", w.estimated_hours AS \"estimatedHours\", " +
+            "w.open_task_count AS \"openTaskCount\", w.open_hours AS \"openHours\" " +
+            "FROM user_weekly_workload w JOIN users u ON u.id = w.user_id " +
+            "WHERE w.week_start BETWEEN :fromWeek AND :toWeek " +
+            "ORDER BY u.username, w.user_id, w.week_start",
+            nativeQuery = true)
+    List<WeeklyWorkloadRow> findByWeekRange(@Param("fromWeek") LocalDate fromWeek, @Param("toWeek") LocalDate toWeek);
+
+    /**
+     * Recomputes the aggregate from the tasks table.
+     *
+     * @return the number of (week, user) rows written
+     */
+    @Query(value = "SELECT rebuild_user_weekly_workload()", nativeQuery = true)
+    long rebuild();
+}
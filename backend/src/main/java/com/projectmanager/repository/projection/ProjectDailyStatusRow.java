@@ -0,0 +1,23 @@
+package com.projectmanager.repository.projection;
+
+import java.time.LocalDate;
+
+public interface ProjectDailyStatusRow {
+    LocalDate getDay();
+
+    Integer getOpenCount();
+
+    Integer getInProgressCount();
+
+    Integer getDoneCount();
+
+    Long getOpenHours();
+
+    Long getInProgressHours();
+
+    Long getDoneHours();
+
+    Integer getCompletedCount();
+
+    Long getCompletedHours();
+}
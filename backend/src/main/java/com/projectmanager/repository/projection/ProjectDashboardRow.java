@@ -0,0 +1,46 @@
+package com.projectmanager.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface ProjectDashboardRow {
+    UUID getId();
+
+    String getName();
+
+    String getDescription();
+
+    String getStatus();
+
+    String getColor();
+
+    String getIcon();
+
+    LocalDateTime getStartDate();
+
+    LocalDateTime getEndDate();
+
+    UUID getCreatedByUserId();
+
+    LocalDateTime getCreatedAt();
+
+    Long getMemberCount();
+
+    Long getTaskCount();
+
+    Long getTodoCount();
+
+    Long getInProgressCount();
+
+    Long getInReviewCount();
+
+    Long getTestingCount();
+
+    Long getDoneCount();
+
+    Long getClosedCount();
+
+    Long getOverdueCount();
+
+    LocalDateTime getLastActivityAt();
+}
@@ -0,0 +1,16 @@
+package com.projectmanager.repository.projection;
+
+import com.projectmanager.model.task.TaskPriority;
+import com.projectmanager.model.task.TaskStatus;
+
+public interface TaskAggregateRow {
+    TaskStatus getStatus();
+
+    TaskPriority getPriority();
+
+    Long getTaskCount();
+
+    Long getOverdueCount();
+
+    Long getEstimatedHours();
+}
@@ -0,0 +1,19 @@
+package com.projectmanager.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TaskChangeRow {
+    Long getVersion();
+
+    LocalDateTime getChangedAt();
+
+    UUID getActorUserId();
+
+    String getActorUsername();
+
+    /**
+     * {@code {"field": [old, new], ...}}
+     */
+    String getChanges();
+}
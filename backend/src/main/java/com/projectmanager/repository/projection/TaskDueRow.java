@@ -0,0 +1,10 @@
+package com.projectmanager.repository.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TaskDueRow {
+    UUID getId();
+
+    LocalDateTime getDueDate();
+}
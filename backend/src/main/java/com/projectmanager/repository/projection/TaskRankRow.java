@@ -0,0 +1,13 @@
+package com.projectmanager.repository.projection;
+
+import java.util.UUID;
+
+public interface TaskRankRow {
+    UUID getId();
+
+    UUID getProjectId();
+
+    String getStatus();
+
+    String getRank();
+}
@@ -0,0 +1,30 @@
+package com.projectmanager.repository.projection;
+
+import com.projectmanager.model.task.TaskPriority;
+import com.projectmanager.model.task.TaskStatus;
+import com.projectmanager.model.task.TaskType;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TaskScheduleRow {
+    UUID getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    TaskPriority getPriority();
+
+    TaskType getType();
+
+    TaskStatus getStatus();
+
+    Integer getEstimatedHours();
+
+    LocalDateTime getDueDate();
+
+    UUID getAssignedToUserId();
+
+    UUID getProjectId();
+}
@@ -0,0 +1,21 @@
+package com.projectmanager.repository.projection;
+
+import java.util.UUID;
+
+public interface TaskSearchRow {
+    UUID getId();
+
+    UUID getProjectId();
+
+    String getProjectName();
+
+    String getTitle();
+
+    String getStatus();
+
+    Double getRank();
+
+    String getTitleHighlight();
+
+    String getSnippet();
+}
@@ -0,0 +1,11 @@
+package com.projectmanager.repository.projection;
+
+import java.time.LocalDateTime;
+
+public interface TaskSnapshotRow {
+    Long getVersion();
+
+    LocalDateTime getTakenAt();
+
+    String getState();
+}
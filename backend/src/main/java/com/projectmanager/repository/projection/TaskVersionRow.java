@@ -0,0 +1,11 @@
+package com.projectmanager.repository.projection;
+
+import java.util.UUID;
+
+public interface TaskVersionRow {
+    UUID getId();
+
+    UUID getProjectId();
+
+    Long getVersion();
+}
@@ -0,0 +1,20 @@
+package com.projectmanager.repository.projection;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface WeeklyWorkloadRow {
+    UUID getUserId();
+
+    String getUsername();
+
+    LocalDate getWeekStart();
+
+    Integer getTaskCount();
+
+    Long getEstimatedHours();
+
+    Integer getOpenTaskCount();
+
+    Long getOpenHours();
+}
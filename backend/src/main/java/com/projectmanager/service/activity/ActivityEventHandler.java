@@ -1,5 +1,7 @@
 package com.projectmanager.service.activity;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.projectmanager.dto.response.ProjectResponse;
 import com.projectmanager.dto.response.UserResponse;
 import com.projectmanager.entity.Activity;
@@ -8,8 +10,12 @@ import com.projectmanager.entity.Project;
 import com.projectmanager.entity.Task;
 import com.projectmanager.entity.User;
 import com.projectmanager.event.CommentAddedEvent;
+import com.projectmanager.event.TaskBatchEvent;
+import com.projectmanager.event.TaskReminderSentEvent;
+import com.projectmanager.event.TaskStatusTransitionEvent;
 import com.projectmanager.event.TaskUpdatedEvent;
 import com.projectmanager.repository.CommentRepository;
+import com.projectmanager.repository.TaskHistoryRepository;
 import com.projectmanager.repository.TaskRepository;
 import com.projectmanager.service.project.ProjectService;
 import com.projectmanager.service.task.TaskService;
@@ -21,6 +27,10 @@ import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -36,8 +46,10 @@ public class ActivityEventHandler {
     private final CommentRepository commentRepository;
     private final TaskRepository taskRepository;
     private final NotificationService notificationService;
+    private final TaskHistoryRepository taskHistoryRepository;
+    private final ObjectMapper objectMapper;
 
-    public ActivityEventHandler(ActivityService activityService, CommentRepository commentRepository , ProjectService projectService, UserService userService, TaskService taskService, TaskRepository taskRepository, NotificationService notificationService) {
+    public ActivityEventHandler(ActivityService activityService, CommentRepository commentRepository , ProjectService projectService, UserService userService, TaskService taskService, TaskRepository taskRepository, NotificationService notificationService, TaskHistoryRepository taskHistoryRepository, ObjectMapper objectMapper) {
         this.activityService = activityService;
         this.projectService = projectService;
         this.userService = userService;
@@ -45,6 +57,8 @@ public class ActivityEventHandler {
         this.commentRepository = commentRepository;
         this.taskRepository = taskRepository;
         this.notificationService = notificationService;
+        this.taskHistoryRepository = taskHistoryRepository;
+        this.objectMapper = objectMapper;
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -89,7 +103,7 @@ public class ActivityEventHandler {
                 .orElseThrow(()-> new EntityNotFoundException("task not found with ID: " + event.getTask().getId()));
             Activity activity = new Activity();
             activity.setAction("Task Updated");
-            activity.setDetails("Task '" + task.getTitle() + "' was updated.");
+            activity.setDetails("Task '" + task.getTitle() + "' was updated" + changedFields(task.getId()) + ".");
             activity.setTask(task);
             activity.setCreatedAt(LocalDateTime.now());
 
@@ -109,4 +123,84 @@ public class ActivityEventHandler {
         Set<UserResponse> recipients = userService.getProjectMembers(project.get().getId());
         notificationService.sendNotification(recipients, activity);
         }
-}
\ No newline at end of file
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskBatchEvent(TaskBatchEvent event) {
+        Project project = projectService.findProjectById(event.getProjectId())
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + event.getProjectId()));
+        User user = userService.getUserById(event.getActorUserId())
+                .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + event.getActorUserId()));
+
+        Activity activity = new Activity();
+        if (event.getCreatedCount() > 0) {
+            activity.setAction("Tasks Created");
+            activity.setDetails(user.getUsername() + " created " + event.getCreatedCount() + " tasks in '" + project.getName() + "'.");
+        } else {
+            activity.setAction("Tasks Updated");
+            activity.setDetails(user.getUsername() + " updated " + event.getUpdatedCount() + " tasks in '" + project.getName() + "'.");
+        }
+        activity.setProject(project);
+        activity.setUser(user);
+        activity.setCreatedAt(LocalDateTime.now());
+
+        activityService.createActivity(activity);
+
+        Set<UserResponse> recipients = userService.getProjectMembers(project.getId());
+        notificationService.sendNotification(recipients, activity);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskReminderSentEvent(TaskReminderSentEvent event) {
+        notificationService.sendNotification(Set.of(event.getRecipient()), event.getActivity());
+    }
+
+    /**
+     * One activity for the whole transition, attached to the project when all tasks share one, and one
+     * notification per distinct member across the affected projects.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskStatusTransitionEvent(TaskStatusTransitionEvent event) {
+        User user = userService.getUserById(event.getActorUserId())
+                .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + event.getActorUserId()));
+        List<Project> projects = projectService.findProjectsByIds(event.getProjectIds());
+
+        Activity activity = new Activity();
+        activity.setAction("Tasks Status Changed");
+        if (projects.size() == 1) {
+            activity.setProject(projects.get(0));
+            activity.setDetails(user.getUsername() + " moved " + event.getTaskCount() + " tasks in '"
+                    + projects.get(0).getName() + "' to " + event.getStatus() + ".");
+        } else {
+            activity.setDetails(user.getUsername() + " moved " + event.getTaskCount() + " tasks across "
+                    + projects.size() + " projects to " + event.getStatus() + ".");
+        }
+        activity.setUser(user);
+        activity.setCreatedAt(LocalDateTime.now());
+
+        activityService.createActivity(activity);
+
+        Map<UUID, UserResponse> recipients = new LinkedHashMap<>();
+        for (Project project : projects) {
+            userService.getProjectMembers(project.getId()).forEach(member -> recipients.putIfAbsent(member.getId(), member));
+        }
+        notificationService.sendNotification(new LinkedHashSet<>(recipients.values()), activity);
+    }
+
+    /**
+     * ": field, field" for the fields of the task's latest recorded change, or an empty string.
+     */
+    private String changedFields(UUID taskId) {
+        return taskHistoryRepository.findChanges(taskId, Long.MAX_VALUE, 1).stream()
+                .findFirst()
+                .map(change -> {
+                    try {
+                        Set<String> fields = new LinkedHashSet<>();
+                        objectMapper.readTree(change.getChanges()).fieldNames().forEachRemaining(fields::add);
+                        return fields.isEmpty() ? "" : ": " + String.join(", ", fields);
+                    } catch (JsonProcessingException e) {
+                        return "";
+                    }
+                })
+                .orElse("");
+    }
+}
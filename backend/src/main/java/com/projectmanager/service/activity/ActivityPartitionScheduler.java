@@ -0,0 +1,74 @@
+package com.projectmanager.service.activity;
+
+import com.projectmanager.repository.ActivityRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Objects;
+
+/**
+ * Keeps the monthly partitions of activities ahead of the clock and folds months older than the retention
+ * into activity_archive. Both steps are idempotent, so every node may run them.
+ */
+@Component
+public class ActivityPartitionScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ActivityPartitionScheduler.class);
+
+    private final ActivityRepository activityRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int partitionsAhead;
+    private final int retentionMonths;
+
+    public ActivityPartitionScheduler(ActivityRepository activityRepository,
+                                      PlatformTransactionManager transactionManager,
+                                      @Value("${activities.partitions-ahead:3}") int partitionsAhead,
+                                      @Value("${activities.retention-months:12}") int retentionMonths) {
+        this.activityRepository = activityRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.partitionsAhead = partitionsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @Scheduled(initialDelayString = "PT1M", fixedDelayString = "${activities.maintenance-interval:PT6H}")
+    public void maintain() {
+        LocalDate today = LocalDate.now();
+        try {
+            Integer created = transactionTemplate.execute(status ->
+                    activityRepository.createPartitions(today, today.plusMonths(partitionsAhead)));
+            if (created != null && created > 0) {
+                log.info("Created {} activity partitions", created);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to create activity partitions", e);
+        }
+        if (retentionMonths <= 0) {
+            return;
+        }
+        LocalDate before = today.withDayOfMonth(1).minusMonths(retentionMonths);
+        long archived = 0;
+        try {
+            // One transaction per month: DETACH locks all of activities until its transaction ends.
+            for (String partition : activityRepository.findPartitionsBefore(before)) {
+                try {
+                    archived += Objects.requireNonNull(transactionTemplate.execute(status -> activityRepository.archivePartition(partition)));
+                } catch (RuntimeException e) {
+                    // E.g. DETACH timed out behind a long query; the month stays whole and is retried next run.
+                    log.warn("Failed to archive activity partition {}", partition, e);
+                }
+            }
+            archived += Objects.requireNonNull(transactionTemplate.execute(status -> activityRepository.archiveDefaultPartition(before)));
+        } catch (RuntimeException e) {
+            log.warn("Failed to archive activity partitions", e);
+        }
+        if (archived > 0) {
+            log.info("Archived {} activities created before {}", archived, before);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.projectmanager.service.activity;
 
+import com.projectmanager.dto.response.ScheduleDeltaResponse;
 import com.projectmanager.dto.response.UserResponse;
 import com.projectmanager.entity.Activity;
 import org.springframework.stereotype.Service;
@@ -16,4 +17,6 @@ public interface NotificationService {
 
     List<Activity>getNotificationsforUser(UUID userId);
 
+    void sendScheduleDelta(ScheduleDeltaResponse delta);
+
 }
@@ -1,11 +1,17 @@
 package com.projectmanager.service.activity;
 
+import com.projectmanager.dto.response.ScheduleDeltaResponse;
 import com.projectmanager.dto.response.UserResponse;
 import com.projectmanager.entity.Activity;
 import com.projectmanager.repository.ActivityRepository;
+import com.projectmanager.service.project.ProjectMembershipCache;
+import com.projectmanager.service.project.UuidSet;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -15,10 +21,16 @@ public class NotificationServiceImpl implements NotificationService {
 
     private final SimpMessagingTemplate messagingTemplate;
     private final ActivityRepository activityRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final Duration notificationWindow;
 
-    public NotificationServiceImpl(SimpMessagingTemplate messagingTemplate, ActivityRepository activityRepository) {
+    public NotificationServiceImpl(SimpMessagingTemplate messagingTemplate, ActivityRepository activityRepository,
+                                   ProjectMembershipCache projectMembershipCache,
+                                   @Value("${activities.notification-window:P30D}") Duration notificationWindow) {
         this.messagingTemplate = messagingTemplate;
         this.activityRepository = activityRepository;
+        this.projectMembershipCache = projectMembershipCache;
+        this.notificationWindow = notificationWindow;
     }
 
     @Override
@@ -37,8 +49,17 @@ public class NotificationServiceImpl implements NotificationService {
 
     @Override
     public List<Activity> getNotificationsforUser(UUID userId) {
-        return activityRepository.findActivitiesForUserProjects(userId);
+        UuidSet projectIds = projectMembershipCache.getProjectIds(userId);
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        // Bounded by time so only the latest activity partitions are read.
+        return activityRepository.findActivitiesForUserProjects(projectIds.toList(),
+                LocalDateTime.now().minus(notificationWindow));
     }
 
-
-}
\ No newline at end of file
+    @Override
+    public void sendScheduleDelta(ScheduleDeltaResponse delta) {
+        messagingTemplate.convertAndSend("/topic/projects/" + delta.getProjectId() + "/schedule", delta);
+    }
+}
@@ -11,7 +11,6 @@ import java.util.UUID;
 public interface CommentService {
     List<CommentResponse> getCommentsForTask(UUID taskId);
     Optional<Comment> getCommentById(UUID id);
-    List<CommentResponse> getComments();
     void deleteCommentById(UUID id);
     CommentResponse createComment(CommentRequest request, String userId);
     CommentResponse updateComment(UUID id, CommentRequest request);
@@ -47,11 +47,6 @@ public class CommentServiceImpl implements CommentService{
         return commentRepository.findById(id);
     }
 
-    @Override
-    public List<CommentResponse> getComments() {
-        return commentRepository.findAll().stream().map(commentMapper::toResponse).collect(Collectors.toList());
-    }
-
     @Override
     @Transactional
     public void deleteCommentById(UUID id) {
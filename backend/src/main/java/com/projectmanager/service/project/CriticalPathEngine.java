@@ -0,0 +1,184 @@
+package com.projectmanager.service.project;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Critical path method over a task dependency DAG, in O(V + E).
+ * <p>
+ * Times are whole hours relative to the schedule anchor. A forward pass in topological order gives the
+ * earliest start/finish of every task; a backward pass gives the latest start/finish that neither delays
+ * the project end nor misses a task's own deadline. Slack is {@code latestStart - earliestStart}; tasks
+ * with no slack (or negative slack, i.e. a deadline that cannot be met) are on the critical path.
+ */
+public final class CriticalPathEngine {
+
+    private CriticalPathEngine() {
+    }
+
+    /**
+     * @param deadlineHours latest allowed finish, or {@code null} when the task has no due date
+     */
+    public record Node(UUID id, long durationHours, Long deadlineHours) {
+    }
+
+    public record Edge(UUID predecessorId, UUID successorId) {
+    }
+
+    public record NodeSchedule(UUID id, long earliestStart, long earliestFinish, long latestStart, long latestFinish) {
+
+        public long slack() {
+            return latestStart - earliestStart;
+        }
+
+        public boolean critical() {
+            return slack() <= 0;
+        }
+    }
+
+    /**
+     * @param nodes per-task schedule in topological order
+     */
+    public record Schedule(long projectDurationHours, List<NodeSchedule> nodes) {
+    }
+
+    /**
+     * Edges that reference a task missing from {@code nodes} are ignored.
+     *
+     * @throws IllegalStateException when the edges contain a cycle
+     */
+    public static Schedule compute(List<Node> nodes, Collection<Edge> edges) {
+        int n = nodes.size();
+        Map<UUID, Integer> index = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            index.put(nodes.get(i).id(), i);
+        }
+
+        // Compressed adjacency lists in both directions: outStart[i]..outStart[i + 1] indexes outTargets.
+        List<int[]> resolved = new ArrayList<>(edges.size());
+        int[] outDegree = new int[n];
+        int[] inDegree = new int[n];
+        for (Edge edge : edges) {
+            Integer from = index.get(edge.predecessorId());
+            Integer to = index.get(edge.successorId());
+            if (from == null || to == null) {
+                continue;
+            }
+            resolved.add(new int[]{from, to});
+            outDegree[from]++;
+            inDegree[to]++;
+        }
+        int[] outStart = offsets(outDegree);
+        int[] inStart = offsets(inDegree);
+        int[] outTargets = new int[resolved.size()];
+        int[] inSources = new int[resolved.size()];
+        int[] outFill = outStart.clone();
+        int[] inFill = inStart.clone();
+        for (int[] edge : resolved) {
+            outTargets[outFill[edge[0]]++] = edge[1];
+            inSources[inFill[edge[1]]++] = edge[0];
+        }
+
+        // Kahn's algorithm; nodes without predecessors keep their input order.
+        int[] order = new int[n];
+        int[] remaining = inDegree.clone();
+        int head = 0;
+        int tail = 0;
+        for (int i = 0; i < n; i++) {
+            if (remaining[i] == 0) {
+                order[tail++] = i;
+            }
+        }
+        while (head < tail) {
+            int current = order[head++];
+            for (int k = outStart[current]; k < outStart[current + 1]; k++) {
+                if (--remaining[outTargets[k]] == 0) {
+                    order[tail++] = outTargets[k];
+                }
+            }
+        }
+        if (tail != n) {
+            throw new IllegalStateException("Task dependencies contain a cycle");
+        }
+
+        long[] earliestStart = new long[n];
+        long[] earliestFinish = new long[n];
+        long projectDuration = 0;
+        for (int i : order) {
+            long start = 0;
+            for (int k = inStart[i]; k < inStart[i + 1]; k++) {
+                start = Math.max(start, earliestFinish[inSources[k]]);
+            }
+            earliestStart[i] = start;
+            earliestFinish[i] = start + nodes.get(i).durationHours();
+            projectDuration = Math.max(projectDuration, earliestFinish[i]);
+        }
+
+        long[] latestFinish = new long[n];
+        long[] latestStart = new long[n];
+        for (int j = n - 1; j >= 0; j--) {
+            int i = order[j];
+            long finish = projectDuration;
+            for (int k = outStart[i]; k < outStart[i + 1]; k++) {
+                finish = Math.min(finish, latestStart[outTargets[k]]);
+            }
+            Long deadline = nodes.get(i).deadlineHours();
+            if (deadline != null) {
+                finish = Math.min(finish, deadline);
+            }
+            latestFinish[i] = finish;
+            latestStart[i] = finish - nodes.get(i).durationHours();
+        }
+
+        List<NodeSchedule> schedule = new ArrayList<>(n);
+        for (int i : order) {
+            schedule.add(new NodeSchedule(nodes.get(i).id(), earliestStart[i], earliestFinish[i], latestStart[i], latestFinish[i]));
+        }
+        return new Schedule(projectDuration, schedule);
+    }
+
+    /**
+     * Whether adding {@code predecessorId -> successorId} to {@code edges} would close a cycle,
+     * i.e. whether the predecessor is already reachable from the successor.
+     */
+    public static boolean createsCycle(Collection<Edge> edges, UUID predecessorId, UUID successorId) {
+        if (predecessorId.equals(successorId)) {
+            return true;
+        }
+        Map<UUID, List<UUID>> successors = new HashMap<>();
+        for (Edge edge : edges) {
+            successors.computeIfAbsent(edge.predecessorId(), id -> new ArrayList<>()).add(edge.successorId());
+        }
+        Set<UUID> visited = new HashSet<>();
+        Deque<UUID> pending = new ArrayDeque<>();
+        pending.push(successorId);
+        while (!pending.isEmpty()) {
+            UUID current = pending.pop();
+            if (current.equals(predecessorId)) {
+                return true;
+            }
+            if (visited.add(current)) {
+                for (UUID next : successors.getOrDefault(current, List.of())) {
+                    pending.push(next);
+                }
+            }
+        }
+        return false;
+    }
+
+    private static int[] offsets(int[] degree) {
+        int[] start = new int[degree.length + 1];
+        for (int i = 0; i < degree.length; i++) {
+            start[i + 1] = start[i] + degree[i];
+        }
+        return start;
+    }
+}
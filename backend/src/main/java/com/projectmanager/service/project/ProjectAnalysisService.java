@@ -4,25 +4,51 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.databind.SerializationFeature;
-import com.projectmanager.dto.response.TaskResponse;
-import com.projectmanager.entity.Task;
-import com.projectmanager.service.task.TaskService;
+import com.projectmanager.dto.response.TaskDependencySuggestionResponse;
+import com.projectmanager.repository.TaskDependencyRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.repository.projection.TaskScheduleRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.HashMap;
 
+/**
+ * Asks Gemini for dependencies that are missing from the project's task graph. Schedules, slack and the
+ * critical path are computed deterministically by {@link ProjectScheduleService}; the model only proposes
+ * edges, which are validated here and never stored without a user accepting them.
+ * <p>
+ * The task graph is read in a short read-only transaction; the model call itself runs without one, so a slow
+ * response does not hold a pooled connection.
+ */
 @Service
 public class ProjectAnalysisService {
 
-    private final TaskService taskService;
+    private static final Logger log = LoggerFactory.getLogger(ProjectAnalysisService.class);
+
+    private record TaskGraph(List<TaskScheduleRow> tasks, List<CriticalPathEngine.Edge> edges) {
+    }
+
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TransactionTemplate readOnlyTransaction;
     @Value("${gemini.api-key}")
     private String geminiApiKey;
 
@@ -30,51 +56,54 @@ public class ProjectAnalysisService {
 
     private final ObjectMapper objectMapper;
 
-    public ProjectAnalysisService(TaskService taskService) {
-        this.taskService = taskService;
+    public ProjectAnalysisService(TaskRepository taskRepository, TaskDependencyRepository taskDependencyRepository,
+                                  PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
         this.objectMapper = new ObjectMapper();
         this.objectMapper.registerModule(new JavaTimeModule());
         this.objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     }
 
-    public List<Map<String, Object>> analyzeProjectForNetworkMap(UUID projectId) throws IOException, InterruptedException {
+    public List<TaskDependencySuggestionResponse> suggestMissingDependencies(UUID projectId) throws IOException, InterruptedException {
         try {
-            List<TaskResponse> tasks = taskService.getTasksByProjectId(projectId);
-
-            String prompt = "You are an expert Project Management AI. Your primary task is to first infer dependencies " +
-                    "between the following project tasks based on their title, description, and type. " +
-                    "A task can depend on another if it's a logical next step (e.g., 'Develop Login' depends on 'Design Login'). " +
-                    "After you have identified the logical dependencies, perform an analysis to identify tasks " +
-                    "that are on the critical path or are at risk of delay. " +
-                    "A task is at risk if its due date is close, it's part of the critical path, or it's a foundational task " +
-                    "that many other tasks depend on. " +
-                    "For each task, provide the following: " +
-                    "1. The 'dependencies' array, containing the IDs of tasks you have inferred it depends on. " +
-                    "2. A 'riskScore' (0-100). " +
-                    "3. A boolean 'isCriticalPath'. " +
-                    "4. A brief 'aiInsightSummary' of your findings. " +
-                    "Return your response as a JSON array of task objects. Do not include any other text or formatting.\n\n" +
-                    "Project Tasks:\n" + objectMapper.writeValueAsString(tasks);
+            TaskGraph graph = Objects.requireNonNull(readOnlyTransaction.execute(status -> new TaskGraph(
+                    taskRepository.findScheduleRowsByProjectId(projectId),
+                    taskDependencyRepository.findEdgesByProjectId(projectId).stream()
+                            .map(row -> new CriticalPathEngine.Edge(row.getPredecessorId(), row.getSuccessorId()))
+                            .toList())));
+            List<TaskScheduleRow> tasks = graph.tasks();
+            List<CriticalPathEngine.Edge> edges = new ArrayList<>(graph.edges());
+            if (tasks.size() < 2) {
+                return List.of();
+            }
+
+            List<Map<String, Object>> taskPayload = new ArrayList<>(tasks.size());
+            for (TaskScheduleRow task : tasks) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("id", task.getId());
+                entry.put("title", task.getTitle());
+                entry.put("description", task.getDescription());
+                entry.put("type", task.getType());
+                entry.put("status", task.getStatus());
+                taskPayload.add(entry);
+            }
+
+            String prompt = "You are an expert Project Management AI. The following project tasks already have the " +
+                    "listed dependencies (predecessor must finish before successor starts). Identify dependencies that are " +
+                    "missing, based on title, description and type (e.g., 'Develop Login' depends on 'Design Login'). " +
+                    "Only use task IDs from the list, never repeat an existing dependency and never propose a cycle. " +
+                    "For each missing dependency return 'predecessorTaskId', 'successorTaskId' and a one-sentence 'reason'. " +
+                    "Return your response as a JSON array. Do not include any other text or formatting.\n\n" +
+                    "Project Tasks:\n" + objectMapper.writeValueAsString(taskPayload) + "\n\n" +
+                    "Existing Dependencies:\n" + objectMapper.writeValueAsString(edges);
 
             Map<String, Object> properties = new HashMap<>();
-            properties.put("id", Map.of("type", "STRING"));
-            properties.put("title", Map.of("type", "STRING"));
-            properties.put("description", Map.of("type", "STRING"));
-            properties.put("priority", Map.of("type", "STRING"));
-            properties.put("type", Map.of("type", "STRING"));
-            properties.put("status", Map.of("type", "STRING"));
-            properties.put("estimatedHours", Map.of("type", "NUMBER"));
-            properties.put("dueDate", Map.of("type", "STRING"));
-            properties.put("projectId", Map.of("type", "STRING"));
-            properties.put("assignedToUserId", Map.of("type", "STRING"));
-            properties.put("dependencies", Map.of(
-                    "type", "ARRAY",
-                    "items", Map.of("type", "STRING")
-            ));
-            properties.put("isAtRisk", Map.of("type", "BOOLEAN"));
-            properties.put("riskScore", Map.of("type", "NUMBER"));
-            properties.put("isCriticalPath", Map.of("type", "BOOLEAN"));
-            properties.put("aiInsightSummary", Map.of("type", "STRING")); // Fixed typo here
+            properties.put("predecessorTaskId", Map.of("type", "STRING"));
+            properties.put("successorTaskId", Map.of("type", "STRING"));
+            properties.put("reason", Map.of("type", "STRING"));
 
             Map<String, Object> responseSchema = new HashMap<>();
             responseSchema.put("type", "ARRAY");
@@ -83,7 +112,6 @@ public class ProjectAnalysisService {
                     "properties", properties
             ));
 
-            // Step 4: Build the API request payload and send it.
             Map<String, Object> payload = Map.of(
                     "contents", List.of(
                             Map.of("parts", List.of(Map.of("text", prompt)))
@@ -108,16 +136,47 @@ public class ProjectAnalysisService {
                         " Body: " + response.body());
             }
 
-            // Step 5: Parse the AI's response and return the result.
             JsonNode rootNode = objectMapper.readTree(response.body());
             String jsonResult = rootNode.get("candidates").get(0).get("content").get("parts").get(0).get("text").asText();
-
-            return objectMapper.readValue(jsonResult, List.class);
+            JsonNode suggestions = objectMapper.readTree(jsonResult);
+
+            // The model is only trusted for ideas: unknown ids, duplicates and cycles are dropped here.
+            Set<UUID> taskIds = new HashSet<>();
+            tasks.forEach(task -> taskIds.add(task.getId()));
+            List<TaskDependencySuggestionResponse> result = new ArrayList<>();
+            for (JsonNode suggestion : suggestions) {
+                UUID predecessorId = parseId(suggestion.path("predecessorTaskId").asText(null));
+                UUID successorId = parseId(suggestion.path("successorTaskId").asText(null));
+                if (predecessorId == null || successorId == null
+                        || !taskIds.contains(predecessorId) || !taskIds.contains(successorId)
+                        || edges.contains(new CriticalPathEngine.Edge(predecessorId, successorId))
+                        || CriticalPathEngine.createsCycle(edges, predecessorId, successorId)) {
+                    continue;
+                }
+                edges.add(new CriticalPathEngine.Edge(predecessorId, successorId));
+
+                TaskDependencySuggestionResponse dto = new TaskDependencySuggestionResponse();
+                dto.setPredecessorTaskId(predecessorId);
+                dto.setSuccessorTaskId(successorId);
+                dto.setReason(suggestion.path("reason").asText(null));
+                result.add(dto);
+            }
+            return result;
 
         } catch (IOException | InterruptedException e) {
-            System.err.println("Error in analyzeProjectForNetworkMap: " + e.getMessage());
-            e.printStackTrace();
+            log.warn("Failed to suggest missing dependencies for project {}", projectId, e);
             throw new RuntimeException("Failed to analyze project: " + e.getMessage(), e);
         }
     }
-}
\ No newline at end of file
+
+    private static UUID parseId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.projectmanager.service.project;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.projectmanager.event.ProjectDeletedEvent;
+import com.projectmanager.event.ProjectMembershipChangedEvent;
+import com.projectmanager.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Membership index shared by the services: the projects each user can access (as creator or member) and the
+ * members of each project, as compact {@link UuidSet}s in two bounded Caffeine caches. Entries are dropped
+ * after the membership change or project deletion commits, so readers never see an uncommitted change; a
+ * load racing with the invalidation of the same key is discarded by Caffeine.
+ * <p>
+ * Hit and miss counts are published as {@code cache.*} meters named {@code project.membership.users} and
+ * {@code project.membership.projects}.
+ * <p>
+ * Each instance holds its own copy. Changes made on other instances arrive through
+ * {@link ProjectMembershipNotificationListener} within {@code membership-cache.notify-poll-interval}; until
+ * then this instance still answers by the old membership. That delay costs one cheap poll per interval,
+ * where getting the same bound from expiry alone would reload every entry that often. If the listener loses
+ * its connection the cache is cleared, and {@code expire-after-write} bounds staleness while it cannot
+ * reconnect.
+ */
+@Component
+public class ProjectMembershipCache {
+
+    private final ProjectRepository projectRepository;
+    private final LoadingCache<UUID, UuidSet> projectsByUser;
+    private final LoadingCache<UUID, UuidSet> membersByProject;
+
+    public ProjectMembershipCache(ProjectRepository projectRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${membership-cache.max-ids:1000000}") long maxIds,
+                                  @Value("${membership-cache.expire-after-write:PT30M}") Duration expireAfterWrite) {
+        this.projectRepository = projectRepository;
+        this.projectsByUser = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumWeight(maxIds)
+                .weigher((UUID userId, UuidSet projectIds) -> 1 + projectIds.size())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(userId -> UuidSet.of(projectRepository.findAccessibleProjectIds(userId))),
+                "project.membership.users");
+        this.membersByProject = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumWeight(maxIds)
+                .weigher((UUID projectId, UuidSet memberIds) -> 1 + memberIds.size())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build(projectId -> UuidSet.of(projectRepository.findMemberIds(projectId))),
+                "project.membership.projects");
+    }
+
+    /** Projects the user created or is a member of, excluding deleted ones. */
+    public UuidSet getProjectIds(UUID userId) {
+        return projectsByUser.get(userId);
+    }
+
+    public UuidSet getMemberIds(UUID projectId) {
+        return membersByProject.get(projectId);
+    }
+
+    public boolean canAccess(UUID userId, UUID projectId) {
+        return getProjectIds(userId).contains(projectId);
+    }
+
+    public void evictUser(UUID userId) {
+        projectsByUser.invalidate(userId);
+    }
+
+    public void evictProject(UUID projectId) {
+        membersByProject.invalidate(projectId);
+    }
+
+    /**
+     * Drops the project and every user entry that includes it, for a project nobody can access any more.
+     */
+    public void evictProjectFromAllUsers(UUID projectId) {
+        evictProject(projectId);
+        // Covers the creator and members alike without a query; user entries are scanned in memory.
+        projectsByUser.asMap().values().removeIf(projectIds -> projectIds.contains(projectId));
+    }
+
+    public void evictAll() {
+        projectsByUser.invalidateAll();
+        membersByProject.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProjectMembershipChangedEvent(ProjectMembershipChangedEvent event) {
+        evictProject(event.getProjectId());
+        projectsByUser.invalidateAll(event.getAddedUserIds());
+        projectsByUser.invalidateAll(event.getRemovedUserIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProjectDeletedEvent(ProjectDeletedEvent event) {
+        evictProjectFromAllUsers(event.getProjectId());
+    }
+}
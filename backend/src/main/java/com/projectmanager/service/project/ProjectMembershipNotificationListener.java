@@ -0,0 +1,137 @@
+package com.projectmanager.service.project;
+
+import com.projectmanager.event.TaskProjectChangedEvent;
+import jakarta.annotation.PreDestroy;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Applies the membership changes of every instance to this instance's {@link ProjectMembershipCache}. The
+ * triggers of V16__project_membership_notify publish each change on the project_membership channel when its
+ * transaction commits; this listener polls the channel every {@code membership-cache.notify-poll-interval}.
+ * Task moves between projects arrive the same way on the task_project channel (V17__task_project_notify) and
+ * are republished as {@link TaskProjectChangedEvent}s for the caches that resolve tasks to their project.
+ * <p>
+ * The channels are held on a dedicated connection outside the pool, since LISTEN is bound to its session.
+ * Notifications sent while it is down are lost, so the caches are dropped whenever it (re)connects.
+ * Changes made here are evicted by the caches' own event listeners as well; handling them twice is harmless.
+ */
+@Component
+public class ProjectMembershipNotificationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectMembershipNotificationListener.class);
+    static final String CHANNEL = "project_membership";
+    static final String TASK_CHANNEL = "task_project";
+
+    private final ProjectMembershipCache projectMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final DataSourceProperties dataSourceProperties;
+    private Connection connection;
+
+    public ProjectMembershipNotificationListener(ProjectMembershipCache projectMembershipCache,
+                                                 ApplicationEventPublisher eventPublisher,
+                                                 DataSourceProperties dataSourceProperties) {
+        this.projectMembershipCache = projectMembershipCache;
+        this.eventPublisher = eventPublisher;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @Scheduled(fixedDelayString = "${membership-cache.notify-poll-interval:PT1S}")
+    public synchronized void poll() {
+        try {
+            if (connection == null) {
+                connect();
+            }
+            // The driver only reads notifications off the socket while it runs a statement.
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SELECT 1");
+            }
+            PGNotification[] notifications = connection.unwrap(PGConnection.class).getNotifications();
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    if (TASK_CHANNEL.equals(notification.getName())) {
+                        applyTaskMove(notification.getParameter());
+                    } else {
+                        apply(notification.getParameter());
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            if (connection != null) {
+                log.warn("Lost the {} channel; dropping the membership cache and reconnecting", CHANNEL, e);
+            } else {
+                // Retried every poll while the database is down; logged once it is lost above.
+                log.debug("Could not connect to the {} channel", CHANNEL, e);
+            }
+            disconnect();
+            evictAll();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        disconnect();
+    }
+
+    void apply(String payload) {
+        try {
+            int separator = payload.indexOf(':');
+            if (separator < 0) {
+                projectMembershipCache.evictProjectFromAllUsers(UUID.fromString(payload));
+                return;
+            }
+            projectMembershipCache.evictProject(UUID.fromString(payload.substring(0, separator)));
+            projectMembershipCache.evictUser(UUID.fromString(payload.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed {} notification '{}'", CHANNEL, payload);
+        }
+    }
+
+    void applyTaskMove(String payload) {
+        try {
+            eventPublisher.publishEvent(new TaskProjectChangedEvent(this, UUID.fromString(payload)));
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed {} notification '{}'", TASK_CHANNEL, payload);
+        }
+    }
+
+    private void connect() throws SQLException {
+        connection = DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("LISTEN " + CHANNEL);
+            statement.execute("LISTEN " + TASK_CHANNEL);
+        }
+        // Anything cached before LISTEN took effect may have missed its notification.
+        evictAll();
+    }
+
+    private void evictAll() {
+        projectMembershipCache.evictAll();
+        eventPublisher.publishEvent(new TaskProjectChangedEvent(this, null));
+    }
+
+    private void disconnect() {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Failed to close the {} connection", CHANNEL, e);
+        }
+        connection = null;
+    }
+}
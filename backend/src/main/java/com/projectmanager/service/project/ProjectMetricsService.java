@@ -0,0 +1,21 @@
+package com.projectmanager.service.project;
+
+import com.projectmanager.dto.response.BurndownResponse;
+import com.projectmanager.dto.response.VelocityResponse;
+import com.projectmanager.model.project.MetricsPeriod;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public interface ProjectMetricsService {
+
+    /**
+     * One point per day in {@code [from, to]} with the project's task counts and hours per status bucket.
+     */
+    BurndownResponse getBurndown(UUID projectId, LocalDate from, LocalDate to);
+
+    /**
+     * Tasks and hours completed per {@code period} in {@code [from, to]}, net of reopened tasks.
+     */
+    VelocityResponse getVelocity(UUID projectId, LocalDate from, LocalDate to, MetricsPeriod period);
+}
@@ -0,0 +1,151 @@
+package com.projectmanager.service.project;
+
+import com.projectmanager.dto.response.BurndownResponse;
+import com.projectmanager.dto.response.VelocityResponse;
+import com.projectmanager.model.project.MetricsPeriod;
+import com.projectmanager.repository.ProjectMetricsRepository;
+import com.projectmanager.repository.ProjectRepository;
+import com.projectmanager.repository.projection.ProjectDailyStatusRow;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Burndown and velocity series read from the per-project daily status buckets, so a range costs one
+ * indexed read of at most one row per day plus the row that carries the starting levels.
+ */
+@Service
+public class ProjectMetricsServiceImpl implements ProjectMetricsService {
+
+    private static final int DEFAULT_DAYS = 30;
+    private static final int DEFAULT_PERIODS = 12;
+    private static final int MAX_DAYS = 732;
+
+    private final ProjectMetricsRepository projectMetricsRepository;
+    private final ProjectRepository projectRepository;
+
+    @Autowired
+    public ProjectMetricsServiceImpl(ProjectMetricsRepository projectMetricsRepository, ProjectRepository projectRepository) {
+        this.projectMetricsRepository = projectMetricsRepository;
+        this.projectRepository = projectRepository;
+    }
+
+    @PreAuthorize("hasAnyRole('admin','project-manager', 'developer', 'observer')")
+    @Override
+    @Transactional(readOnly = true)
+    public BurndownResponse getBurndown(UUID projectId, LocalDate from, LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_DAYS - 1) : from;
+        List<ProjectDailyStatusRow> rows = readRange(projectId, start, end);
+
+        List<BurndownResponse.Point> points = new ArrayList<>();
+        int next = 0;
+        ProjectDailyStatusRow current = null;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            // Days without a row keep the levels of the latest earlier one.
+            while (next < rows.size() && !rows.get(next).getDay().isAfter(day)) {
+                current = rows.get(next++);
+            }
+            points.add(toPoint(day, current));
+        }
+
+        BurndownResponse response = new BurndownResponse();
+        response.setProjectId(projectId);
+        response.setFrom(start);
+        response.setTo(end);
+        response.setPoints(points);
+        return response;
+    }
+
+    @PreAuthorize("hasAnyRole('admin','project-manager', 'developer', 'observer')")
+    @Override
+    @Transactional(readOnly = true)
+    public VelocityResponse getVelocity(UUID projectId, LocalDate from, LocalDate to, MetricsPeriod period) {
+        MetricsPeriod unit = period == null ? MetricsPeriod.WEEK : period;
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null
+                ? periodStart(end, unit).minus(DEFAULT_PERIODS - 1, chronoUnit(unit))
+                : periodStart(from, unit);
+        List<ProjectDailyStatusRow> rows = readRange(projectId, start, end);
+
+        Map<LocalDate, VelocityResponse.Point> points = new LinkedHashMap<>();
+        for (LocalDate periodStart = start; !periodStart.isAfter(end); periodStart = periodStart.plus(1, chronoUnit(unit))) {
+            VelocityResponse.Point point = new VelocityResponse.Point();
+            point.setPeriodStart(periodStart);
+            points.put(periodStart, point);
+        }
+        for (ProjectDailyStatusRow row : rows) {
+            // The carried-over row before the range has no completions inside it.
+            VelocityResponse.Point point = points.get(periodStart(row.getDay(), unit));
+            if (point != null && !row.getDay().isBefore(start)) {
+                point.setCompletedCount(point.getCompletedCount() + row.getCompletedCount());
+                point.setCompletedHours(point.getCompletedHours() + row.getCompletedHours());
+            }
+        }
+
+        List<VelocityResponse.Point> series = new ArrayList<>(points.values());
+        VelocityResponse response = new VelocityResponse();
+        response.setProjectId(projectId);
+        response.setPeriod(unit);
+        response.setPoints(series);
+        response.setAverageCount(series.stream().mapToInt(VelocityResponse.Point::getCompletedCount).average().orElse(0));
+        response.setAverageHours(series.stream().mapToLong(VelocityResponse.Point::getCompletedHours).average().orElse(0));
+        return response;
+    }
+
+    private List<ProjectDailyStatusRow> readRange(UUID projectId, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new IllegalArgumentException("Range exceeds the maximum of " + MAX_DAYS + " days");
+        }
+        if (!projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with ID: " + projectId);
+        }
+        return projectMetricsRepository.findDailyStatus(projectId, from, to);
+    }
+
+    private static BurndownResponse.Point toPoint(LocalDate day, ProjectDailyStatusRow row) {
+        BurndownResponse.Point point = new BurndownResponse.Point();
+        point.setDay(day);
+        if (row != null) {
+            point.setOpenCount(row.getOpenCount());
+            point.setInProgressCount(row.getInProgressCount());
+            point.setDoneCount(row.getDoneCount());
+            point.setOpenHours(row.getOpenHours());
+            point.setInProgressHours(row.getInProgressHours());
+            point.setDoneHours(row.getDoneHours());
+            point.setRemainingHours(row.getOpenHours() + row.getInProgressHours());
+        }
+        return point;
+    }
+
+    private static LocalDate periodStart(LocalDate day, MetricsPeriod period) {
+        return switch (period) {
+            case DAY -> day;
+            case WEEK -> day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    private static ChronoUnit chronoUnit(MetricsPeriod period) {
+        return switch (period) {
+            case DAY -> ChronoUnit.DAYS;
+            case WEEK -> ChronoUnit.WEEKS;
+            case MONTH -> ChronoUnit.MONTHS;
+        };
+    }
+}
@@ -0,0 +1,368 @@
+package com.projectmanager.service.project;
+
+import com.projectmanager.dto.response.NetworkMapTaskResponse;
+import com.projectmanager.model.task.TaskPriority;
+import com.projectmanager.model.task.TaskStatus;
+import com.projectmanager.model.task.TaskType;
+import com.projectmanager.repository.projection.TaskDependencyRow;
+import com.projectmanager.repository.projection.TaskScheduleRow;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Mutable critical-path schedule of one project, kept in {@link ProjectScheduleCache}.
+ * <p>
+ * Built once with {@link CriticalPathEngine}, then updated in place: a duration, deadline or edge change
+ * re-propagates earliest dates forward and latest dates backward only through the nodes whose values
+ * actually move, visiting them in topological order. Changes that invalidate the topological order or the
+ * task set (a new edge against the order, an unknown task) return {@code null} and the caller rebuilds.
+ * Not thread-safe; callers synchronise on the instance.
+ */
+final class ProjectSchedule {
+
+    private static final Set<TaskStatus> CLOSED_STATUSES = Set.of(TaskStatus.DONE, TaskStatus.CLOSED);
+    private static final int CRITICAL_RISK_SCORE = 70;
+
+    record ScheduledTask(UUID id, String title, String description, TaskPriority priority, TaskType type,
+                         TaskStatus status, Integer estimatedHours, LocalDateTime dueDate, UUID assignedToUserId) {
+
+        static ScheduledTask of(TaskScheduleRow row) {
+            return new ScheduledTask(row.getId(), row.getTitle(), row.getDescription(), row.getPriority(), row.getType(),
+                    row.getStatus(), row.getEstimatedHours(), row.getDueDate(), row.getAssignedToUserId());
+        }
+
+        boolean closed() {
+            return CLOSED_STATUSES.contains(status);
+        }
+    }
+
+    private final UUID projectId;
+    private final LocalDateTime anchor;
+    private final ScheduledTask[] tasks;
+    private final Map<UUID, Integer> index;
+    private final long[] duration;
+    private final Long[] deadline;
+    private final List<List<Integer>> successors;
+    private final List<List<Integer>> predecessors;
+    private final int[] order;
+    private final int[] position;
+    private final long[] earliestStart;
+    private final long[] earliestFinish;
+    private final long[] latestStart;
+    private final long[] latestFinish;
+    private long projectDuration;
+
+    private ProjectSchedule(UUID projectId, LocalDateTime anchor, int size) {
+        this.projectId = projectId;
+        this.anchor = anchor;
+        this.tasks = new ScheduledTask[size];
+        this.index = new HashMap<>(size * 2);
+        this.duration = new long[size];
+        this.deadline = new Long[size];
+        this.successors = new ArrayList<>(size);
+        this.predecessors = new ArrayList<>(size);
+        this.order = new int[size];
+        this.position = new int[size];
+        this.earliestStart = new long[size];
+        this.earliestFinish = new long[size];
+        this.latestStart = new long[size];
+        this.latestFinish = new long[size];
+    }
+
+    static ProjectSchedule build(UUID projectId, LocalDateTime anchor, List<TaskScheduleRow> rows, List<TaskDependencyRow> edgeRows) {
+        ProjectSchedule schedule = new ProjectSchedule(projectId, anchor, rows.size());
+        List<CriticalPathEngine.Node> nodes = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            ScheduledTask task = ScheduledTask.of(rows.get(i));
+            schedule.tasks[i] = task;
+            schedule.index.put(task.id(), i);
+            schedule.duration[i] = durationHours(task);
+            schedule.deadline[i] = deadlineHours(anchor, task.dueDate());
+            schedule.successors.add(new ArrayList<>(0));
+            schedule.predecessors.add(new ArrayList<>(0));
+            nodes.add(new CriticalPathEngine.Node(task.id(), schedule.duration[i], schedule.deadline[i]));
+        }
+        List<CriticalPathEngine.Edge> edges = new ArrayList<>(edgeRows.size());
+        for (TaskDependencyRow edge : edgeRows) {
+            Integer from = schedule.index.get(edge.getPredecessorId());
+            Integer to = schedule.index.get(edge.getSuccessorId());
+            if (from == null || to == null) {
+                continue;
+            }
+            schedule.successors.get(from).add(to);
+            schedule.predecessors.get(to).add(from);
+            edges.add(new CriticalPathEngine.Edge(edge.getPredecessorId(), edge.getSuccessorId()));
+        }
+
+        CriticalPathEngine.Schedule computed = CriticalPathEngine.compute(nodes, edges);
+        List<CriticalPathEngine.NodeSchedule> ordered = computed.nodes();
+        for (int p = 0; p < ordered.size(); p++) {
+            CriticalPathEngine.NodeSchedule node = ordered.get(p);
+            int i = schedule.index.get(node.id());
+            schedule.order[p] = i;
+            schedule.position[i] = p;
+            schedule.earliestStart[i] = node.earliestStart();
+            schedule.earliestFinish[i] = node.earliestFinish();
+            schedule.latestStart[i] = node.latestStart();
+            schedule.latestFinish[i] = node.latestFinish();
+        }
+        schedule.projectDuration = computed.projectDurationHours();
+        return schedule;
+    }
+
+    UUID getProjectId() {
+        return projectId;
+    }
+
+    LocalDateTime getAnchor() {
+        return anchor;
+    }
+
+    long getProjectDuration() {
+        return projectDuration;
+    }
+
+    boolean contains(UUID taskId) {
+        return index.containsKey(taskId);
+    }
+
+    /**
+     * @return the tasks whose dates changed, or {@code null} when the task is not part of this schedule
+     */
+    List<Integer> updateTask(TaskScheduleRow row) {
+        Integer i = index.get(row.getId());
+        if (i == null || !projectId.equals(row.getProjectId())) {
+            return null;
+        }
+        ScheduledTask task = ScheduledTask.of(row);
+        boolean closedChanged = tasks[i].closed() != task.closed();
+        tasks[i] = task;
+        long newDuration = durationHours(task);
+        Long newDeadline = deadlineHours(anchor, task.dueDate());
+        if (newDuration == duration[i] && Objects.equals(newDeadline, deadline[i])) {
+            return closedChanged ? List.of(i) : List.of();
+        }
+        duration[i] = newDuration;
+        deadline[i] = newDeadline;
+        List<Integer> changed = propagate(i, i);
+        if (closedChanged && !changed.contains(i)) {
+            changed.add(i);
+        }
+        return changed;
+    }
+
+    /**
+     * @return the tasks whose dates changed, or {@code null} when the edge breaks the current
+     * topological order (or references an unknown task) and the schedule must be rebuilt
+     */
+    List<Integer> addEdge(UUID predecessorId, UUID successorId) {
+        Integer from = index.get(predecessorId);
+        Integer to = index.get(successorId);
+        if (from == null || to == null || position[from] >= position[to]) {
+            return null;
+        }
+        if (successors.get(from).contains(to)) {
+            return List.of();
+        }
+        successors.get(from).add(to);
+        predecessors.get(to).add(from);
+        return propagate(to, from);
+    }
+
+    List<Integer> removeEdge(UUID predecessorId, UUID successorId) {
+        Integer from = index.get(predecessorId);
+        Integer to = index.get(successorId);
+        if (from == null || to == null) {
+            return null;
+        }
+        if (!successors.get(from).remove(to)) {
+            return List.of();
+        }
+        predecessors.get(to).remove(from);
+        return propagate(to, from);
+    }
+
+    List<NetworkMapTaskResponse> toResponses() {
+        List<NetworkMapTaskResponse> responses = new ArrayList<>(order.length);
+        for (int i : order) {
+            responses.add(toResponse(i));
+        }
+        return responses;
+    }
+
+    NetworkMapTaskResponse toResponse(int i) {
+        ScheduledTask task = tasks[i];
+        boolean closed = task.closed();
+        long slack = latestStart[i] - earliestStart[i];
+
+        List<UUID> dependencies = new ArrayList<>(predecessors.get(i).size());
+        for (int p : predecessors.get(i)) {
+            dependencies.add(tasks[p].id());
+        }
+
+        NetworkMapTaskResponse response = new NetworkMapTaskResponse();
+        response.setId(task.id());
+        response.setTitle(task.title());
+        response.setDescription(task.description());
+        response.setPriority(task.priority());
+        response.setType(task.type());
+        response.setStatus(task.status());
+        response.setEstimatedHours(task.estimatedHours());
+        response.setDueDate(task.dueDate());
+        response.setProjectId(projectId);
+        response.setAssignedToUserId(task.assignedToUserId());
+        response.setDependencies(dependencies);
+        response.setEarliestStart(anchor.plusHours(earliestStart[i]));
+        response.setEarliestFinish(anchor.plusHours(earliestFinish[i]));
+        response.setLatestStart(anchor.plusHours(latestStart[i]));
+        response.setLatestFinish(anchor.plusHours(latestFinish[i]));
+        response.setSlackHours(slack);
+        response.setCriticalPath(!closed && slack <= 0);
+        response.setAtRisk(!closed && slack < 0);
+        response.setRiskScore(riskScore(closed, slack, projectDuration));
+        response.setAiInsightSummary(insight(closed, slack));
+        return response;
+    }
+
+    /**
+     * Forward from {@code forwardSeed}, backward from {@code backwardSeed}. Earliest dates never depend on
+     * latest ones, so the two passes are independent; only a change of the project end forces a full
+     * backward pass, because every sink's latest finish is pinned to it.
+     */
+    private List<Integer> propagate(int forwardSeed, int backwardSeed) {
+        Set<Integer> changed = new LinkedHashSet<>();
+        long previousDuration = projectDuration;
+        boolean rescanEnd = false;
+
+        PriorityQueue<Integer> forward = new PriorityQueue<>(Comparator.comparingInt(n -> position[n]));
+        Set<Integer> queued = new HashSet<>();
+        forward.add(forwardSeed);
+        queued.add(forwardSeed);
+        while (!forward.isEmpty()) {
+            int i = forward.poll();
+            queued.remove(i);
+            long start = 0;
+            for (int p : predecessors.get(i)) {
+                start = Math.max(start, earliestFinish[p]);
+            }
+            long finish = start + duration[i];
+            if (start == earliestStart[i] && finish == earliestFinish[i]) {
+                continue;
+            }
+            if (earliestFinish[i] == previousDuration && finish < previousDuration) {
+                rescanEnd = true;
+            }
+            earliestStart[i] = start;
+            earliestFinish[i] = finish;
+            projectDuration = Math.max(projectDuration, finish);
+            changed.add(i);
+            for (int s : successors.get(i)) {
+                if (queued.add(s)) {
+                    forward.add(s);
+                }
+            }
+        }
+        if (rescanEnd) {
+            long end = 0;
+            for (long finish : earliestFinish) {
+                end = Math.max(end, finish);
+            }
+            projectDuration = end;
+        }
+
+        if (projectDuration != previousDuration) {
+            for (int p = order.length - 1; p >= 0; p--) {
+                if (updateLatest(order[p])) {
+                    changed.add(order[p]);
+                }
+            }
+        } else {
+            PriorityQueue<Integer> backward = new PriorityQueue<>(Comparator.comparingInt(n -> -position[n]));
+            queued.clear();
+            backward.add(backwardSeed);
+            queued.add(backwardSeed);
+            while (!backward.isEmpty()) {
+                int i = backward.poll();
+                queued.remove(i);
+                if (!updateLatest(i)) {
+                    continue;
+                }
+                changed.add(i);
+                for (int p : predecessors.get(i)) {
+                    if (queued.add(p)) {
+                        backward.add(p);
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(changed);
+    }
+
+    private boolean updateLatest(int i) {
+        long finish = projectDuration;
+        for (int s : successors.get(i)) {
+            finish = Math.min(finish, latestStart[s]);
+        }
+        if (deadline[i] != null) {
+            finish = Math.min(finish, deadline[i]);
+        }
+        long start = finish - duration[i];
+        if (finish == latestFinish[i] && start == latestStart[i]) {
+            return false;
+        }
+        latestFinish[i] = finish;
+        latestStart[i] = start;
+        return true;
+    }
+
+    private static long durationHours(ScheduledTask task) {
+        if (task.closed() || task.estimatedHours() == null) {
+            return 0;
+        }
+        return Math.max(0, task.estimatedHours());
+    }
+
+    private static Long deadlineHours(LocalDateTime anchor, LocalDateTime dueDate) {
+        return dueDate == null ? null : Duration.between(anchor, dueDate).toHours();
+    }
+
+    /**
+     * 100 when a deadline cannot be met, 70 on the critical path, falling linearly to 0 as slack
+     * approaches the whole project duration.
+     */
+    private static int riskScore(boolean closed, long slack, long projectDuration) {
+        if (closed) {
+            return 0;
+        }
+        if (slack < 0) {
+            return 100;
+        }
+        double horizon = Math.max(projectDuration, 1);
+        return (int) Math.round(CRITICAL_RISK_SCORE * (1 - Math.min(slack, horizon) / horizon));
+    }
+
+    private static String insight(boolean closed, long slack) {
+        if (closed) {
+            return "Completed; no longer constrains the schedule.";
+        }
+        if (slack < 0) {
+            return "Misses its own or a downstream due date by " + (-slack) + "h on the current plan.";
+        }
+        if (slack == 0) {
+            return "On the critical path: any delay moves the project end date.";
+        }
+        return slack + "h of slack before it delays a successor, a due date or the project end.";
+    }
+}
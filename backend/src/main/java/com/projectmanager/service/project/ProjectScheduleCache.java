@@ -0,0 +1,188 @@
+package com.projectmanager.service.project;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.projectmanager.dto.response.NetworkMapTaskResponse;
+import com.projectmanager.dto.response.ScheduleDeltaResponse;
+import com.projectmanager.event.ProjectDeletedEvent;
+import com.projectmanager.event.TaskBatchEvent;
+import com.projectmanager.event.TaskCreatedEvent;
+import com.projectmanager.event.TaskDeletedEvent;
+import com.projectmanager.event.TaskDependencyChangedEvent;
+import com.projectmanager.event.TaskStatusTransitionEvent;
+import com.projectmanager.event.TaskUpdatedEvent;
+import com.projectmanager.repository.TaskDependencyRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.repository.projection.TaskScheduleRow;
+import com.projectmanager.service.activity.NotificationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * In-memory {@link ProjectSchedule} per project, kept current from committed task and dependency events
+ * instead of being recomputed on every read. Date changes propagate through the affected subgraph only and
+ * the tasks whose schedule moved are pushed to {@code /topic/projects/{id}/schedule}. Task creation,
+ * deletion and batch writes evict the project; the next read rebuilds it.
+ * <p>
+ * Schedules live in a Caffeine cache bounded by {@code schedule-cache.max-projects} and dropped after
+ * {@code schedule-cache.expire-after-access} without reads; hit and miss counts are published as the
+ * {@code project.schedules} cache meters. Each entry carries the generation of the last change notification
+ * for its project, and a rebuilt schedule is only stored if that generation is still current, so a build
+ * that raced with a commit is never cached. The cache is local to this instance and only sees events
+ * published here.
+ */
+@Component
+public class ProjectScheduleCache {
+
+    private final TaskRepository taskRepository;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final NotificationService notificationService;
+
+    /**
+     * A project's schedule, or only the generation of its last change ({@code schedule == null}) when it has
+     * been evicted or changed while not cached. Generations come from one counter, so they never repeat; a
+     * schedule built without a cached entry has generation 0.
+     */
+    private record Entry(long generation, ProjectSchedule schedule) {
+    }
+
+    private final Cache<UUID, Entry> schedules;
+    private final AtomicLong generations = new AtomicLong();
+
+    public ProjectScheduleCache(TaskRepository taskRepository, TaskDependencyRepository taskDependencyRepository,
+                                NotificationService notificationService, MeterRegistry meterRegistry,
+                                @Value("${schedule-cache.max-projects:1000}") long maxProjects,
+                                @Value("${schedule-cache.expire-after-access:PT1H}") Duration expireAfterAccess) {
+        this.taskRepository = taskRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.notificationService = notificationService;
+        this.schedules = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maxProjects)
+                .expireAfterAccess(expireAfterAccess)
+                .recordStats()
+                .build(),
+                "project.schedules");
+    }
+
+    public List<NetworkMapTaskResponse> getNetworkMap(UUID projectId, LocalDateTime anchor) {
+        Entry entry = schedules.getIfPresent(projectId);
+        ProjectSchedule schedule = entry == null ? null : entry.schedule();
+        if (schedule == null || !schedule.getAnchor().equals(anchor)) {
+            long generation = entry == null ? 0L : entry.generation();
+            ProjectSchedule built = ProjectSchedule.build(projectId, anchor,
+                    taskRepository.findScheduleRowsByProjectId(projectId),
+                    taskDependencyRepository.findEdgesByProjectId(projectId));
+            // Atomic with the invalidations: a change notified since the read leaves a newer generation behind.
+            schedules.asMap().compute(projectId, (id, current) ->
+                    (current == null ? 0L : current.generation()) == generation ? new Entry(generation, built) : current);
+            schedule = built;
+        }
+        synchronized (schedule) {
+            return schedule.toResponses();
+        }
+    }
+
+    public void evict(UUID projectId) {
+        schedules.put(projectId, new Entry(generations.incrementAndGet(), null));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskUpdatedEvent(TaskUpdatedEvent event) {
+        UUID taskId = event.getTask().getId();
+        Optional<TaskScheduleRow> row = taskRepository.findScheduleRowById(taskId);
+
+        // A task moved to another project leaves a stale node behind in its old project.
+        schedules.asMap().values().stream()
+                .map(Entry::schedule)
+                .filter(Objects::nonNull)
+                .filter(schedule -> schedule.contains(taskId))
+                .filter(schedule -> row.isEmpty() || !schedule.getProjectId().equals(row.get().getProjectId()))
+                .map(ProjectSchedule::getProjectId)
+                .toList()
+                .forEach(this::evict);
+        if (row.isEmpty()) {
+            return;
+        }
+        apply(row.get().getProjectId(), schedule -> schedule.updateTask(row.get()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskDependencyChangedEvent(TaskDependencyChangedEvent event) {
+        apply(event.getProjectId(), schedule -> event.isAdded()
+                ? schedule.addEdge(event.getPredecessorId(), event.getSuccessorId())
+                : schedule.removeEdge(event.getPredecessorId(), event.getSuccessorId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskCreatedEvent(TaskCreatedEvent event) {
+        if (event.getTask().getProject() != null) {
+            evict(event.getTask().getProject().getId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskDeletedEvent(TaskDeletedEvent event) {
+        if (event.getTask().getProject() != null) {
+            evict(event.getTask().getProject().getId());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskBatchEvent(TaskBatchEvent event) {
+        evict(event.getProjectId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProjectDeletedEvent(ProjectDeletedEvent event) {
+        evict(event.getProjectId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskStatusTransitionEvent(TaskStatusTransitionEvent event) {
+        event.getProjectIds().forEach(this::evict);
+    }
+
+    private void apply(UUID projectId, Function<ProjectSchedule, List<Integer>> change) {
+        // Keeps the cached schedule, which is updated in place below, under a new generation.
+        ProjectSchedule schedule = schedules.asMap().compute(projectId, (id, current) ->
+                new Entry(generations.incrementAndGet(), current == null ? null : current.schedule())).schedule();
+        if (schedule == null) {
+            return;
+        }
+
+        ScheduleDeltaResponse delta;
+        synchronized (schedule) {
+            List<Integer> changed = change.apply(schedule);
+            if (changed == null) {
+                evict(projectId);
+                return;
+            }
+            if (changed.isEmpty()) {
+                return;
+            }
+            List<NetworkMapTaskResponse> changedTasks = new ArrayList<>(changed.size());
+            for (int i : changed) {
+                changedTasks.add(schedule.toResponse(i));
+            }
+            delta = new ScheduleDeltaResponse();
+            delta.setProjectId(projectId);
+            delta.setProjectDurationHours(schedule.getProjectDuration());
+            delta.setChangedTasks(changedTasks);
+        }
+        notificationService.sendScheduleDelta(delta);
+    }
+}
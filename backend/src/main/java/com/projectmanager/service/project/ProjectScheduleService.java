@@ -0,0 +1,11 @@
+package com.projectmanager.service.project;
+
+import com.projectmanager.dto.response.NetworkMapTaskResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ProjectScheduleService {
+
+    List<NetworkMapTaskResponse> getNetworkMap(UUID projectId);
+}
@@ -0,0 +1,49 @@
+package com.projectmanager.service.project;
+
+import com.projectmanager.dto.response.NetworkMapTaskResponse;
+import com.projectmanager.entity.Project;
+import com.projectmanager.repository.ProjectRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class ProjectScheduleServiceImpl implements ProjectScheduleService {
+
+    private final ProjectRepository projectRepository;
+    private final ProjectScheduleCache projectScheduleCache;
+
+    @Autowired
+    public ProjectScheduleServiceImpl(ProjectRepository projectRepository, ProjectScheduleCache projectScheduleCache) {
+        this.projectRepository = projectRepository;
+        this.projectScheduleCache = projectScheduleCache;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<NetworkMapTaskResponse> getNetworkMap(UUID projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
+        return projectScheduleCache.getNetworkMap(projectId, scheduleAnchor(project));
+    }
+
+    /**
+     * Start of the plan: the project start date, else its creation time, so the same data always yields
+     * the same schedule.
+     */
+    private static LocalDateTime scheduleAnchor(Project project) {
+        if (project.getStartDate() != null) {
+            return project.getStartDate();
+        }
+        if (project.getCreatedAt() != null) {
+            return project.getCreatedAt();
+        }
+        return LocalDateTime.now().truncatedTo(ChronoUnit.DAYS);
+    }
+}
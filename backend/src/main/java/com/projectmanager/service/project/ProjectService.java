@@ -1,7 +1,10 @@
 package com.projectmanager.service.project;
 
+import com.projectmanager.dto.request.ProjectCloneRequest;
 import com.projectmanager.dto.request.ProjectRequest;
 import com.projectmanager.dto.request.UserRequest;
+import com.projectmanager.dto.response.ProjectDashboardResponse;
+import com.projectmanager.dto.response.ProjectMembershipResponse;
 import com.projectmanager.dto.response.ProjectResponse;
 import com.projectmanager.entity.Project;
 import com.projectmanager.entity.User;
@@ -25,9 +28,25 @@ public interface ProjectService {
 
     void addProjectMember(UUID projectId, UserRequest user);
 
+    ProjectResponse cloneProject(UUID sourceId, ProjectCloneRequest request, String actorKey);
+
+    List<ProjectResponse> findTemplates();
+
     ProjectResponse updateProject(UUID id, ProjectRequest request);
 
+    ProjectMembershipResponse addMembers(UUID projectId, Set<UUID> userIds);
+
+    ProjectMembershipResponse removeMembers(UUID projectId, Set<UUID> userIds);
+
+    ProjectMembershipResponse setMembers(UUID projectId, Set<UUID> userIds);
+
     void deleteProject(UUID id);
 
     List<Project> findProjectsByUserId(UUID userId);
+
+    List<ProjectDashboardResponse> getDashboard(UUID userId);
+
+    List<Project> findProjectsByIds(Set<UUID> ids);
+
+    long getChangeVersion(UUID projectId);
 }
\ No newline at end of file
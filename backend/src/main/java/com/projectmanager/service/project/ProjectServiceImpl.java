@@ -1,21 +1,33 @@
 package com.projectmanager.service.project;
 
+import com.projectmanager.dto.request.ProjectCloneRequest;
 import com.projectmanager.dto.request.ProjectRequest;
 import com.projectmanager.dto.request.UserRequest;
+import com.projectmanager.dto.response.ProjectDashboardResponse;
+import com.projectmanager.dto.response.ProjectMembershipResponse;
 import com.projectmanager.dto.response.ProjectResponse;
 import com.projectmanager.dto.response.UserResponse;
 import com.projectmanager.entity.Project;
 import com.projectmanager.entity.User;
+import com.projectmanager.event.ProjectDeletedEvent;
+import com.projectmanager.event.ProjectMembershipChangedEvent;
 import com.projectmanager.mapper.ProjectMapper;
 import com.projectmanager.mapper.UserMapper;
+import com.projectmanager.model.project.ProjectStatus;
+import com.projectmanager.model.task.TaskStatus;
 import com.projectmanager.repository.ProjectRepository;
+import com.projectmanager.repository.TaskRepository;
 import com.projectmanager.repository.UserRepository;
+import com.projectmanager.repository.projection.ProjectDashboardRow;
 import com.projectmanager.service.keycloak.KeycloakUserService;
 import com.projectmanager.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.jetbrains.annotations.NotNull;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,17 +44,23 @@ public class ProjectServiceImpl implements ProjectService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final KeycloakUserService keycloakUserService;
+    private final TaskRepository taskRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ProjectMembershipCache projectMembershipCache;
 
 
 
     @Autowired
-    public ProjectServiceImpl(ProjectRepository projectRepository, ProjectMapper projectMapper, UserService userService, UserRepository userRepository, UserMapper userMapper, KeycloakUserService keycloakUserService) {
+    public ProjectServiceImpl(ProjectRepository projectRepository, ProjectMapper projectMapper, UserService userService, UserRepository userRepository, UserMapper userMapper, KeycloakUserService keycloakUserService, TaskRepository taskRepository, ApplicationEventPublisher eventPublisher, ProjectMembershipCache projectMembershipCache) {
         this.projectRepository = projectRepository;
         this.projectMapper = projectMapper;
         this.userService = userService;
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.keycloakUserService = keycloakUserService;
+        this.taskRepository = taskRepository;
+        this.eventPublisher = eventPublisher;
+        this.projectMembershipCache = projectMembershipCache;
     }
     @Override
     public List<ProjectResponse> findAllProjects() {
@@ -79,9 +97,63 @@ public class ProjectServiceImpl implements ProjectService {
         project.setUpdatedAt(LocalDateTime.now());
         Project savedProject = projectRepository.save(project);
 
+        Set<UUID> added = new HashSet<>(projectMapper.mapMembersToIds(savedProject.getMembers()));
+        added.add(creator.getId());
+        eventPublisher.publishEvent(new ProjectMembershipChangedEvent(this, savedProject.getId(), added, Set.of()));
         return projectMapper.toResponse(savedProject);
     }
 
+    /**
+     * Copies the source project, its tasks and optionally its members and dependencies inside the database
+     * (clone_project in V12__project_clone), so the cost does not grow with round trips per task. Templates
+     * can be cloned by anyone allowed to create projects; other projects only by those who can access them.
+     */
+    @PreAuthorize("hasAnyRole('admin','project-manager')")
+    @Override
+    @Transactional
+    public ProjectResponse cloneProject(UUID sourceId, ProjectCloneRequest request, String actorKey) {
+        if (request.getName() == null || request.getName().isBlank()) {
+            throw new IllegalArgumentException("name is required");
+        }
+        UUID key = UUID.fromString(actorKey);
+        User actor = userService.findByKey(key)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + key));
+        Project source = projectRepository.findById(sourceId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + sourceId));
+        if (!source.isTemplate() && !isAdmin() && !projectMembershipCache.canAccess(actor.getId(), sourceId)) {
+            throw new EntityNotFoundException("Project not found with ID: " + sourceId);
+        }
+
+        UUID cloneId = projectRepository.cloneProject(sourceId, request.getName(), request.getStartDate(), actor.getId(),
+                request.isTemplate(), !Boolean.FALSE.equals(request.getIncludeMembers()),
+                !Boolean.FALSE.equals(request.getIncludeDependencies()));
+        if (cloneId == null) {
+            throw new EntityNotFoundException("Project not found with ID: " + sourceId);
+        }
+
+        Set<UUID> added = new HashSet<>(projectRepository.findMemberIds(cloneId));
+        added.add(actor.getId());
+        eventPublisher.publishEvent(new ProjectMembershipChangedEvent(this, cloneId, added, Set.of()));
+        return projectRepository.findById(cloneId)
+                .map(projectMapper::toResponse)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + cloneId));
+    }
+
+    private static boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_admin".equals(authority.getAuthority()));
+    }
+
+    @PreAuthorize("hasAnyRole('admin','project-manager', 'developer', 'observer')")
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectResponse> findTemplates() {
+        return projectRepository.findByTemplateTrueOrderByName().stream()
+                .map(projectMapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public void addProjectMember(UUID projectId, UserRequest request) {
@@ -96,23 +168,20 @@ public class ProjectServiceImpl implements ProjectService {
         user.setCreatedAt(LocalDateTime.now());
         user.setUpdatedAt(LocalDateTime.now());
         User savedUser = userRepository.save(user);
-        project.getMembers().add(savedUser);
-
-        projectRepository.save(project);
+        applyMembershipDelta(project.getId(), Set.of(savedUser.getId()), Set.of());
     }
 
     @PreAuthorize("hasAnyRole('admin','project-manager')")
     @Override
     @Transactional
     public ProjectResponse updateProject(UUID id, ProjectRequest request) {
-        Project existingProject = projectRepository.findById(id)
+        Project existingProject = projectRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + id));
 
         projectMapper.updateProjectFromDto(request, existingProject);
 
         if (request.getMemberIds() != null) {
-            Set<User> members = new HashSet<>(userService.getUsersByIds(request.getMemberIds()));
-            existingProject.setMembers(members);
+            replaceMembers(id, request.getMemberIds());
         }
 
         existingProject.setUpdatedAt(LocalDateTime.now());
@@ -121,6 +190,92 @@ public class ProjectServiceImpl implements ProjectService {
         return projectMapper.toResponse(savedProject);
     }
 
+    @PreAuthorize("hasAnyRole('admin','project-manager')")
+    @Override
+    @Transactional
+    public ProjectMembershipResponse addMembers(UUID projectId, Set<UUID> userIds) {
+        lockProject(projectId);
+        Set<UUID> added = new HashSet<>(requireUsers(userIds));
+        added.removeAll(projectRepository.findMemberIds(projectId));
+        return applyMembershipDelta(projectId, added, Set.of());
+    }
+
+    @PreAuthorize("hasAnyRole('admin','project-manager')")
+    @Override
+    @Transactional
+    public ProjectMembershipResponse removeMembers(UUID projectId, Set<UUID> userIds) {
+        if (userIds == null) {
+            throw new IllegalArgumentException("userIds is required");
+        }
+        lockProject(projectId);
+        Set<UUID> removed = new HashSet<>(projectRepository.findMemberIds(projectId));
+        removed.retainAll(userIds);
+        return applyMembershipDelta(projectId, Set.of(), removed);
+    }
+
+    @PreAuthorize("hasAnyRole('admin','project-manager')")
+    @Override
+    @Transactional
+    public ProjectMembershipResponse setMembers(UUID projectId, Set<UUID> userIds) {
+        lockProject(projectId);
+        return replaceMembers(projectId, userIds);
+    }
+
+    private void lockProject(UUID projectId) {
+        projectRepository.findByIdForUpdate(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
+    }
+
+    /** Makes the members exactly {@code userIds}; the caller holds the project lock. */
+    private ProjectMembershipResponse replaceMembers(UUID projectId, Set<UUID> userIds) {
+        Set<UUID> target = requireUsers(userIds);
+        Set<UUID> current = projectRepository.findMemberIds(projectId);
+
+        Set<UUID> added = new HashSet<>(target);
+        added.removeAll(current);
+        Set<UUID> removed = new HashSet<>(current);
+        removed.removeAll(target);
+        return applyMembershipDelta(projectId, added, removed);
+    }
+
+    /**
+     * Writes only the changed project_members rows, one INSERT and one DELETE at most, instead of letting
+     * Hibernate rewrite the whole collection.
+     */
+    private ProjectMembershipResponse applyMembershipDelta(UUID projectId, Set<UUID> added, Set<UUID> removed) {
+        if (!added.isEmpty()) {
+            projectRepository.insertMembers(projectId, added);
+        }
+        if (!removed.isEmpty()) {
+            projectRepository.deleteMembers(projectId, removed);
+        }
+        if (!added.isEmpty() || !removed.isEmpty()) {
+            eventPublisher.publishEvent(new ProjectMembershipChangedEvent(this, projectId, Set.copyOf(added), Set.copyOf(removed)));
+        }
+
+        ProjectMembershipResponse response = new ProjectMembershipResponse();
+        response.setProjectId(projectId);
+        response.setAddedUserIds(added);
+        response.setRemovedUserIds(removed);
+        response.setMemberCount(projectRepository.countMembers(projectId));
+        return response;
+    }
+
+    private Set<UUID> requireUsers(Set<UUID> userIds) {
+        if (userIds == null) {
+            throw new IllegalArgumentException("userIds is required");
+        }
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        Set<UUID> found = userRepository.findIdsByIdIn(userIds);
+        if (found.size() < userIds.size()) {
+            Set<UUID> missing = new HashSet<>(userIds);
+            missing.removeAll(found);
+            throw new EntityNotFoundException("Users not found with IDs: " + missing);
+        }
+        return found;
+    }
 
     @Override
     @Transactional
@@ -128,11 +283,64 @@ public class ProjectServiceImpl implements ProjectService {
         if (!projectRepository.existsById(id)) {
             throw new EntityNotFoundException("Project not found with ID: " + id);
         }
-        projectRepository.deleteById(id);
+        // Hidden from every read now; tasks and everything under them are purged in the background.
+        LocalDateTime now = LocalDateTime.now();
+        taskRepository.softDeleteByProjectId(id, now);
+        projectRepository.softDeleteById(id, now);
+        eventPublisher.publishEvent(new ProjectDeletedEvent(this, id));
     }
 
     @Override
     public List<Project> findProjectsByUserId(UUID userId) {
-        return projectRepository.findProjectsByUserIdOrCreator(userId);
+        UuidSet projectIds = projectMembershipCache.getProjectIds(userId);
+        return projectIds.isEmpty() ? List.of() : projectRepository.findAllById(projectIds.toList());
+    }
+
+    @PreAuthorize("hasAnyRole('admin','project-manager', 'developer', 'observer')")
+    @Override
+    @Transactional(readOnly = true)
+    public List<ProjectDashboardResponse> getDashboard(UUID userId) {
+        return projectRepository.findDashboardByUserId(userId, LocalDateTime.now()).stream()
+                .map(ProjectServiceImpl::toDashboardResponse)
+                .collect(Collectors.toList());
+    }
+
+    private static ProjectDashboardResponse toDashboardResponse(ProjectDashboardRow row) {
+        Map<TaskStatus, Long> tasksByStatus = new EnumMap<>(TaskStatus.class);
+        tasksByStatus.put(TaskStatus.TODO, row.getTodoCount());
+        tasksByStatus.put(TaskStatus.IN_PROGRESS, row.getInProgressCount());
+        tasksByStatus.put(TaskStatus.IN_REVIEW, row.getInReviewCount());
+        tasksByStatus.put(TaskStatus.TESTING, row.getTestingCount());
+        tasksByStatus.put(TaskStatus.DONE, row.getDoneCount());
+        tasksByStatus.put(TaskStatus.CLOSED, row.getClosedCount());
+
+        ProjectDashboardResponse response = new ProjectDashboardResponse();
+        response.setId(row.getId());
+        response.setName(row.getName());
+        response.setDescription(row.getDescription());
+        response.setStatus(row.getStatus() == null ? null : ProjectStatus.valueOf(row.getStatus()));
+        response.setColor(row.getColor());
+        response.setIcon(row.getIcon());
+        response.setStartDate(row.getStartDate());
+        response.setEndDate(row.getEndDate());
+        response.setCreatedByUserId(row.getCreatedByUserId());
+        response.setCreatedAt(row.getCreatedAt());
+        response.setMemberCount(row.getMemberCount());
+        response.setTaskCount(row.getTaskCount());
+        response.setTasksByStatus(tasksByStatus);
+        response.setOverdueCount(row.getOverdueCount());
+        response.setLastActivityAt(row.getLastActivityAt());
+        return response;
+    }
+
+    @Override
+    public List<Project> findProjectsByIds(Set<UUID> ids) {
+        return projectRepository.findAllById(ids);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getChangeVersion(UUID projectId) {
+        return projectRepository.findChangeVersion(projectId);
     }
-}
\ No newline at end of file
+}
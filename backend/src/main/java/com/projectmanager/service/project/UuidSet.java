@@ -0,0 +1,81 @@
+package com.projectmanager.service.project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable set of UUIDs stored as one sorted {@code long[]} of (most, least) significant bit pairs: 16 bytes
+ * per id instead of a {@code UUID} object plus a hash table entry, and membership is a binary search that
+ * allocates nothing.
+ */
+public final class UuidSet {
+
+    public static final UuidSet EMPTY = new UuidSet(new long[0]);
+
+    private final long[] bits;
+
+    private UuidSet(long[] bits) {
+        this.bits = bits;
+    }
+
+    public static UuidSet of(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return EMPTY;
+        }
+        UUID[] sorted = ids.toArray(new UUID[0]);
+        Arrays.sort(sorted);
+        long[] bits = new long[sorted.length * 2];
+        int size = 0;
+        for (UUID id : sorted) {
+            if (size > 0 && bits[2 * size - 2] == id.getMostSignificantBits() && bits[2 * size - 1] == id.getLeastSignificantBits()) {
+                continue;
+            }
+            bits[2 * size] = id.getMostSignificantBits();
+            bits[2 * size + 1] = id.getLeastSignificantBits();
+            size++;
+        }
+        return new UuidSet(size * 2 == bits.length ? bits : Arrays.copyOf(bits, size * 2));
+    }
+
+    public boolean contains(UUID id) {
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        int low = 0;
+        int high = size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            // Same order as UUID.compareTo, which sorted the array.
+            int cmp = Long.compare(bits[2 * mid], most);
+            if (cmp == 0) {
+                cmp = Long.compare(bits[2 * mid + 1], least);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int size() {
+        return bits.length / 2;
+    }
+
+    public boolean isEmpty() {
+        return bits.length == 0;
+    }
+
+    public List<UUID> toList() {
+        List<UUID> ids = new ArrayList<>(size());
+        for (int i = 0; i < bits.length; i += 2) {
+            ids.add(new UUID(bits[i], bits[i + 1]));
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,31 @@
+package com.projectmanager.service.purge;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically resumes purges of deleted projects and tasks that were interrupted or started on another
+ * node that went away.
+ */
+@Component
+public class DeletionPurgeScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(DeletionPurgeScheduler.class);
+
+    private final DeletionPurgeService deletionPurgeService;
+
+    public DeletionPurgeScheduler(DeletionPurgeService deletionPurgeService) {
+        this.deletionPurgeService = deletionPurgeService;
+    }
+
+    @Scheduled(initialDelayString = "${purge.sweep-interval:PT10M}", fixedDelayString = "${purge.sweep-interval:PT10M}")
+    public void sweep() {
+        try {
+            deletionPurgeService.purgePending();
+        } catch (RuntimeException e) {
+            log.warn("Failed to queue pending purges", e);
+        }
+    }
+}
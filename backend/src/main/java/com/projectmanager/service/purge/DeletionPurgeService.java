@@ -0,0 +1,19 @@
+package com.projectmanager.service.purge;
+
+import com.projectmanager.dto.response.PurgeJobResponse;
+
+import java.util.UUID;
+
+public interface DeletionPurgeService {
+
+    /**
+     * Progress of the purge of a deleted project or task, by the id of the deleted project or task. Only
+     * admins and the users who can access the project see it; for anyone else it is not found.
+     */
+    PurgeJobResponse getPurge(UUID targetId, String userId);
+
+    /**
+     * Queues a purge for every deleted project and task that is not already being purged here.
+     */
+    void purgePending();
+}
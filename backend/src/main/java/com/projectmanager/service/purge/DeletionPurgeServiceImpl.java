@@ -0,0 +1,225 @@
+package com.projectmanager.service.purge;
+
+import com.projectmanager.dto.response.PurgeJobResponse;
+import com.projectmanager.entity.User;
+import com.projectmanager.event.ProjectDeletedEvent;
+import com.projectmanager.event.TaskDeletedEvent;
+import com.projectmanager.model.purge.PurgeTarget;
+import com.projectmanager.repository.ActivityRepository;
+import com.projectmanager.repository.AttachmentRepository;
+import com.projectmanager.repository.CommentRepository;
+import com.projectmanager.repository.ProjectRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.service.minio.MinioService;
+import com.projectmanager.service.project.ProjectMembershipCache;
+import com.projectmanager.service.project.UuidSet;
+import com.projectmanager.service.user.UserService;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Removes soft-deleted projects and tasks in the background. Deleted tasks are taken in chunks of
+ * {@code purge.chunk-size}; each chunk is locked with SKIP LOCKED and its attachments, activities, comments
+ * and tasks are removed with one set-based DELETE each in its own transaction. Attachment objects are
+ * removed from MinIO once their chunk has committed. A project is removed after its last task, together
+ * with its remaining activities and memberships.
+ * <p>
+ * A purge starts when the delete commits; {@link #purgePending()} resumes purges that did not finish, e.g.
+ * after a restart. Job progress is kept on this instance only, and shown to the users who can access the
+ * project it belongs to.
+ */
+@Service
+public class DeletionPurgeServiceImpl implements DeletionPurgeService {
+
+    private static final Logger log = LoggerFactory.getLogger(DeletionPurgeServiceImpl.class);
+    private static final long JOB_RETENTION_HOURS = 1;
+
+    private final TaskRepository taskRepository;
+    private final CommentRepository commentRepository;
+    private final AttachmentRepository attachmentRepository;
+    private final ActivityRepository activityRepository;
+    private final ProjectRepository projectRepository;
+    private final MinioService minioService;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final UserService userService;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    private final Map<UUID, PurgeJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public DeletionPurgeServiceImpl(TaskRepository taskRepository, CommentRepository commentRepository,
+                                    AttachmentRepository attachmentRepository, ActivityRepository activityRepository,
+                                    ProjectRepository projectRepository, MinioService minioService,
+                                    ProjectMembershipCache projectMembershipCache, UserService userService,
+                                    @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${purge.chunk-size:500}") int chunkSize) {
+        this.taskRepository = taskRepository;
+        this.commentRepository = commentRepository;
+        this.attachmentRepository = attachmentRepository;
+        this.activityRepository = activityRepository;
+        this.projectRepository = projectRepository;
+        this.minioService = minioService;
+        this.projectMembershipCache = projectMembershipCache;
+        this.userService = userService;
+        this.taskExecutor = taskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @PreAuthorize("hasAnyRole('admin', 'project-manager')")
+    @Override
+    public PurgeJobResponse getPurge(UUID targetId, String userId) {
+        PurgeJob job = jobs.get(targetId);
+        if (job == null || !isAdmin() && !canView(job, userId(userId))) {
+            throw new EntityNotFoundException("Purge not found for ID: " + targetId);
+        }
+        return job.toResponse();
+    }
+
+    @Override
+    public void purgePending() {
+        projectRepository.findDeletedIds().forEach(id -> submit(id, PurgeTarget.PROJECT, id));
+        taskRepository.findDeleted(chunkSize).forEach(row -> submit(row.getId(), PurgeTarget.TASK, row.getProjectId()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProjectDeletedEvent(ProjectDeletedEvent event) {
+        submit(event.getProjectId(), PurgeTarget.PROJECT, event.getProjectId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskDeletedEvent(TaskDeletedEvent event) {
+        submit(event.getTask().getId(), PurgeTarget.TASK, event.getTask().getProject().getId());
+    }
+
+    private void submit(UUID targetId, PurgeTarget target, UUID projectId) {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(JOB_RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.isFinishedBefore(cutoff));
+        PurgeJob running = jobs.get(targetId);
+        if (running != null && !running.isFinished()) {
+            return;
+        }
+
+        // Memberships are purged with the project, so they are read while they still exist.
+        UuidSet accessorIds = target == PurgeTarget.PROJECT ? UuidSet.of(projectRepository.findAccessorIds(projectId)) : null;
+        PurgeJob created = new PurgeJob(targetId, target, projectId, accessorIds);
+        PurgeJob job = jobs.compute(targetId, (id, current) -> current != null && !current.isFinished() ? current : created);
+        if (job == created) {
+            taskExecutor.execute(() -> run(job));
+        }
+    }
+
+    private boolean canView(PurgeJob job, UUID userId) {
+        return job.getTarget() == PurgeTarget.PROJECT
+                ? job.getAccessorIds().contains(userId)
+                : projectMembershipCache.canAccess(userId, job.getProjectId());
+    }
+
+    private UUID userId(String userKey) {
+        UUID actorKey = UUID.fromString(userKey);
+        return userService.findByKey(actorKey)
+                .map(User::getId)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with ID:" + actorKey));
+    }
+
+    private static boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_admin".equals(authority.getAuthority()));
+    }
+
+    private void run(PurgeJob job) {
+        UUID id = job.getTargetId();
+        job.start();
+        try {
+            if (job.getTarget() == PurgeTarget.TASK) {
+                purgeTaskChunk(job, () -> taskRepository.lockDeletedId(id));
+            } else {
+                while (purgeTaskChunk(job, () -> taskRepository.lockDeletedIdsByProjectId(id, chunkSize))) {
+                    // next chunk
+                }
+                int activities;
+                do {
+                    activities = inTransaction(() -> activityRepository.deleteChunkByProjectId(id, chunkSize));
+                    job.purged(0, 0, 0, activities);
+                } while (activities > 0);
+                inTransaction(() -> {
+                    projectRepository.purgeById(id);
+                    return projectRepository.deleteChangeVersion(id);
+                });
+            }
+            job.complete();
+        } catch (RuntimeException e) {
+            log.warn("Purge of deleted {} {} failed", job.getTarget(), id, e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    /**
+     * Purges the next chunk of deleted tasks returned by {@code lockChunk}.
+     *
+     * @return {@code false} when there was nothing left to purge
+     */
+    private boolean purgeTaskChunk(PurgeJob job, Supplier<List<UUID>> lockChunk) {
+        List<String> objectNames = new ArrayList<>();
+        long[] counts = new long[4];
+        boolean purged = inTransaction(() -> {
+            List<UUID> ids = lockChunk.get();
+            if (ids.isEmpty()) {
+                return false;
+            }
+            objectNames.addAll(attachmentRepository.findFilePathsByTaskIds(ids));
+            counts[2] = attachmentRepository.deleteByTaskIds(ids);
+            counts[3] = activityRepository.deleteByTaskIds(ids);
+            counts[1] = commentRepository.deleteByTaskIds(ids);
+            counts[0] = taskRepository.purgeByIds(ids);
+            return true;
+        });
+        job.purged(counts[0], counts[1], counts[2], counts[3]);
+
+        // Only after commit: a rolled-back chunk must keep its files.
+        for (String objectName : objectNames) {
+            if (objectName == null) {
+                continue;
+            }
+            try {
+                minioService.deleteFile(objectName);
+                job.objectDeleted(true);
+            } catch (IOException e) {
+                log.warn("Could not delete object {} of a purged attachment", objectName, e);
+                job.objectDeleted(false);
+            }
+        }
+        return purged;
+    }
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return Objects.requireNonNull(transactionTemplate.execute(status -> work.get()));
+    }
+}
@@ -0,0 +1,115 @@
+package com.projectmanager.service.purge;
+
+import com.projectmanager.dto.response.PurgeJobResponse;
+import com.projectmanager.model.purge.PurgeStatus;
+import com.projectmanager.model.purge.PurgeTarget;
+import com.projectmanager.service.project.UuidSet;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of purging one deleted project or task, written by the worker and read by status requests.
+ */
+final class PurgeJob {
+
+    private final UUID targetId;
+    private final PurgeTarget target;
+    private final UUID projectId;
+    private final UuidSet accessorIds;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private PurgeStatus status = PurgeStatus.QUEUED;
+    private long tasksPurged;
+    private long commentsPurged;
+    private long attachmentsPurged;
+    private long activitiesPurged;
+    private long objectsDeleted;
+    private long objectDeleteFailures;
+    private String failureMessage;
+    private LocalDateTime finishedAt;
+
+    /**
+     * @param projectId   the deleted project, or the project of the deleted task
+     * @param accessorIds for a deleted project, the users who could access it when it was deleted; the
+     *                    membership cache no longer lists it
+     */
+    PurgeJob(UUID targetId, PurgeTarget target, UUID projectId, UuidSet accessorIds) {
+        this.targetId = targetId;
+        this.target = target;
+        this.projectId = projectId;
+        this.accessorIds = accessorIds;
+    }
+
+    UUID getTargetId() {
+        return targetId;
+    }
+
+    PurgeTarget getTarget() {
+        return target;
+    }
+
+    UUID getProjectId() {
+        return projectId;
+    }
+
+    UuidSet getAccessorIds() {
+        return accessorIds;
+    }
+
+    synchronized void start() {
+        status = PurgeStatus.RUNNING;
+    }
+
+    synchronized void purged(long tasks, long comments, long attachments, long activities) {
+        tasksPurged += tasks;
+        commentsPurged += comments;
+        attachmentsPurged += attachments;
+        activitiesPurged += activities;
+    }
+
+    synchronized void objectDeleted(boolean deleted) {
+        if (deleted) {
+            objectsDeleted++;
+        } else {
+            objectDeleteFailures++;
+        }
+    }
+
+    synchronized void complete() {
+        status = PurgeStatus.COMPLETED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    synchronized void fail(String message) {
+        // Chunks that already committed stay purged; a later sweep picks up the rest.
+        failureMessage = message;
+        status = PurgeStatus.FAILED;
+        finishedAt = LocalDateTime.now();
+    }
+
+    synchronized boolean isFinished() {
+        return finishedAt != null;
+    }
+
+    synchronized boolean isFinishedBefore(LocalDateTime cutoff) {
+        return finishedAt != null && finishedAt.isBefore(cutoff);
+    }
+
+    synchronized PurgeJobResponse toResponse() {
+        PurgeJobResponse response = new PurgeJobResponse();
+        response.setTargetId(targetId);
+        response.setTarget(target);
+        response.setStatus(status);
+        response.setTasksPurged(tasksPurged);
+        response.setCommentsPurged(commentsPurged);
+        response.setAttachmentsPurged(attachmentsPurged);
+        response.setActivitiesPurged(activitiesPurged);
+        response.setObjectsDeleted(objectsDeleted);
+        response.setObjectDeleteFailures(objectDeleteFailures);
+        response.setFailureMessage(failureMessage);
+        response.setStartedAt(startedAt);
+        response.setFinishedAt(finishedAt);
+        return response;
+    }
+}
@@ -0,0 +1,88 @@
+package com.projectmanager.service.reminder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel: {@code wheelSize} buckets of {@code tickMillis} each, with an overflow wheel
+ * whose tick is this wheel's whole span for timers further out. Adding a timer and advancing by one tick
+ * are O(1); timers cascade down a level when their overflow bucket comes due.
+ * <p>
+ * Not thread-safe.
+ */
+final class HierarchicalTimingWheel<T> {
+
+    private record Timer<T>(long expirationMillis, T item) {
+    }
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final long intervalMillis;
+    private final List<Deque<Timer<T>>> buckets;
+    private long currentTimeMillis;
+    private HierarchicalTimingWheel<T> overflow;
+
+    HierarchicalTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.intervalMillis = tickMillis * wheelSize;
+        this.buckets = new ArrayList<>(wheelSize);
+        for (int i = 0; i < wheelSize; i++) {
+            buckets.add(new ArrayDeque<>());
+        }
+        this.currentTimeMillis = startMillis - (startMillis % tickMillis);
+    }
+
+    /**
+     * @return {@code false} when the timer is already due; the caller should fire it immediately
+     */
+    boolean add(long expirationMillis, T item) {
+        return add(new Timer<>(expirationMillis, item));
+    }
+
+    /**
+     * Moves the wheel forward to {@code nowMillis}, handing every timer that came due to {@code expired}.
+     */
+    void advance(long nowMillis, Consumer<T> expired) {
+        advanceTimers(nowMillis, timer -> {
+            if (!add(timer)) {
+                expired.accept(timer.item());
+            }
+        });
+    }
+
+    private boolean add(Timer<T> timer) {
+        if (timer.expirationMillis() < currentTimeMillis + tickMillis) {
+            return false;
+        }
+        if (timer.expirationMillis() < currentTimeMillis + intervalMillis) {
+            buckets.get(bucketIndex(timer.expirationMillis())).add(timer);
+            return true;
+        }
+        if (overflow == null) {
+            overflow = new HierarchicalTimingWheel<>(intervalMillis, wheelSize, currentTimeMillis);
+        }
+        return overflow.add(timer);
+    }
+
+    private void advanceTimers(long nowMillis, Consumer<Timer<T>> due) {
+        while (currentTimeMillis + tickMillis <= nowMillis) {
+            currentTimeMillis += tickMillis;
+            if (overflow != null) {
+                // Timers from the level above are re-added here; those that no longer fit are due.
+                overflow.advanceTimers(currentTimeMillis, due);
+            }
+            Deque<Timer<T>> bucket = buckets.get(bucketIndex(currentTimeMillis));
+            while (!bucket.isEmpty()) {
+                due.accept(bucket.poll());
+            }
+        }
+    }
+
+    private int bucketIndex(long timeMillis) {
+        return (int) ((timeMillis / tickMillis) % wheelSize);
+    }
+}
@@ -0,0 +1,163 @@
+package com.projectmanager.service.reminder;
+
+import com.projectmanager.repository.TaskReminderRepository;
+import com.projectmanager.repository.projection.TaskDueRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Sends "due soon" reminders {@code reminders.lead} before each open task's due date.
+ * <p>
+ * Every {@code reminders.poll-interval} the next slice of due dates, up to {@code now + lead + window}, is
+ * read from the open-task partial index in keyset-paged batches and loaded into a
+ * {@link HierarchicalTimingWheel}, which fires each reminder at its time. Only the upcoming window is ever
+ * held in memory and each poll reads at most {@code max-batches-per-poll} batches, so the cost does not
+ * grow with the size of the tasks table. A slower sweep re-reads the already scanned range to pick up due
+ * dates that were added or moved into it afterwards.
+ * <p>
+ * Every node runs the scheduler; a reminder is claimed in task_reminders before it is sent, so exactly one
+ * node sends it. Sends run on the application task executor, so a burst of due reminders never holds up
+ * the wheel or the other scheduled jobs.
+ */
+@Component
+public class TaskReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskReminderScheduler.class);
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final TaskReminderRepository taskReminderRepository;
+    private final TaskReminderService taskReminderService;
+    private final TaskExecutor taskExecutor;
+    private final Duration lead;
+    private final Duration window;
+    private final int batchSize;
+    private final int maxBatchesPerPoll;
+
+    private final HierarchicalTimingWheel<TaskDueRow> wheel;
+    private final Map<UUID, LocalDateTime> scheduled = new HashMap<>();
+    // Keyset position of the poller; everything before it has been loaded into the wheel.
+    private LocalDateTime scannedDueDate;
+    private UUID scannedId = MIN_ID;
+
+    public TaskReminderScheduler(TaskReminderRepository taskReminderRepository,
+                                 TaskReminderService taskReminderService,
+                                 @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                 @Value("${reminders.lead:PT24H}") Duration lead,
+                                 @Value("${reminders.window:PT5M}") Duration window,
+                                 @Value("${reminders.batch-size:500}") int batchSize,
+                                 @Value("${reminders.max-batches-per-poll:20}") int maxBatchesPerPoll) {
+        this.taskReminderRepository = taskReminderRepository;
+        this.taskReminderService = taskReminderService;
+        this.taskExecutor = taskExecutor;
+        this.lead = lead;
+        this.window = window;
+        this.batchSize = batchSize;
+        this.maxBatchesPerPoll = maxBatchesPerPoll;
+        this.wheel = new HierarchicalTimingWheel<>(1000, 64, System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${reminders.poll-interval:PT1M}")
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime until = now.plus(lead).plus(window);
+        List<TaskDueRow> dueNow = new ArrayList<>();
+        synchronized (this) {
+            if (scannedDueDate == null || scannedDueDate.isBefore(now)) {
+                scannedDueDate = now;
+                scannedId = MIN_ID;
+            }
+            for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+                List<TaskDueRow> rows = taskReminderRepository.findPendingReminders(scannedDueDate, scannedId, until, batchSize);
+                rows.forEach(row -> schedule(row, dueNow));
+                if (rows.size() < batchSize) {
+                    // Resume just below the bound: (until, MIN_ID) would skip a task due exactly at it.
+                    scannedDueDate = until.minusNanos(1000);
+                    scannedId = MIN_ID;
+                    break;
+                }
+                TaskDueRow last = rows.get(rows.size() - 1);
+                scannedDueDate = last.getDueDate();
+                scannedId = last.getId();
+            }
+        }
+        fire(dueNow);
+    }
+
+    @Scheduled(fixedDelayString = "${reminders.sweep-interval:PT15M}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        List<TaskDueRow> dueNow = new ArrayList<>();
+        synchronized (this) {
+            if (scannedDueDate == null) {
+                return;
+            }
+            LocalDateTime afterDueDate = now;
+            UUID afterId = MIN_ID;
+            for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+                List<TaskDueRow> rows = taskReminderRepository.findPendingReminders(afterDueDate, afterId, scannedDueDate, batchSize);
+                rows.forEach(row -> schedule(row, dueNow));
+                if (rows.size() < batchSize) {
+                    break;
+                }
+                afterDueDate = rows.get(rows.size() - 1).getDueDate();
+                afterId = rows.get(rows.size() - 1).getId();
+            }
+        }
+        fire(dueNow);
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public void tick() {
+        List<TaskDueRow> dueNow = new ArrayList<>();
+        synchronized (this) {
+            wheel.advance(System.currentTimeMillis(), dueNow::add);
+        }
+        fire(dueNow);
+    }
+
+    private void schedule(TaskDueRow row, List<TaskDueRow> dueNow) {
+        if (row.getDueDate().equals(scheduled.put(row.getId(), row.getDueDate()))) {
+            return;
+        }
+        long fireAt = row.getDueDate().minus(lead).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (!wheel.add(fireAt, row)) {
+            dueNow.add(row);
+        }
+    }
+
+    private void fire(List<TaskDueRow> rows) {
+        for (TaskDueRow row : rows) {
+            synchronized (this) {
+                scheduled.remove(row.getId(), row.getDueDate());
+            }
+            try {
+                taskExecutor.execute(() -> send(row));
+            } catch (RuntimeException e) {
+                // Still unclaimed, so the next sweep picks it up again.
+                log.warn("Failed to queue due-date reminder for task {}", row.getId(), e);
+            }
+        }
+    }
+
+    private void send(TaskDueRow row) {
+        try {
+            taskReminderService.sendReminder(row.getId(), row.getDueDate());
+        } catch (RuntimeException e) {
+            log.warn("Failed to send due-date reminder for task {}", row.getId(), e);
+        }
+    }
+}
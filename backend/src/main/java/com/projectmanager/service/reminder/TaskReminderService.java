@@ -0,0 +1,15 @@
+package com.projectmanager.service.reminder;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TaskReminderService {
+
+    /**
+     * Sends the reminder for {@code taskId} unless another node already did, the task was closed or its
+     * due date moved away from {@code dueDate}.
+     *
+     * @return whether this call sent the reminder
+     */
+    boolean sendReminder(UUID taskId, LocalDateTime dueDate);
+}
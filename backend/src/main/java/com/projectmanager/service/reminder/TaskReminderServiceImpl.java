@@ -0,0 +1,67 @@
+package com.projectmanager.service.reminder;
+
+import com.projectmanager.entity.Activity;
+import com.projectmanager.entity.Task;
+import com.projectmanager.entity.User;
+import com.projectmanager.event.TaskReminderSentEvent;
+import com.projectmanager.mapper.UserMapper;
+import com.projectmanager.repository.TaskReminderRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.service.activity.ActivityService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+public class TaskReminderServiceImpl implements TaskReminderService {
+
+    private final TaskReminderRepository taskReminderRepository;
+    private final TaskRepository taskRepository;
+    private final ActivityService activityService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserMapper userMapper;
+
+    @Autowired
+    public TaskReminderServiceImpl(TaskReminderRepository taskReminderRepository, TaskRepository taskRepository, ActivityService activityService, ApplicationEventPublisher eventPublisher, UserMapper userMapper) {
+        this.taskReminderRepository = taskReminderRepository;
+        this.taskRepository = taskRepository;
+        this.activityService = activityService;
+        this.eventPublisher = eventPublisher;
+        this.userMapper = userMapper;
+    }
+
+    @Override
+    @Transactional
+    public boolean sendReminder(UUID taskId, LocalDateTime dueDate) {
+        LocalDateTime now = LocalDateTime.now();
+        if (taskReminderRepository.claimReminder(taskId, dueDate, now) == 0) {
+            return false;
+        }
+        Optional<Task> task = taskRepository.findById(taskId);
+        if (task.isEmpty()) {
+            return false;
+        }
+        User recipient = task.get().getAssignedTo() != null ? task.get().getAssignedTo() : task.get().getCreatedBy();
+        if (recipient == null) {
+            return false;
+        }
+
+        Activity activity = new Activity();
+        activity.setAction("Task Due Soon");
+        activity.setDetails("Task '" + task.get().getTitle() + "' is due on " + dueDate + ".");
+        activity.setTask(task.get());
+        activity.setProject(task.get().getProject());
+        activity.setUser(recipient);
+        activity.setCreatedAt(now);
+        activityService.createActivity(activity);
+
+        // Notified after commit, so a claim that rolls back sends nothing and a sent reminder is never resent.
+        eventPublisher.publishEvent(new TaskReminderSentEvent(this, activity, userMapper.toResponse(recipient)));
+        return true;
+    }
+}
@@ -0,0 +1,10 @@
+package com.projectmanager.service.search;
+
+import com.projectmanager.dto.response.PageResponse;
+import com.projectmanager.dto.response.TaskSearchResultResponse;
+
+import java.util.UUID;
+
+public interface SearchService {
+    PageResponse<TaskSearchResultResponse> searchTasks(String query, UUID userId, int page, int size);
+}
@@ -0,0 +1,67 @@
+package com.projectmanager.service.search;
+
+import com.projectmanager.dto.response.PageResponse;
+import com.projectmanager.dto.response.TaskSearchResultResponse;
+import com.projectmanager.model.task.TaskStatus;
+import com.projectmanager.repository.TaskSearchRepository;
+import com.projectmanager.repository.projection.TaskSearchRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class SearchServiceImpl implements SearchService {
+
+    private static final int MAX_PAGE_SIZE = 50;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final TaskSearchRepository taskSearchRepository;
+
+    @Autowired
+    public SearchServiceImpl(TaskSearchRepository taskSearchRepository) {
+        this.taskSearchRepository = taskSearchRepository;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TaskSearchResultResponse> searchTasks(String query, UUID userId, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be empty");
+        }
+        if (query.length() > MAX_QUERY_LENGTH) {
+            throw new IllegalArgumentException("Search query must not exceed " + MAX_QUERY_LENGTH + " characters");
+        }
+        if (page < 0) {
+            throw new IllegalArgumentException("Page index must not be negative");
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        String trimmed = query.trim();
+
+        long total = taskSearchRepository.countMatches(trimmed, userId);
+        List<TaskSearchResultResponse> items = total == 0 ? List.of() : taskSearchRepository
+                .search(trimmed, userId, pageSize, (long) page * pageSize)
+                .stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+        int totalPages = (int) ((total + pageSize - 1) / pageSize);
+        return new PageResponse<>(items, page, pageSize, total, totalPages);
+    }
+
+    private TaskSearchResultResponse toResponse(TaskSearchRow row) {
+        TaskSearchResultResponse response = new TaskSearchResultResponse();
+        response.setTaskId(row.getId());
+        response.setProjectId(row.getProjectId());
+        response.setProjectName(row.getProjectName());
+        response.setTitle(row.getTitle());
+        response.setStatus(row.getStatus() != null ? TaskStatus.valueOf(row.getStatus()) : null);
+        response.setRank(row.getRank() != null ? row.getRank() : 0);
+        response.setTitleHighlight(row.getTitleHighlight());
+        response.setSnippet(row.getSnippet());
+        return response;
+    }
+}
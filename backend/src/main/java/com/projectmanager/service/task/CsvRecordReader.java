@@ -0,0 +1,118 @@
+package com.projectmanager.service.task;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: one record at a time, quoted fields may contain separators, quotes and line
+ * breaks. Empty fields are returned as {@code null}.
+ * <p>
+ * Not thread-safe.
+ */
+final class CsvRecordReader {
+
+    private final Reader reader;
+    private final char[] buffer = new char[64 * 1024];
+    private int position;
+    private int limit;
+    private long line = 1;
+    private long recordLine;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return the next record, or {@code null} at the end of the input
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        while (c == '\r' || c == '\n') {
+            c = read();
+        }
+        if (c < 0) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (c == '"' && field.isEmpty() && !quoted) {
+                quoted = true;
+                c = readQuoted(field);
+                continue;
+            }
+            if (c < 0 || c == '\n' || c == '\r') {
+                fields.add(field.isEmpty() && !quoted ? null : field.toString());
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                return fields;
+            }
+            if (c == ',') {
+                fields.add(field.isEmpty() && !quoted ? null : field.toString());
+                field.setLength(0);
+                quoted = false;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * @return the line on which the last record returned by {@link #next()} started
+     */
+    long recordLine() {
+        return recordLine;
+    }
+
+    // Reads a quoted field body up to its closing quote and returns the character after it.
+    private int readQuoted(StringBuilder field) throws IOException {
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                throw new IOException("Unterminated quoted field starting on line " + recordLine);
+            }
+            if (c == '"') {
+                if (peek() != '"') {
+                    return read();
+                }
+                read();
+            }
+            field.append((char) c);
+        }
+    }
+
+    private int read() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        char c = buffer[position++];
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (position == limit && !fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        int n = reader.read(buffer, 0, buffer.length);
+        if (n <= 0) {
+            return false;
+        }
+        position = 0;
+        limit = n;
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package com.projectmanager.service.task;
+
+/**
+ * Fractional base-36 keys ({@code 0-9a-z}) that order tasks within a board column when compared bytewise.
+ * A key can always be generated between two others, so a move rewrites only the moved task. Keys never
+ * end in {@code '0'}, which keeps room below every key; rebalance_task_ranks() (V11__task_rank) issues
+ * short evenly spaced keys following the same rules once they grow long.
+ */
+public final class LexoRank {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private LexoRank() {
+    }
+
+    /**
+     * A key strictly between {@code before} and {@code after}; {@code null} stands for the start and the
+     * end of the column respectively.
+     *
+     * @throws IllegalArgumentException if {@code before} does not sort before {@code after}
+     */
+    public static String between(String before, String after) {
+        String low = before == null ? "" : before;
+        if (after != null && low.compareTo(after) >= 0) {
+            throw new IllegalArgumentException("Rank '" + low + "' does not sort before '" + after + "'");
+        }
+        StringBuilder key = new StringBuilder();
+        String high = after;
+        for (int i = 0; ; i++) {
+            int lo = i < low.length() ? digit(low.charAt(i)) : 0;
+            int hi = high != null && i < high.length() ? digit(high.charAt(i)) : BASE;
+            if (lo == hi) {
+                key.append(DIGITS.charAt(lo));
+                continue;
+            }
+            int mid = (lo + hi) / 2;
+            if (mid > lo) {
+                return key.append(DIGITS.charAt(mid)).toString();
+            }
+            // Adjacent digits: keep the lower one; anything after it now sorts below 'after'.
+            key.append(DIGITS.charAt(lo));
+            high = null;
+        }
+    }
+
+    private static int digit(char c) {
+        int digit = DIGITS.indexOf(c);
+        if (digit < 0) {
+            throw new IllegalArgumentException("Invalid rank character '" + c + "'");
+        }
+        return digit;
+    }
+}
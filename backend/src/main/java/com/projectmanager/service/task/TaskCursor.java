@@ -0,0 +1,50 @@
+package com.projectmanager.service.task;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque keyset position in a project's task list, ordered by (createdAt DESC, id DESC).
+ */
+public final class TaskCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public TaskCursor(LocalDateTime createdAt, UUID id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new TaskCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
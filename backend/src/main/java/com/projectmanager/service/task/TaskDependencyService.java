@@ -0,0 +1,16 @@
+package com.projectmanager.service.task;
+
+import com.projectmanager.dto.request.TaskDependencyRequest;
+import com.projectmanager.dto.response.TaskDependencyResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskDependencyService {
+
+    List<TaskDependencyResponse> getDependenciesByProjectId(UUID projectId);
+
+    TaskDependencyResponse addDependency(TaskDependencyRequest request);
+
+    void deleteDependency(UUID id);
+}
@@ -0,0 +1,95 @@
+package com.projectmanager.service.task;
+
+import com.projectmanager.dto.request.TaskDependencyRequest;
+import com.projectmanager.dto.response.TaskDependencyResponse;
+import com.projectmanager.entity.Project;
+import com.projectmanager.entity.Task;
+import com.projectmanager.entity.TaskDependency;
+import com.projectmanager.event.TaskDependencyChangedEvent;
+import com.projectmanager.mapper.TaskDependencyMapper;
+import com.projectmanager.repository.ProjectRepository;
+import com.projectmanager.repository.TaskDependencyRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.service.project.CriticalPathEngine;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class TaskDependencyServiceImpl implements TaskDependencyService {
+
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskDependencyMapper taskDependencyMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    public TaskDependencyServiceImpl(TaskDependencyRepository taskDependencyRepository, TaskRepository taskRepository, ProjectRepository projectRepository, TaskDependencyMapper taskDependencyMapper, ApplicationEventPublisher eventPublisher) {
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.taskDependencyMapper = taskDependencyMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskDependencyResponse> getDependenciesByProjectId(UUID projectId) {
+        return taskDependencyMapper.toResponseList(taskDependencyRepository.findByProjectId(projectId));
+    }
+
+    @Override
+    @Transactional
+    public TaskDependencyResponse addDependency(TaskDependencyRequest request) {
+        if (request == null || request.getPredecessorTaskId() == null || request.getSuccessorTaskId() == null) {
+            throw new IllegalArgumentException("Both predecessorTaskId and successorTaskId are required");
+        }
+        Task predecessor = taskRepository.findById(request.getPredecessorTaskId())
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + request.getPredecessorTaskId()));
+        Task successor = taskRepository.findById(request.getSuccessorTaskId())
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + request.getSuccessorTaskId()));
+        if (predecessor.getProject() == null || successor.getProject() == null
+                || !predecessor.getProject().getId().equals(successor.getProject().getId())) {
+            throw new IllegalArgumentException("A dependency can only link tasks of the same project");
+        }
+
+        // Serialises graph edits per project so two concurrent edges cannot close a cycle together.
+        UUID projectId = predecessor.getProject().getId();
+        Project project = projectRepository.findByIdForUpdate(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
+
+        if (taskDependencyRepository.existsByPredecessorIdAndSuccessorId(predecessor.getId(), successor.getId())) {
+            throw new IllegalArgumentException("Dependency already exists");
+        }
+        List<CriticalPathEngine.Edge> edges = taskDependencyRepository.findEdgesByProjectId(projectId).stream()
+                .map(row -> new CriticalPathEngine.Edge(row.getPredecessorId(), row.getSuccessorId()))
+                .toList();
+        if (CriticalPathEngine.createsCycle(edges, predecessor.getId(), successor.getId())) {
+            throw new IllegalArgumentException("Dependency would create a cycle");
+        }
+
+        TaskDependency dependency = taskDependencyRepository.save(
+                new TaskDependency(project, predecessor, successor, LocalDateTime.now()));
+        eventPublisher.publishEvent(new TaskDependencyChangedEvent(this, projectId, predecessor.getId(), successor.getId(), true));
+        return taskDependencyMapper.toResponse(dependency);
+    }
+
+    @Override
+    @Transactional
+    public void deleteDependency(UUID id) {
+        TaskDependency dependency = taskDependencyRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Dependency not found with ID: " + id));
+        UUID projectId = dependency.getProject().getId();
+        UUID predecessorId = dependency.getPredecessor().getId();
+        UUID successorId = dependency.getSuccessor().getId();
+        taskDependencyRepository.delete(dependency);
+        eventPublisher.publishEvent(new TaskDependencyChangedEvent(this, projectId, predecessorId, successorId, false));
+    }
+}
@@ -0,0 +1,15 @@
+package com.projectmanager.service.task;
+
+import com.projectmanager.model.task.TaskExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.UUID;
+
+public interface TaskExportService {
+
+    /**
+     * Writes every task of the project to {@code out} as it is read, without materialising the result.
+     */
+    void exportProjectTasks(UUID projectId, TaskExportFormat format, OutputStream out) throws IOException;
+}
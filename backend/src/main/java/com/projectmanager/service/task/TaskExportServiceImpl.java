@@ -0,0 +1,124 @@
+package com.projectmanager.service.task;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanager.dto.response.TaskResponse;
+import com.projectmanager.entity.Task;
+import com.projectmanager.mapper.TaskMapper;
+import com.projectmanager.model.task.TaskExportFormat;
+import com.projectmanager.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Service
+public class TaskExportServiceImpl implements TaskExportService {
+
+    // Rows between persistence-context clears and writer flushes; keeps memory flat on large projects.
+    private static final int CHUNK_SIZE = 500;
+    private static final String CSV_HEADER = "id,title,description,priority,type,status,estimatedHours,dueDate," +
+            "createdAt,updatedAt,projectId,assignedToUserId,createdByUserId,version";
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @Autowired
+    public TaskExportServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper, ObjectMapper objectMapper, EntityManager entityManager, PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.taskMapper = taskMapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @PreAuthorize("hasAnyRole('admin', 'project-manager', 'developer', 'observer')")
+    @Override
+    public void exportProjectTasks(UUID projectId, TaskExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            // The export is written from an async request thread, so the transaction (and with it the
+            // PostgreSQL cursor behind the stream) is opened here rather than by the caller.
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<Task> tasks = taskRepository.streamByProjectId(projectId)) {
+                    write(tasks.iterator(), format, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void write(Iterator<Task> tasks, TaskExportFormat format, Writer writer) throws IOException {
+        if (format == TaskExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write("\r\n");
+        }
+        JsonGenerator json = format == TaskExportFormat.NDJSON ? objectMapper.getFactory().createGenerator(writer) : null;
+        if (json != null) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            json.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            json.setRootValueSeparator(null);
+        }
+
+        int rows = 0;
+        while (tasks.hasNext()) {
+            TaskResponse task = taskMapper.toListResponse(tasks.next());
+            if (json != null) {
+                objectMapper.writeValue(json, task);
+                json.flush();
+                writer.write('\n');
+            } else {
+                writeCsvRow(task, writer);
+            }
+            if (++rows % CHUNK_SIZE == 0) {
+                entityManager.clear();
+                writer.flush();
+            }
+        }
+    }
+
+    private static void writeCsvRow(TaskResponse task, Writer writer) throws IOException {
+        Object[] values = {task.getId(), task.getTitle(), task.getDescription(), task.getPriority(), task.getType(),
+                task.getStatus(), task.getEstimatedHours(), task.getDueDate(), task.getCreatedAt(), task.getUpdatedAt(),
+                task.getProjectId(), task.getAssignedToUserId(), task.getCreatedByUserId(), task.getVersion()};
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,22 @@
+package com.projectmanager.service.task;
+
+import com.projectmanager.dto.response.CursorPageResponse;
+import com.projectmanager.dto.response.TaskChangeResponse;
+import com.projectmanager.dto.response.TaskStateResponse;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface TaskHistoryService {
+
+    /**
+     * Field-level changes of a task, newest first. {@code cursor} is the {@code nextCursor} of the previous page.
+     */
+    CursorPageResponse<TaskChangeResponse> getHistory(UUID taskId, String cursor, Integer size);
+
+    /**
+     * Tracked state of a task as it was at {@code at}, rebuilt from the latest snapshot before it and the
+     * changes since.
+     */
+    TaskStateResponse getStateAt(UUID taskId, LocalDateTime at);
+}
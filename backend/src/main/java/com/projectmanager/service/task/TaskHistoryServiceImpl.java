@@ -0,0 +1,124 @@
+package com.projectmanager.service.task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanager.dto.response.CursorPageResponse;
+import com.projectmanager.dto.response.TaskChangeResponse;
+import com.projectmanager.dto.response.TaskStateResponse;
+import com.projectmanager.repository.TaskHistoryRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.repository.projection.TaskChangeRow;
+import com.projectmanager.repository.projection.TaskSnapshotRow;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Service
+public class TaskHistoryServiceImpl implements TaskHistoryService {
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final TypeReference<Map<String, List<Object>>> CHANGES = new TypeReference<>() {
+    };
+    private static final TypeReference<Map<String, Object>> STATE = new TypeReference<>() {
+    };
+
+    private final TaskHistoryRepository taskHistoryRepository;
+    private final TaskRepository taskRepository;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public TaskHistoryServiceImpl(TaskHistoryRepository taskHistoryRepository, TaskRepository taskRepository,
+                                  ObjectMapper objectMapper) {
+        this.taskHistoryRepository = taskHistoryRepository;
+        this.taskRepository = taskRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @PreAuthorize("hasAnyRole('admin','project-manager', 'developer', 'observer')")
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskChangeResponse> getHistory(UUID taskId, String cursor, Integer size) {
+        requireTask(taskId);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        long beforeVersion = Long.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                beforeVersion = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+
+        // One extra row tells us whether another page exists without a COUNT query.
+        List<TaskChangeRow> rows = taskHistoryRepository.findChanges(taskId, beforeVersion, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = rows.subList(0, pageSize);
+        }
+        List<TaskChangeResponse> items = rows.stream().map(this::toResponse).collect(Collectors.toList());
+        String nextCursor = hasMore ? Long.toString(rows.get(rows.size() - 1).getVersion()) : null;
+        return new CursorPageResponse<>(items, nextCursor, hasMore);
+    }
+
+    @PreAuthorize("hasAnyRole('admin','project-manager', 'developer', 'observer')")
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStateResponse getStateAt(UUID taskId, LocalDateTime at) {
+        requireTask(taskId);
+        TaskSnapshotRow snapshot = taskHistoryRepository.findLatestSnapshot(taskId, at)
+                .orElseThrow(() -> new EntityNotFoundException("No history for task " + taskId + " at " + at));
+
+        Map<String, Object> state = new LinkedHashMap<>(read(snapshot.getState(), STATE));
+        long version = snapshot.getVersion();
+        for (TaskChangeRow change : taskHistoryRepository.findChangesBetween(taskId, version, at)) {
+            read(change.getChanges(), CHANGES).forEach((field, values) -> state.put(field, values.get(1)));
+            version = change.getVersion();
+        }
+
+        TaskStateResponse response = new TaskStateResponse();
+        response.setTaskId(taskId);
+        response.setAsOf(at);
+        response.setVersion(version);
+        response.setState(state);
+        return response;
+    }
+
+    private void requireTask(UUID taskId) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new EntityNotFoundException("Task not found with ID: " + taskId);
+        }
+    }
+
+    private TaskChangeResponse toResponse(TaskChangeRow row) {
+        Map<String, TaskChangeResponse.FieldChange> changes = new LinkedHashMap<>();
+        read(row.getChanges(), CHANGES).forEach((field, values) ->
+                changes.put(field, new TaskChangeResponse.FieldChange(values.get(0), values.get(1))));
+
+        TaskChangeResponse response = new TaskChangeResponse();
+        response.setVersion(row.getVersion());
+        response.setChangedAt(row.getChangedAt());
+        response.setActorUserId(row.getActorUserId());
+        response.setActorUsername(row.getActorUsername());
+        response.setChanges(changes);
+        return response;
+    }
+
+    private <T> T read(String json, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(json, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Corrupt task history", e);
+        }
+    }
+}
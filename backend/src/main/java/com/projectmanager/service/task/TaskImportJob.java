@@ -0,0 +1,118 @@
+package com.projectmanager.service.task;
+
+import com.projectmanager.dto.response.TaskImportErrorResponse;
+import com.projectmanager.dto.response.TaskImportJobResponse;
+import com.projectmanager.model.task.TaskImportFormat;
+import com.projectmanager.model.task.TaskImportStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Progress of one import, written by the worker and read by status requests. Only the first
+ * {@code maxErrors} row errors are kept; the rest are counted.
+ */
+final class TaskImportJob {
+
+    private final UUID id = UUID.randomUUID();
+    private final UUID projectId;
+    private final UUID actorUserId;
+    private final TaskImportFormat format;
+    private final int maxErrors;
+    private final LocalDateTime startedAt = LocalDateTime.now();
+
+    private final List<TaskImportErrorResponse> errors = new ArrayList<>();
+    private TaskImportStatus status = TaskImportStatus.QUEUED;
+    private long rowsRead;
+    private long rowsStaged;
+    private long tasksImported;
+    private long commentsImported;
+    private long errorCount;
+    private String failureMessage;
+    private LocalDateTime finishedAt;
+
+    TaskImportJob(UUID projectId, UUID actorUserId, TaskImportFormat format, int maxErrors) {
+        this.projectId = projectId;
+        this.actorUserId = actorUserId;
+        this.format = format;
+        this.maxErrors = maxErrors;
+    }
+
+    UUID getId() {
+        return id;
+    }
+
+    UUID getProjectId() {
+        return projectId;
+    }
+
+    UUID getActorUserId() {
+        return actorUserId;
+    }
+
+    TaskImportFormat getFormat() {
+        return format;
+    }
+
+    synchronized void setStatus(TaskImportStatus status) {
+        this.status = status;
+    }
+
+    synchronized void rowRead(boolean staged) {
+        rowsRead++;
+        if (staged) {
+            rowsStaged++;
+        }
+    }
+
+    synchronized void rejectStaged(long rows) {
+        rowsStaged -= rows;
+    }
+
+    synchronized void addError(long line, String message) {
+        errorCount++;
+        if (errors.size() < maxErrors) {
+            errors.add(new TaskImportErrorResponse(line, message));
+        }
+    }
+
+    synchronized void complete(long tasksImported, long commentsImported) {
+        this.tasksImported = tasksImported;
+        this.commentsImported = commentsImported;
+        this.status = TaskImportStatus.COMPLETED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    synchronized void fail(String message) {
+        // Nothing from a failed import is committed.
+        this.tasksImported = 0;
+        this.commentsImported = 0;
+        this.failureMessage = message;
+        this.status = TaskImportStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    synchronized boolean isFinishedBefore(LocalDateTime cutoff) {
+        return finishedAt != null && finishedAt.isBefore(cutoff);
+    }
+
+    synchronized TaskImportJobResponse toResponse() {
+        TaskImportJobResponse response = new TaskImportJobResponse();
+        response.setId(id);
+        response.setProjectId(projectId);
+        response.setFormat(format);
+        response.setStatus(status);
+        response.setRowsRead(rowsRead);
+        response.setRowsStaged(rowsStaged);
+        response.setTasksImported(tasksImported);
+        response.setCommentsImported(commentsImported);
+        response.setErrorCount(errorCount);
+        response.setErrors(List.copyOf(errors));
+        response.setFailureMessage(failureMessage);
+        response.setStartedAt(startedAt);
+        response.setFinishedAt(finishedAt);
+        return response;
+    }
+}
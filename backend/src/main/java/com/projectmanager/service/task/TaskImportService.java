@@ -0,0 +1,22 @@
+package com.projectmanager.service.task;
+
+import com.projectmanager.dto.response.TaskImportJobResponse;
+import com.projectmanager.model.task.TaskImportFormat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.UUID;
+
+public interface TaskImportService {
+
+    /**
+     * Spools {@code body} to disk and queues it for import into the project; progress is available from
+     * {@link #getImport(UUID, String)} under the returned job id.
+     */
+    TaskImportJobResponse startImport(UUID projectId, TaskImportFormat format, InputStream body, String userId) throws IOException;
+
+    /**
+     * Progress of an import into a project the user can access; other imports are reported as not found.
+     */
+    TaskImportJobResponse getImport(UUID jobId, String userId);
+}
@@ -0,0 +1,595 @@
+package com.projectmanager.service.task;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanager.dto.response.TaskImportJobResponse;
+import com.projectmanager.entity.User;
+import com.projectmanager.event.TaskBatchEvent;
+import com.projectmanager.event.TaskRankRebalanceEvent;
+import com.projectmanager.model.task.TaskImportFormat;
+import com.projectmanager.model.task.TaskImportStatus;
+import com.projectmanager.model.task.TaskPriority;
+import com.projectmanager.model.task.TaskStatus;
+import com.projectmanager.model.task.TaskType;
+import com.projectmanager.service.project.ProjectMembershipCache;
+import com.projectmanager.service.project.ProjectService;
+import com.projectmanager.service.user.UserService;
+import jakarta.persistence.EntityNotFoundException;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bulk task and comment import. The upload is spooled to a temporary file and imported in the background in
+ * one transaction:
+ * <ol>
+ *     <li>each row is parsed and validated as it is read and valid rows are streamed into temporary
+ *     staging tables with COPY; tasks and comments are staged in two passes over the file;</li>
+ *     <li>user references (id or username) and comment-to-task references are resolved with one
+ *     set-based statement each, and rows that do not resolve are removed from staging as row errors;</li>
+ *     <li>the remaining rows are merged into tasks and comments with one INSERT ... SELECT each.</li>
+ * </ol>
+ * Row errors never abort the import; any other failure rolls the whole import back.
+ * <p>
+ * Rows are objects (NDJSON) or records under a header (CSV) with the fields {@code kind} ({@code task}, the
+ * default, or {@code comment}), {@code externalId}, {@code title}, {@code description}, {@code priority},
+ * {@code type}, {@code status}, {@code estimatedHours}, {@code dueDate}, {@code assignee}, {@code createdBy}
+ * and {@code createdAt} for tasks, and {@code taskExternalId} or {@code taskId}, {@code content},
+ * {@code author} and {@code createdAt} for comments. A comment refers either to a task of the same file by
+ * its {@code externalId} or to an existing task of the project by id.
+ * <p>
+ * Job progress is kept on this instance only.
+ */
+@Service
+public class TaskImportServiceImpl implements TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportServiceImpl.class);
+
+    // Column length Hibernate gives unannotated String fields.
+    private static final int MAX_TEXT_LENGTH = 255;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long JOB_RETENTION_HOURS = 1;
+
+    private static final String CREATE_TASK_STAGING = """
+            CREATE TEMP TABLE task_import_tasks (
+                line            bigint NOT NULL,
+                id              uuid   NOT NULL,
+                external_id     text,
+                title           text   NOT NULL,
+                description     text,
+                priority        text,
+                type            text,
+                status          text   NOT NULL,
+                estimated_hours integer,
+                due_date        timestamp(6),
+                assignee_id     uuid,
+                assignee_name   text,
+                created_by_id   uuid,
+                created_by_name text,
+                created_at      timestamp(6)
+            ) ON COMMIT DROP""";
+    private static final String CREATE_COMMENT_STAGING = """
+            CREATE TEMP TABLE task_import_comments (
+                line             bigint NOT NULL,
+                id               uuid   NOT NULL,
+                task_id          uuid,
+                task_external_id text,
+                content          text   NOT NULL,
+                user_id          uuid,
+                user_name        text,
+                created_at       timestamp(6)
+            ) ON COMMIT DROP""";
+    private static final String COPY_TASKS = "COPY task_import_tasks (line, id, external_id, title, description, " +
+            "priority, type, status, estimated_hours, due_date, assignee_id, assignee_name, created_by_id, " +
+            "created_by_name, created_at) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_COMMENTS = "COPY task_import_comments (line, id, task_id, task_external_id, " +
+            "content, user_id, user_name, created_at) FROM STDIN WITH (FORMAT csv)";
+
+    private static final String RESOLVE_USER = "UPDATE %1$s s SET %2$s_id = u.id FROM users u " +
+            "WHERE s.%2$s_name IS NOT NULL AND u.username = s.%2$s_name";
+    private static final String REJECT_UNKNOWN_USER = "DELETE FROM %1$s s " +
+            "WHERE (s.%2$s_id IS NOT NULL OR s.%2$s_name IS NOT NULL) " +
+            "AND NOT EXISTS (SELECT 1 FROM users u WHERE u.id = s.%2$s_id) " +
+            "RETURNING s.line, '%3$s not found: ' || coalesce(s.%2$s_name, CAST(s.%2$s_id AS text))";
+    // Creation dates in the future are clamped to now; activity deletes use a task's creation as lower bound.
+    private static final String MERGE_TASKS = """
+            INSERT INTO tasks (id, title, description, priority, type, status, estimated_hours, due_date,
+                               project_id, assigned_to_user_id, created_by_user_id, created_at, updated_at, version)
+            SELECT id, title, description, priority, type, status, estimated_hours, due_date,
+                   ?, assignee_id, created_by_id, least(coalesce(created_at, ?), ?), ?, 0
+            FROM task_import_tasks
+            ORDER BY line""";
+    // Bulk inserts bypass TaskHistoryListener, so imported tasks get their first history snapshot here.
+    private static final String SNAPSHOT_TASKS = """
+            INSERT INTO task_snapshots (task_id, version, taken_at, state)
+            SELECT t.id, t.version, t.created_at, task_history_state(t)
+            FROM tasks t JOIN task_import_tasks s ON s.id = t.id""";
+    private static final String RESOLVE_COMMENT_TASKS = """
+            UPDATE task_import_comments c SET task_id = s.id
+            FROM task_import_tasks s
+            WHERE c.task_id IS NULL AND s.external_id = c.task_external_id""";
+    private static final String REJECT_UNKNOWN_COMMENT_TASKS = """
+            DELETE FROM task_import_comments c
+            WHERE NOT EXISTS (SELECT 1 FROM tasks t
+                              WHERE t.id = c.task_id AND t.project_id = ? AND t.deleted_at IS NULL)
+            RETURNING c.line, 'task not found: ' || coalesce(c.task_external_id, CAST(c.task_id AS text))""";
+    private static final String MERGE_COMMENTS = """
+            INSERT INTO comments (id, content, task_id, user_id, created_at, updated_at)
+            SELECT id, content, task_id, user_id, coalesce(created_at, ?), ?
+            FROM task_import_comments
+            ORDER BY line""";
+    private static final String REFRESH_SEARCH_VECTORS = """
+            UPDATE tasks t SET search_vector = task_search_document(t.title, t.description, t.id)
+            WHERE t.id IN (SELECT task_id FROM task_import_comments)""";
+
+    private final ProjectService projectService;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final UserService userService;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxErrors;
+
+    private final Map<UUID, TaskImportJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public TaskImportServiceImpl(ProjectService projectService, ProjectMembershipCache projectMembershipCache,
+                                 UserService userService, ObjectMapper objectMapper,
+                                 JdbcTemplate jdbcTemplate, ApplicationEventPublisher eventPublisher,
+                                 @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${imports.max-errors:1000}") int maxErrors) {
+        this.projectService = projectService;
+        this.projectMembershipCache = projectMembershipCache;
+        this.userService = userService;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.taskExecutor = taskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxErrors = maxErrors;
+    }
+
+    @PreAuthorize("hasAnyRole('admin', 'project-manager')")
+    @Override
+    public TaskImportJobResponse startImport(UUID projectId, TaskImportFormat format, InputStream body, String userId) throws IOException {
+        if (projectService.findProjectById(projectId).isEmpty()) {
+            throw new EntityNotFoundException("Project not found with ID: " + projectId);
+        }
+        UUID actorKey = UUID.fromString(userId);
+        User actor = userService.findByKey(actorKey)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with ID:" + actorKey));
+
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(JOB_RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.isFinishedBefore(cutoff));
+
+        Path file = Files.createTempFile("task-import-", "." + format.name().toLowerCase(Locale.ROOT));
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+            TaskImportJob job = new TaskImportJob(projectId, actor.getId(), format, maxErrors);
+            jobs.put(job.getId(), job);
+            taskExecutor.execute(() -> run(job, file));
+            return job.toResponse();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(file);
+            throw e;
+        }
+    }
+
+    @PreAuthorize("hasAnyRole('admin', 'project-manager')")
+    @Override
+    public TaskImportJobResponse getImport(UUID jobId, String userId) {
+        TaskImportJob job = jobs.get(jobId);
+        if (job == null || !isAdmin() && !projectMembershipCache.canAccess(userId(userId), job.getProjectId())) {
+            // Imports into other projects are reported as missing, like the projects themselves.
+            throw new EntityNotFoundException("Import not found with ID: " + jobId);
+        }
+        return job.toResponse();
+    }
+
+    private UUID userId(String userKey) {
+        UUID actorKey = UUID.fromString(userKey);
+        return userService.findByKey(actorKey)
+                .map(User::getId)
+                .orElseThrow(() -> new EntityNotFoundException("User not found with ID:" + actorKey));
+    }
+
+    private static boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_admin".equals(authority.getAuthority()));
+    }
+
+    private void run(TaskImportJob job, Path file) {
+        long started = System.nanoTime();
+        try {
+            long[] imported = transactionTemplate.execute(status -> {
+                try {
+                    return importFile(job, file);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            job.complete(imported[0], imported[1]);
+            log.info("Imported {} tasks and {} comments into project {} in {} ms", imported[0], imported[1],
+                    job.getProjectId(), (System.nanoTime() - started) / 1_000_000);
+        } catch (RuntimeException e) {
+            Throwable cause = e instanceof UncheckedIOException || e.getCause() instanceof SQLException ? e.getCause() : e;
+            log.warn("Task import {} into project {} failed", job.getId(), job.getProjectId(), e);
+            job.fail(cause.getMessage());
+        } finally {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Could not delete import spool file {}", file, e);
+            }
+        }
+    }
+
+    private long[] importFile(TaskImportJob job, Path file) throws IOException, SQLException {
+        UUID projectId = job.getProjectId();
+        LocalDateTime now = LocalDateTime.now();
+        // Bound to the transaction; released with it.
+        Connection connection = DataSourceUtils.getConnection(dataSource());
+        PGConnection pgConnection = connection.unwrap(PGConnection.class);
+
+        job.setStatus(TaskImportStatus.STAGING);
+        jdbcTemplate.execute(CREATE_TASK_STAGING);
+        jdbcTemplate.execute(CREATE_COMMENT_STAGING);
+        Set<String> externalIds = new HashSet<>();
+        try (Writer out = copyWriter(pgConnection, COPY_TASKS)) {
+            forEachRow(job, file, true, (line, row) -> {
+                if (!"comment".equals(kind(row))) {
+                    stageTask(job, line, row, externalIds, out);
+                }
+            });
+        }
+        try (Writer out = copyWriter(pgConnection, COPY_COMMENTS)) {
+            forEachRow(job, file, false, (line, row) -> {
+                if ("comment".equals(kind(row))) {
+                    stageComment(job, line, row, out);
+                }
+            });
+        }
+        jdbcTemplate.execute("ANALYZE task_import_tasks");
+        jdbcTemplate.execute("ANALYZE task_import_comments");
+
+        job.setStatus(TaskImportStatus.MERGING);
+        resolveUsers(job, "task_import_tasks", "assignee", "assignee");
+        resolveUsers(job, "task_import_tasks", "created_by", "createdBy");
+        resolveUsers(job, "task_import_comments", "user", "author");
+        long tasks = jdbcTemplate.update(MERGE_TASKS, projectId, now, now, now);
+        if (tasks > 0) {
+            jdbcTemplate.update(SNAPSHOT_TASKS);
+        }
+
+        jdbcTemplate.update(RESOLVE_COMMENT_TASKS);
+        reject(job, REJECT_UNKNOWN_COMMENT_TASKS, projectId);
+        // Comment inserts skip the per-row search vector trigger; the touched tasks are refreshed once below.
+        jdbcTemplate.queryForObject("SELECT set_config('projectmanager.bulk_import', 'on', true)", String.class);
+        long comments = jdbcTemplate.update(MERGE_COMMENTS, now, now);
+        if (comments > 0) {
+            jdbcTemplate.update(REFRESH_SEARCH_VECTORS);
+        }
+
+        if (tasks > 0) {
+            eventPublisher.publishEvent(new TaskBatchEvent(this, projectId, job.getActorUserId(), (int) tasks, 0));
+            // Imported tasks are unranked; they are ranked after the project's existing tasks once committed.
+            eventPublisher.publishEvent(new TaskRankRebalanceEvent(this, projectId, null));
+        }
+        return new long[]{tasks, comments};
+    }
+
+    private DataSource dataSource() {
+        DataSource dataSource = jdbcTemplate.getDataSource();
+        if (dataSource == null) {
+            throw new IllegalStateException("No DataSource configured");
+        }
+        return dataSource;
+    }
+
+    private void resolveUsers(TaskImportJob job, String table, String column, String field) {
+        jdbcTemplate.update(RESOLVE_USER.formatted(table, column));
+        reject(job, REJECT_UNKNOWN_USER.formatted(table, column, field));
+    }
+
+    private void reject(TaskImportJob job, String sql, Object... args) {
+        long[] rejected = {0};
+        jdbcTemplate.query(sql, rs -> {
+            job.addError(rs.getLong(1), rs.getString(2));
+            rejected[0]++;
+        }, args);
+        job.rejectStaged(rejected[0]);
+    }
+
+    // Parsing and staging ---------------------------------------------------------------------------------
+
+    @FunctionalInterface
+    private interface RowHandler {
+        void handle(long line, Map<String, String> row) throws IOException;
+    }
+
+    /**
+     * Streams the rows of the file to {@code handler}. Rows that cannot be parsed are reported on the
+     * {@code firstPass} only, so a second pass over the same file does not report them twice.
+     */
+    private void forEachRow(TaskImportJob job, Path file, boolean firstPass, RowHandler handler) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            if (job.getFormat() == TaskImportFormat.CSV) {
+                forEachCsvRow(reader, handler);
+            } else {
+                forEachJsonRow(job, reader, firstPass, handler);
+            }
+        }
+    }
+
+    private void forEachCsvRow(Reader reader, RowHandler handler) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return;
+        }
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < header.size() && i < record.size(); i++) {
+                if (header.get(i) != null) {
+                    row.put(header.get(i).trim(), record.get(i));
+                }
+            }
+            handler.handle(csv.recordLine(), row);
+        }
+    }
+
+    private void forEachJsonRow(TaskImportJob job, BufferedReader reader, boolean firstPass, RowHandler handler) throws IOException {
+        long line = 0;
+        String text;
+        while ((text = reader.readLine()) != null) {
+            line++;
+            if (text.isBlank()) {
+                continue;
+            }
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(text);
+            } catch (JsonProcessingException e) {
+                if (firstPass) {
+                    job.rowRead(false);
+                    job.addError(line, "malformed JSON: " + e.getOriginalMessage());
+                }
+                continue;
+            }
+            if (!node.isObject()) {
+                if (firstPass) {
+                    job.rowRead(false);
+                    job.addError(line, "expected a JSON object");
+                }
+                continue;
+            }
+            Map<String, String> row = new HashMap<>();
+            for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext(); ) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                JsonNode value = field.getValue();
+                row.put(field.getKey(), value.isNull() ? null : value.isValueNode() ? value.asText() : value.toString());
+            }
+            handler.handle(line, row);
+        }
+    }
+
+    private static String kind(Map<String, String> row) {
+        String kind = blankToNull(row.get("kind"));
+        return kind == null ? "task" : kind.toLowerCase(Locale.ROOT);
+    }
+
+    void stageTask(TaskImportJob job, long line, Map<String, String> row, Set<String> externalIds, Writer out) throws IOException {
+        Object[] values;
+        try {
+            if (!"task".equals(kind(row))) {
+                throw new IllegalArgumentException("unknown kind: " + row.get("kind"));
+            }
+            String externalId = text(row, "externalId", false);
+            if (externalId != null && !externalIds.add(externalId)) {
+                throw new IllegalArgumentException("duplicate externalId: " + externalId);
+            }
+            String[] assignee = userReference(row, "assignee", null);
+            String[] createdBy = userReference(row, "createdBy", job.getActorUserId());
+            TaskStatus status = enumValue(row, "status", TaskStatus.class);
+            values = new Object[]{line, UUID.randomUUID(), externalId, text(row, "title", true),
+                    text(row, "description", false), enumValue(row, "priority", TaskPriority.class),
+                    enumValue(row, "type", TaskType.class), status != null ? status : TaskStatus.TODO,
+                    estimatedHours(row), dateTime(row, "dueDate"), assignee[0], assignee[1], createdBy[0], createdBy[1],
+                    dateTime(row, "createdAt")};
+        } catch (IllegalArgumentException e) {
+            job.rowRead(false);
+            job.addError(line, e.getMessage());
+            return;
+        }
+        writeCopyRow(out, values);
+        job.rowRead(true);
+    }
+
+    void stageComment(TaskImportJob job, long line, Map<String, String> row, Writer out) throws IOException {
+        Object[] values;
+        try {
+            String taskExternalId = text(row, "taskExternalId", false);
+            UUID taskId = uuid(row, "taskId");
+            if (taskExternalId == null && taskId == null) {
+                throw new IllegalArgumentException("taskExternalId or taskId is required");
+            }
+            String[] author = userReference(row, "author", job.getActorUserId());
+            values = new Object[]{line, UUID.randomUUID(), taskId, taskExternalId, text(row, "content", true),
+                    author[0], author[1], dateTime(row, "createdAt")};
+        } catch (IllegalArgumentException e) {
+            job.rowRead(false);
+            job.addError(line, e.getMessage());
+            return;
+        }
+        writeCopyRow(out, values);
+        job.rowRead(true);
+    }
+
+    private static String text(Map<String, String> row, String field, boolean required) {
+        String value = required ? blankToNull(row.get(field)) : row.get(field);
+        if (value == null) {
+            if (required) {
+                throw new IllegalArgumentException(field + " is required");
+            }
+            return null;
+        }
+        if (value.length() > MAX_TEXT_LENGTH) {
+            throw new IllegalArgumentException(field + " is longer than " + MAX_TEXT_LENGTH + " characters");
+        }
+        if (value.indexOf('\0') >= 0) {
+            throw new IllegalArgumentException(field + " contains a NUL character");
+        }
+        return value;
+    }
+
+    private static <E extends Enum<E>> E enumValue(Map<String, String> row, String field, Class<E> type) {
+        String value = blankToNull(row.get(field));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid " + field + ": " + value);
+        }
+    }
+
+    private static Integer estimatedHours(Map<String, String> row) {
+        String value = blankToNull(row.get("estimatedHours"));
+        if (value == null) {
+            return null;
+        }
+        try {
+            int hours = Integer.parseInt(value.trim());
+            if (hours < 0) {
+                throw new IllegalArgumentException("estimatedHours must not be negative");
+            }
+            return hours;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid estimatedHours: " + value);
+        }
+    }
+
+    private static LocalDateTime dateTime(Map<String, String> row, String field) {
+        String value = blankToNull(row.get(field));
+        if (value == null) {
+            return null;
+        }
+        String trimmed = value.trim();
+        try {
+            return trimmed.length() == 10 ? LocalDate.parse(trimmed).atStartOfDay() : LocalDateTime.parse(trimmed);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("invalid " + field + ": " + value);
+        }
+    }
+
+    private static UUID uuid(Map<String, String> row, String field) {
+        String value = blankToNull(row.get(field));
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("invalid " + field + ": " + value);
+        }
+    }
+
+    /**
+     * @return {@code {id, username}} for a user given by id or by username; either may be {@code null}
+     */
+    private static String[] userReference(Map<String, String> row, String field, UUID defaultUserId) {
+        String value = blankToNull(row.get(field));
+        if (value == null) {
+            return new String[]{defaultUserId != null ? defaultUserId.toString() : null, null};
+        }
+        String trimmed = value.trim();
+        try {
+            return new String[]{UUID.fromString(trimmed).toString(), null};
+        } catch (IllegalArgumentException e) {
+            return new String[]{null, text(Map.of(field, trimmed), field, true)};
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+
+    private static Writer copyWriter(PGConnection connection, String sql) throws SQLException {
+        return new BufferedWriter(new OutputStreamWriter(
+                new PGCopyOutputStream(connection, sql, BUFFER_SIZE), StandardCharsets.UTF_8), BUFFER_SIZE);
+    }
+
+    /**
+     * Writes one row in COPY's CSV format: an unquoted empty field is NULL, text is always quoted so an
+     * empty string stays an empty string.
+     */
+    private static void writeCopyRow(Writer out, Object[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            Object value = values[i];
+            if (value instanceof String text) {
+                out.write('"');
+                out.write(text.replace("\"", "\"\""));
+                out.write('"');
+            } else if (value instanceof Enum<?> constant) {
+                out.write(constant.name());
+            } else if (value != null) {
+                out.write(value.toString());
+            }
+        }
+        out.write('\n');
+    }
+}
@@ -0,0 +1,62 @@
+package com.projectmanager.service.task;
+
+import com.projectmanager.event.TaskRankRebalanceEvent;
+import com.projectmanager.repository.TaskRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renumbers board columns whose ranks have grown long, in the background once the move that noticed it
+ * has committed. Requests for a column that is already queued are merged.
+ */
+@Component
+public class TaskRankRebalancer {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskRankRebalancer.class);
+
+    private final TaskRepository taskRepository;
+    private final TaskExecutor taskExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<String, Boolean> queued = new ConcurrentHashMap<>();
+
+    public TaskRankRebalancer(TaskRepository taskRepository,
+                              @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                              PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.taskExecutor = taskExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleTaskRankRebalanceEvent(TaskRankRebalanceEvent event) {
+        UUID projectId = event.getProjectId();
+        String status = event.getStatus() == null ? null : event.getStatus().name();
+        String column = projectId + "/" + Objects.requireNonNullElse(status, "*");
+        if (queued.putIfAbsent(column, Boolean.TRUE) != null) {
+            return;
+        }
+        taskExecutor.execute(() -> {
+            // Released first so that moves during the rebalance can queue another one.
+            queued.remove(column);
+            try {
+                Long renumbered = transactionTemplate.execute(tx -> taskRepository.rebalanceRanks(projectId, status));
+                log.debug("Rebalanced board column {}: {} tasks renumbered", column, renumbered);
+            } catch (RuntimeException e) {
+                log.warn("Failed to rebalance board column {}", column, e);
+            }
+        });
+    }
+}
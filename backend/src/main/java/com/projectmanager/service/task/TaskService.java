@@ -1,10 +1,21 @@
 package com.projectmanager.service.task;
 
+import com.fasterxml.jackson.databind.JsonNode;
 
+import com.projectmanager.dto.request.TaskBatchUpdateRequest;
+import com.projectmanager.dto.request.TaskFilterRequest;
+import com.projectmanager.dto.request.TaskReorderRequest;
 import com.projectmanager.dto.request.TaskRequest;
+import com.projectmanager.dto.request.TaskStatusTransitionRequest;
+import com.projectmanager.dto.response.CursorPageResponse;
+import com.projectmanager.dto.response.PageResponse;
+import com.projectmanager.dto.response.TaskBoardStatsResponse;
 import com.projectmanager.dto.response.TaskResponse;
+import com.projectmanager.dto.response.TaskStatusTransitionResponse;
+import com.projectmanager.dto.response.TaskSummaryResponse;
 import com.projectmanager.entity.Task;
 import com.projectmanager.model.task.TaskStatus;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,10 +25,22 @@ public interface TaskService {
 
     List<TaskResponse> getTasks();
     Optional<Task> getTask(UUID id);
-    List<TaskResponse> getTasksByStatus(TaskStatus status);
+    List<TaskResponse> getTasksByStatus(TaskStatus status, String userId);
     TaskResponse addTask(TaskRequest task, String userId);
     TaskResponse updateTask(UUID id,TaskRequest request);
+    TaskResponse updateTask(UUID id, TaskRequest request, Long expectedVersion);
+    TaskResponse patchTask(UUID id, JsonNode patch, Long expectedVersion, String userId);
+    List<TaskResponse> addTasks(List<TaskRequest> requests, String userId);
+    List<TaskResponse> updateTasks(List<TaskBatchUpdateRequest> requests, String userId);
+    TaskStatusTransitionResponse transitionStatus(TaskStatusTransitionRequest request, String userId);
+    TaskResponse reorderTask(UUID id, TaskReorderRequest request, Long expectedVersion);
     void deleteTask(UUID id);
     List<TaskResponse> getTasksByProjectId(UUID projectId);
+    CursorPageResponse<TaskResponse> getTasksByProjectId(UUID projectId, String cursor, Integer size);
+    List<TaskResponse> getBoard(UUID projectId, TaskStatus status);
     List<Task> getTasksForUser(UUID userId);
+    CursorPageResponse<TaskSummaryResponse> getTaskSummaries(TaskStatus status, String cursor, Integer size, String userId);
+    List<TaskSummaryResponse> getTaskSummariesByProjectId(UUID projectId);
+    PageResponse<TaskResponse> filterTasks(TaskFilterRequest filter, Pageable pageable, String userId);
+    TaskBoardStatsResponse getProjectTaskStats(UUID projectId);
 }
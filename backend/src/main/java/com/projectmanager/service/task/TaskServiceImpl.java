@@ -1,28 +1,79 @@
 package com.projectmanager.service.task;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanager.dto.request.TaskBatchUpdateRequest;
+import com.projectmanager.dto.request.TaskFilterRequest;
+import com.projectmanager.dto.request.TaskReorderRequest;
 import com.projectmanager.dto.request.TaskRequest;
+import com.projectmanager.dto.request.TaskStatusTransitionRequest;
+import com.projectmanager.dto.response.CursorPageResponse;
+import com.projectmanager.dto.response.PageResponse;
+import com.projectmanager.dto.response.TaskBoardStatsResponse;
 import com.projectmanager.dto.response.TaskResponse;
+import com.projectmanager.dto.response.TaskStatusTransitionResponse;
+import com.projectmanager.dto.response.TaskSummaryResponse;
 import com.projectmanager.entity.Project;
 import com.projectmanager.entity.Task;
+import com.projectmanager.entity.TaskDependency;
 import com.projectmanager.entity.User;
+import com.projectmanager.event.TaskBatchEvent;
+import com.projectmanager.event.TaskDeletedEvent;
+import com.projectmanager.event.TaskDependencyChangedEvent;
+import com.projectmanager.event.TaskRankRebalanceEvent;
+import com.projectmanager.event.TaskStatusTransitionEvent;
+import com.projectmanager.listener.task.TaskEventSuppression;
 import com.projectmanager.mapper.TaskMapper;
+import com.projectmanager.model.task.TaskPriority;
+import com.projectmanager.model.task.TaskType;
 import com.projectmanager.model.task.TaskStatus;
-import com.projectmanager.repository.ActivityRepository;
+import com.projectmanager.repository.CommentRepository;
+import com.projectmanager.repository.TaskDependencyRepository;
 import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.repository.projection.TaskAggregateRow;
+import com.projectmanager.repository.projection.TaskRankRow;
+import com.projectmanager.repository.projection.TaskVersionRow;
+import com.projectmanager.repository.specification.TaskSpecifications;
 import com.projectmanager.service.activity.ActivityService;
+import com.projectmanager.service.project.ProjectMembershipCache;
 import com.projectmanager.service.project.ProjectService;
 import com.projectmanager.service.user.UserService;
 import jakarta.persistence.EntityNotFoundException;
 import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -32,14 +83,32 @@ public class TaskServiceImpl implements TaskService {
     private final TaskMapper taskMapper;
     private final UserService userService;
     private final ProjectService projectService;
-    private final ActivityRepository activityRepository;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final TaskDependencyRepository taskDependencyRepository;
+    private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int maxRankLength;
+
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final Set<TaskStatus> CLOSED_STATUSES = Set.of(TaskStatus.DONE, TaskStatus.CLOSED);
+    private static final Set<String> FILTER_SORT_PROPERTIES = Set.of("createdAt", "updatedAt", "dueDate", "priority", "status", "title");
+
     @Autowired
-    public TaskServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper, ProjectService projectService, UserService userService, ActivityRepository activityRepository) {
+    public TaskServiceImpl(TaskRepository taskRepository, TaskMapper taskMapper, ProjectService projectService, ProjectMembershipCache projectMembershipCache, UserService userService, TaskDependencyRepository taskDependencyRepository, CommentRepository commentRepository, ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+                           @Value("${ranking.max-length:16}") int maxRankLength) {
         this.taskRepository = taskRepository;
         this.taskMapper = taskMapper;
         this.projectService = projectService;
+        this.projectMembershipCache = projectMembershipCache;
         this.userService = userService;
-        this.activityRepository = activityRepository;
+        this.taskDependencyRepository = taskDependencyRepository;
+        this.commentRepository = commentRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.maxRankLength = maxRankLength;
     }
 
 //    @PreAuthorize("hasRole('admin_ROLE')")
@@ -72,8 +141,9 @@ public Optional<Task> getTask(UUID id) {
 
 @PreAuthorize("hasAnyRole('admin', 'project-manager', 'developer', 'observer')")
 @Override
-public List<TaskResponse> getTasksByStatus(TaskStatus status) {
-    return taskRepository.findByStatus(status).stream().map(taskMapper::toResponse).collect(Collectors.toList());
+public List<TaskResponse> getTasksByStatus(TaskStatus status, String userId) {
+    return taskRepository.findByStatusVisibleTo(status, visibleToUserId(userId)).stream()
+            .map(taskMapper::toResponse).collect(Collectors.toList());
 }
 
 @PreAuthorize("hasAnyRole('admin','project-manager')")
@@ -92,6 +162,7 @@ newTask.setProject(projectService.findProjectById(request.getProjectId())
         .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + request.getProjectId())));
 newTask.setAssignedTo(userService.getUserById(request.getAssignedToUserId())
         .orElseThrow(()->new EntityNotFoundException("User not found with ID: " + request.getAssignedToUserId())));
+newTask.setRank(LexoRank.between(lastRank(newTask.getProject().getId(), newTask.getStatus()), null));
 Task createdTask = taskRepository.save(newTask);
 UUID creator = UUID.fromString(userId);
 newTask.setCreatedBy(userService.findByKey(creator).
@@ -103,9 +174,18 @@ newTask.setCreatedBy(userService.findByKey(creator).
 @Override
 @Transactional
 public TaskResponse updateTask(UUID id, TaskRequest request) {
+    return updateTask(id, request, null);
+}
+
+@PreAuthorize("hasAnyRole('admin','project-manager', 'developer')")
+@Override
+@Transactional
+public TaskResponse updateTask(UUID id, TaskRequest request, Long expectedVersion) {
     Task existingTask = taskRepository.findById(id)
             .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
-
+    checkVersion(existingTask, expectedVersion);
+    UUID previousProjectId = existingTask.getProject().getId();
+    TaskStatus previousStatus = existingTask.getStatus();
 
     taskMapper.updateTaskFromDto(request, existingTask);
 
@@ -118,22 +198,518 @@ public TaskResponse updateTask(UUID id, TaskRequest request) {
     if (request.getProjectId() != null) {
         Project project = projectService.findProjectById(request.getProjectId())
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + request.getProjectId()));
-        existingTask.setProject(project);
+        moveToProject(existingTask, project);
     }
+    rankIfColumnChanged(existingTask, previousProjectId, previousStatus, new HashMap<>());
 
     existingTask.setUpdatedAt(LocalDateTime.now());
 
-    Task savedTask = taskRepository.save(existingTask);
+    // Flush so the response (and its ETag) carries the incremented version.
+    Task savedTask = taskRepository.saveAndFlush(existingTask);
+
+    return taskMapper.toResponse(savedTask);
+}
 
+@PreAuthorize("hasAnyRole('admin','project-manager', 'developer')")
+@Override
+@Transactional
+public TaskResponse patchTask(UUID id, JsonNode patch, Long expectedVersion, String userId) {
+    if (patch == null || !patch.isObject()) {
+        throw new IllegalArgumentException("Merge patch must be a JSON object");
+    }
+    Task task = taskRepository.findById(id)
+            .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
+    checkVersion(task, expectedVersion);
+    UUID previousProjectId = task.getProject().getId();
+    TaskStatus previousStatus = task.getStatus();
+
+    // JSON Merge Patch (RFC 7396): absent members are left alone, null clears the value.
+    // Unchanged values leave the entity clean, so @DynamicUpdate writes only what really changed.
+    Iterator<Map.Entry<String, JsonNode>> fields = patch.fields();
+    while (fields.hasNext()) {
+        Map.Entry<String, JsonNode> field = fields.next();
+        JsonNode value = field.getValue();
+        switch (field.getKey()) {
+            case "title" -> task.setTitle(patchValue(field.getKey(), value, String.class));
+            case "description" -> task.setDescription(patchValue(field.getKey(), value, String.class));
+            case "priority" -> task.setPriority(patchValue(field.getKey(), value, TaskPriority.class));
+            case "status" -> task.setStatus(patchValue(field.getKey(), value, TaskStatus.class));
+            case "type" -> task.setType(patchValue(field.getKey(), value, TaskType.class));
+            case "estimatedHours" -> task.setEstimatedHours(patchValue(field.getKey(), value, Integer.class));
+            case "dueDate" -> task.setDueDate(patchValue(field.getKey(), value, LocalDateTime.class));
+            case "assignedToUserId" -> {
+                UUID assigneeId = patchValue(field.getKey(), value, UUID.class);
+                if (assigneeId == null) {
+                    task.setAssignedTo(null);
+                } else if (task.getAssignedTo() == null || !assigneeId.equals(task.getAssignedTo().getId())) {
+                    task.setAssignedTo(userService.getUserById(assigneeId)
+                            .orElseThrow(() -> new EntityNotFoundException("User not found with ID: " + assigneeId)));
+                }
+            }
+            case "projectId" -> {
+                UUID projectId = patchValue(field.getKey(), value, UUID.class);
+                if (projectId == null) {
+                    throw new IllegalArgumentException("projectId cannot be removed from a task");
+                }
+                if (task.getProject() == null || !projectId.equals(task.getProject().getId())) {
+                    // Write access to the task was checked by the caller; moving it needs access to the target too.
+                    Project project = projectService.findProjectById(projectId)
+                            .orElseThrow(() -> new EntityNotFoundException("Project not found with ID: " + projectId));
+                    UUID actorKey = UUID.fromString(userId);
+                    User actor = userService.findByKey(actorKey)
+                            .orElseThrow(() -> new EntityNotFoundException("User not found with ID:" + actorKey));
+                    checkProjectAccess(actor, Set.of(projectId));
+                    moveToProject(task, project);
+                }
+            }
+            default -> throw new IllegalArgumentException("Field cannot be patched: " + field.getKey());
+        }
+    }
+
+    rankIfColumnChanged(task, previousProjectId, previousStatus, new HashMap<>());
+
+    if (patch.size() > 0) {
+        task.setUpdatedAt(LocalDateTime.now());
+    }
+    Task savedTask = taskRepository.saveAndFlush(task);
     return taskMapper.toResponse(savedTask);
 }
 
+private <T> T patchValue(String fieldName, JsonNode value, Class<T> type) {
+    if (value == null || value.isNull()) {
+        return null;
+    }
+    try {
+        return objectMapper.treeToValue(value, type);
+    } catch (JsonProcessingException | IllegalArgumentException e) {
+        throw new IllegalArgumentException("Invalid value for " + fieldName);
+    }
+}
+
+/**
+ * Sets the task's project. Dependency edges only link tasks of one project, so a task moving to another
+ * project leaves its edges behind.
+ */
+private void moveToProject(Task task, Project project) {
+    UUID previousProjectId = task.getProject() == null ? null : task.getProject().getId();
+    if (previousProjectId != null && !previousProjectId.equals(project.getId())) {
+        List<TaskDependency> edges = taskDependencyRepository.findByTaskId(task.getId());
+        if (!edges.isEmpty()) {
+            taskDependencyRepository.deleteAllInBatch(edges);
+            edges.forEach(edge -> eventPublisher.publishEvent(new TaskDependencyChangedEvent(this, previousProjectId,
+                    edge.getPredecessor().getId(), edge.getSuccessor().getId(), false)));
+        }
+    }
+    task.setProject(project);
+}
+
+/**
+ * Appends the task to the end of its column if the update moved it to another one: its key only ordered it
+ * within the column it left. {@code lastRanks} holds the keys already handed out per column by this request.
+ */
+private void rankIfColumnChanged(Task task, UUID previousProjectId, TaskStatus previousStatus, Map<String, String> lastRanks) {
+    UUID projectId = task.getProject().getId();
+    if (projectId.equals(previousProjectId) && task.getStatus() == previousStatus) {
+        return;
+    }
+    String column = projectId + "/" + task.getStatus();
+    String rank = LexoRank.between(lastRanks.containsKey(column)
+            ? lastRanks.get(column) : lastRank(projectId, task.getStatus()), null);
+    lastRanks.put(column, rank);
+    task.setRank(rank);
+}
+
+/**
+ * Rejects the change unless the actor created or is a member of every given project; admins can access all.
+ * Inaccessible projects are reported as not found, as ProjectServiceImpl.cloneProject does.
+ */
+private void checkProjectAccess(User actor, Collection<UUID> projectIds) {
+    if (isAdmin()) {
+        return;
+    }
+    for (UUID projectId : projectIds) {
+        if (!projectMembershipCache.canAccess(actor.getId(), projectId)) {
+            throw new EntityNotFoundException("Project not found with ID: " + projectId);
+        }
+    }
+}
+
+/**
+ * Id of the user whose projects bound a listing across projects, or {@code null} for admins, who see them all.
+ */
+private UUID visibleToUserId(String userId) {
+    if (isAdmin()) {
+        return null;
+    }
+    UUID actorKey = UUID.fromString(userId);
+    return userService.findByKey(actorKey)
+            .map(User::getId)
+            .orElseThrow(() -> new EntityNotFoundException("User not found with ID:" + actorKey));
+}
+
+private static boolean isAdmin() {
+    Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+    return authentication != null && authentication.getAuthorities().stream()
+            .anyMatch(authority -> "ROLE_admin".equals(authority.getAuthority()));
+}
+
+private void checkVersion(Task task, Long expectedVersion) {
+    if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+        throw new ObjectOptimisticLockingFailureException(Task.class, task.getId());
+    }
+}
+
+@PreAuthorize("hasAnyRole('admin','project-manager')")
+@Override
+@Transactional
+public List<TaskResponse> addTasks(List<TaskRequest> requests, String userId) {
+    checkBatchSize(requests);
+    List<String> errors = new ArrayList<>();
+    for (int i = 0; i < requests.size(); i++) {
+        TaskRequest request = requests.get(i);
+        if (request == null) {
+            errors.add("[" + i + "] task is required");
+        } else if (request.getProjectId() == null) {
+            errors.add("[" + i + "] projectId is required");
+        }
+    }
+    throwIfInvalid(errors);
+
+    Map<UUID, Project> projects = resolveProjects(requests, errors);
+    Map<UUID, User> assignees = resolveAssignees(requests, errors);
+    throwIfInvalid(errors);
+
+    UUID creatorKey = UUID.fromString(userId);
+    User creator = userService.findByKey(creatorKey)
+            .orElseThrow(() -> new EntityNotFoundException("User not found with ID:" + creatorKey));
+    checkProjectAccess(creator, projects.keySet());
+
+    // The batch reports one aggregated activity per project instead of one per row.
+    TaskEventSuppression.suppressForCurrentTransaction();
+
+    LocalDateTime now = LocalDateTime.now();
+    List<Task> newTasks = new ArrayList<>(requests.size());
+    // New tasks are appended to their column in request order.
+    Map<String, String> lastRanks = new HashMap<>();
+    for (TaskRequest request : requests) {
+        Task task = taskMapper.toEntity(request);
+        task.setStatus(request.getStatus() != null ? request.getStatus() : TaskStatus.TODO);
+        task.setProject(projects.get(request.getProjectId()));
+        String column = request.getProjectId() + "/" + task.getStatus();
+        String rank = LexoRank.between(lastRanks.containsKey(column)
+                ? lastRanks.get(column) : lastRank(request.getProjectId(), task.getStatus()), null);
+        lastRanks.put(column, rank);
+        task.setRank(rank);
+        task.setAssignedTo(request.getAssignedToUserId() != null ? assignees.get(request.getAssignedToUserId()) : null);
+        task.setCreatedBy(creator);
+        task.setCreatedAt(now);
+        task.setUpdatedAt(now);
+        newTasks.add(task);
+    }
+
+    List<Task> savedTasks = taskRepository.saveAll(newTasks);
+    publishBatchEvents(savedTasks, creator, true);
+    return savedTasks.stream().map(taskMapper::toResponse).collect(Collectors.toList());
+}
+
+@PreAuthorize("hasAnyRole('admin','project-manager', 'developer')")
+@Override
+@Transactional
+public List<TaskResponse> updateTasks(List<TaskBatchUpdateRequest> requests, String userId) {
+    checkBatchSize(requests);
+    List<String> errors = new ArrayList<>();
+    Set<UUID> taskIds = new HashSet<>();
+    for (int i = 0; i < requests.size(); i++) {
+        TaskBatchUpdateRequest request = requests.get(i);
+        if (request == null || request.getId() == null) {
+            errors.add("[" + i + "] id is required");
+        } else if (!taskIds.add(request.getId())) {
+            errors.add("[" + i + "] duplicate task " + request.getId());
+        }
+    }
+    throwIfInvalid(errors);
+
+    Map<UUID, Task> tasks = taskRepository.findAllByIdIn(taskIds).stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+    for (int i = 0; i < requests.size(); i++) {
+        if (!tasks.containsKey(requests.get(i).getId())) {
+            errors.add("[" + i + "] task not found with ID: " + requests.get(i).getId());
+        }
+    }
+    Map<UUID, Project> projects = resolveProjects(requests, errors);
+    Map<UUID, User> assignees = resolveAssignees(requests, errors);
+    throwIfInvalid(errors);
+
+    UUID actorKey = UUID.fromString(userId);
+    User actor = userService.findByKey(actorKey)
+            .orElseThrow(() -> new EntityNotFoundException("User not found with ID:" + actorKey));
+    // Both the projects the tasks are in and those they move to.
+    Set<UUID> projectIds = new HashSet<>(projects.keySet());
+    tasks.values().forEach(task -> projectIds.add(task.getProject().getId()));
+    checkProjectAccess(actor, projectIds);
+
+    // The batch reports one aggregated activity per project instead of one per row.
+    TaskEventSuppression.suppressForCurrentTransaction();
+
+    LocalDateTime now = LocalDateTime.now();
+    List<Task> updatedTasks = new ArrayList<>(requests.size());
+    // Tasks moved to another column are appended to it in request order.
+    Map<String, String> lastRanks = new HashMap<>();
+    for (TaskBatchUpdateRequest request : requests) {
+        Task task = tasks.get(request.getId());
+        UUID previousProjectId = task.getProject().getId();
+        TaskStatus previousStatus = task.getStatus();
+        taskMapper.updateTaskFromDto(request, task);
+        if (request.getAssignedToUserId() != null) {
+            task.setAssignedTo(assignees.get(request.getAssignedToUserId()));
+        }
+        if (request.getProjectId() != null) {
+            moveToProject(task, projects.get(request.getProjectId()));
+        }
+        rankIfColumnChanged(task, previousProjectId, previousStatus, lastRanks);
+        task.setUpdatedAt(now);
+        updatedTasks.add(task);
+    }
+
+    List<Task> savedTasks = taskRepository.saveAll(updatedTasks);
+    publishBatchEvents(savedTasks, actor, false);
+    return savedTasks.stream().map(taskMapper::toResponse).collect(Collectors.toList());
+}
+
+@PreAuthorize("hasAnyRole('admin','project-manager', 'developer')")
+@Override
+@Transactional
+public TaskStatusTransitionResponse transitionStatus(TaskStatusTransitionRequest request, String userId) {
+    if (request == null || request.getStatus() == null) {
+        throw new IllegalArgumentException("Target status is required");
+    }
+    List<TaskStatusTransitionRequest.Item> items = request.getTasks();
+    checkBatchSize(items);
+    List<String> errors = new ArrayList<>();
+    Set<UUID> taskIds = new HashSet<>();
+    for (int i = 0; i < items.size(); i++) {
+        TaskStatusTransitionRequest.Item item = items.get(i);
+        if (item == null || item.getId() == null) {
+            errors.add("[" + i + "] id is required");
+        } else if (!taskIds.add(item.getId())) {
+            errors.add("[" + i + "] duplicate task " + item.getId());
+        }
+    }
+    throwIfInvalid(errors);
+
+    Map<UUID, TaskVersionRow> current = taskRepository.findVersionRowsByIdIn(taskIds).stream()
+            .collect(Collectors.toMap(TaskVersionRow::getId, Function.identity()));
+    for (int i = 0; i < items.size(); i++) {
+        if (!current.containsKey(items.get(i).getId())) {
+            errors.add("[" + i + "] task not found with ID: " + items.get(i).getId());
+        }
+    }
+    throwIfInvalid(errors);
+
+    UUID actorKey = UUID.fromString(userId);
+    User actor = userService.findByKey(actorKey)
+            .orElseThrow(() -> new EntityNotFoundException("User not found with ID:" + actorKey));
+    Set<UUID> projectIds = current.values().stream()
+            .map(TaskVersionRow::getProjectId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+    // Checked before the versions, which would otherwise tell an outsider whether the tasks changed.
+    checkProjectAccess(actor, projectIds);
+
+    List<UUID> stale = new ArrayList<>();
+    StringJoiner ids = new StringJoiner(",");
+    StringJoiner versions = new StringJoiner(",");
+    Map<UUID, Long> newVersions = new LinkedHashMap<>();
+    for (TaskStatusTransitionRequest.Item item : items) {
+        long currentVersion = current.get(item.getId()).getVersion();
+        if (item.getVersion() != null && item.getVersion() != currentVersion) {
+            stale.add(item.getId());
+        }
+        ids.add(item.getId().toString());
+        versions.add(Long.toString(currentVersion));
+        newVersions.put(item.getId(), currentVersion + 1);
+    }
+    if (!stale.isEmpty()) {
+        throw new OptimisticLockingFailureException("Tasks were modified by another request: " + stale);
+    }
+
+    // One statement for the whole set; the version predicate rejects rows changed since they were read.
+    LocalDateTime now = LocalDateTime.now();
+    int updated = taskRepository.transitionStatus(ids.toString(), versions.toString(), request.getStatus().name(), now, actorKey);
+    if (updated != items.size()) {
+        throw new OptimisticLockingFailureException(
+                (items.size() - updated) + " of " + items.size() + " tasks were modified by another request");
+    }
+
+    // The statement cleared the keys of the tasks that changed column; renumbering appends them to it.
+    for (UUID projectId : projectIds) {
+        eventPublisher.publishEvent(new TaskRankRebalanceEvent(this, projectId, request.getStatus()));
+    }
+    eventPublisher.publishEvent(new TaskStatusTransitionEvent(this, projectIds, actor.getId(), request.getStatus(), updated));
+
+    TaskStatusTransitionResponse response = new TaskStatusTransitionResponse();
+    response.setStatus(request.getStatus());
+    response.setUpdatedAt(now);
+    response.setUpdatedCount(updated);
+    response.setVersions(newVersions);
+    return response;
+}
+
+@PreAuthorize("hasAnyRole('admin','project-manager', 'developer')")
+@Override
+@Transactional
+public TaskResponse reorderTask(UUID id, TaskReorderRequest request, Long expectedVersion) {
+    if (request == null) {
+        throw new IllegalArgumentException("Reorder request is required");
+    }
+    UUID afterId = request.getAfterTaskId();
+    UUID beforeId = request.getBeforeTaskId();
+    if (id.equals(afterId) || id.equals(beforeId) || (afterId != null && afterId.equals(beforeId))) {
+        throw new IllegalArgumentException("A task cannot be placed next to itself");
+    }
+
+    // The moved row is write-locked before anything else: share-locking it first and upgrading on save
+    // deadlocks two moves of the same task. Its neighbours are then share-locked, in id order, so a
+    // concurrent rebalance cannot renumber the column under the move.
+    Task task = taskRepository.findByIdForUpdate(id)
+            .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
+    checkVersion(task, expectedVersion);
+    UUID projectId = task.getProject().getId();
+    TaskStatus status = request.getStatus() != null ? request.getStatus() : task.getStatus();
+
+    Set<UUID> neighbourIds = new HashSet<>();
+    if (afterId != null) {
+        neighbourIds.add(afterId);
+    }
+    if (beforeId != null) {
+        neighbourIds.add(beforeId);
+    }
+    Map<UUID, TaskRankRow> rows = lockRanks(neighbourIds);
+    for (TaskRankRow neighbour : rows.values()) {
+        if (!Objects.equals(neighbour.getProjectId(), projectId) || !status.name().equals(neighbour.getStatus())) {
+            throw new IllegalArgumentException("Task " + neighbour.getId() + " is not in the " + status + " column of the task's project");
+        }
+    }
+
+    String rank = rankBetween(projectId, status, afterId, beforeId, rows);
+    if (rank == null) {
+        // Unranked or colliding neighbours (e.g. imported or concurrently appended tasks): renumber the
+        // column once and place the task against the new keys.
+        taskRepository.rebalanceRanks(projectId, status.name());
+        rank = rankBetween(projectId, status, afterId, beforeId, lockRanks(neighbourIds));
+        if (rank == null) {
+            throw new IllegalStateException("Could not rank task " + id + " in column " + status);
+        }
+    }
+
+    if (task.getStatus() == status) {
+        // Moving within a column is not an update worth an activity.
+        TaskEventSuppression.suppressForCurrentTransaction();
+    }
+    task.setStatus(status);
+    task.setRank(rank);
+    task.setUpdatedAt(LocalDateTime.now());
+    Task saved = taskRepository.saveAndFlush(task);
+
+    if (rank.length() > maxRankLength) {
+        eventPublisher.publishEvent(new TaskRankRebalanceEvent(this, projectId, status));
+    }
+    return taskMapper.toResponse(saved);
+}
+
+private Map<UUID, TaskRankRow> lockRanks(Set<UUID> ids) {
+    if (ids.isEmpty()) {
+        return Map.of();
+    }
+    Map<UUID, TaskRankRow> rows = taskRepository.lockRanks(ids).stream()
+            .collect(Collectors.toMap(TaskRankRow::getId, Function.identity()));
+    for (UUID taskId : ids) {
+        if (!rows.containsKey(taskId)) {
+            throw new EntityNotFoundException("Task not found with ID: " + taskId);
+        }
+    }
+    return rows;
+}
+
+/**
+ * Rank between the two neighbours, or {@code null} if they have no usable ranks.
+ */
+private String rankBetween(UUID projectId, TaskStatus status, UUID afterId, UUID beforeId, Map<UUID, TaskRankRow> rows) {
+    String low = afterId != null ? rows.get(afterId).getRank() : null;
+    String high = beforeId != null ? rows.get(beforeId).getRank() : null;
+    if ((afterId != null && low == null) || (beforeId != null && high == null)
+            || (low != null && high != null && low.compareTo(high) >= 0)) {
+        return null;
+    }
+    if (afterId == null && beforeId == null) {
+        low = lastRank(projectId, status);
+    }
+    return LexoRank.between(low, high);
+}
+
+private String lastRank(UUID projectId, TaskStatus status) {
+    return taskRepository.findLastRank(projectId, status.name()).orElse(null);
+}
+
+private void checkBatchSize(List<?> requests) {
+    if (requests == null || requests.isEmpty()) {
+        throw new IllegalArgumentException("Task batch must not be empty");
+    }
+    if (requests.size() > MAX_BATCH_SIZE) {
+        throw new IllegalArgumentException("Task batch exceeds the maximum of " + MAX_BATCH_SIZE + " tasks");
+    }
+}
+
+private void throwIfInvalid(List<String> errors) {
+    if (!errors.isEmpty()) {
+        throw new IllegalArgumentException("Invalid task batch: " + String.join("; ", errors));
+    }
+}
+
+private Map<UUID, Project> resolveProjects(List<? extends TaskRequest> requests, List<String> errors) {
+    Set<UUID> ids = requests.stream().map(TaskRequest::getProjectId).filter(Objects::nonNull).collect(Collectors.toSet());
+    if (ids.isEmpty()) {
+        return Map.of();
+    }
+    Map<UUID, Project> projects = projectService.findProjectsByIds(ids).stream()
+            .collect(Collectors.toMap(Project::getId, Function.identity()));
+    ids.stream().filter(id -> !projects.containsKey(id))
+            .forEach(id -> errors.add("project not found with ID: " + id));
+    return projects;
+}
+
+private Map<UUID, User> resolveAssignees(List<? extends TaskRequest> requests, List<String> errors) {
+    Set<UUID> ids = requests.stream().map(TaskRequest::getAssignedToUserId).filter(Objects::nonNull).collect(Collectors.toSet());
+    if (ids.isEmpty()) {
+        return Map.of();
+    }
+    Map<UUID, User> users = userService.getUsersByIds(ids).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+    ids.stream().filter(id -> !users.containsKey(id))
+            .forEach(id -> errors.add("user not found with ID: " + id));
+    return users;
+}
+
+private void publishBatchEvents(List<Task> tasks, User actor, boolean created) {
+    Map<UUID, Integer> countsByProject = new LinkedHashMap<>();
+    for (Task task : tasks) {
+        countsByProject.merge(task.getProject().getId(), 1, Integer::sum);
+    }
+    countsByProject.forEach((projectId, count) -> eventPublisher.publishEvent(
+            new TaskBatchEvent(this, projectId, actor.getId(), created ? count : 0, created ? 0 : count)));
+}
+
 @PreAuthorize("hasAnyRole('admin','project-manager')")
 @Override
 @Transactional
 public void deleteTask(UUID id) {
-    activityRepository.deleteByTaskId(id);
-    taskRepository.deleteById(id);
+    Task task = taskRepository.findById(id)
+            .orElseThrow(() -> new EntityNotFoundException("Task not found with ID: " + id));
+    // The task disappears from every read now; its comments, attachments and activities are purged in the
+    // background. Dependency edges go right away so schedules never see a hidden task.
+    taskDependencyRepository.deleteByTaskId(id);
+    taskRepository.softDeleteById(id, LocalDateTime.now());
+    eventPublisher.publishEvent(new TaskDeletedEvent(this, task));
 }
 
 @Override
@@ -143,9 +719,156 @@ public List<TaskResponse> getTasksByProjectId(UUID projectId) {
     return tasks.stream().map(taskMapper::toResponse).collect(Collectors.toList());
 }
 
+@Override
+@Transactional(readOnly = true)
+public CursorPageResponse<TaskResponse> getTasksByProjectId(UUID projectId, String cursor, Integer size) {
+    int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    // One extra row tells us whether another page exists without a COUNT query.
+    PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+    List<Task> tasks;
+    if (cursor == null || cursor.isBlank()) {
+        tasks = taskRepository.findPageByProjectId(projectId, limit);
+    } else {
+        TaskCursor after = TaskCursor.decode(cursor);
+        tasks = taskRepository.findPageByProjectIdAfter(projectId, after.getCreatedAt(), after.getId(), limit);
+    }
+
+    boolean hasMore = tasks.size() > pageSize;
+    if (hasMore) {
+        tasks = tasks.subList(0, pageSize);
+    }
+
+    Map<UUID, Long> commentCounts = tasks.isEmpty() ? Map.of() : commentRepository
+            .countByTaskIds(tasks.stream().map(Task::getId).collect(Collectors.toList()))
+            .stream()
+            .collect(Collectors.toMap(row -> (UUID) row[0], row -> (Long) row[1]));
+
+    List<TaskResponse> items = tasks.stream().map(task -> {
+        TaskResponse response = taskMapper.toListResponse(task);
+        response.setCommentCount(commentCounts.getOrDefault(task.getId(), 0L));
+        return response;
+    }).collect(Collectors.toList());
+
+    String nextCursor = null;
+    if (hasMore) {
+        Task last = tasks.get(tasks.size() - 1);
+        nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+    }
+    return new CursorPageResponse<>(items, nextCursor, hasMore);
+}
+
+@PreAuthorize("hasAnyRole('admin','project-manager', 'developer', 'observer')")
+@Override
+@Transactional(readOnly = true)
+public List<TaskResponse> getBoard(UUID projectId, TaskStatus status) {
+    return taskRepository.findBoardByProjectId(projectId, status).stream()
+            .map(taskMapper::toListResponse)
+            .collect(Collectors.toList());
+}
+
     @Override
     public List<Task> getTasksForUser(UUID userId) {
         List<Task> tasks = taskRepository.findByAssignedTo(userId);
         return tasks;
     }
+
+    @PreAuthorize("hasAnyRole('admin', 'project-manager', 'developer', 'observer')")
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<TaskSummaryResponse> getTaskSummaries(TaskStatus status, String cursor, Integer size, String userId) {
+        UUID visibleTo = visibleToUserId(userId);
+        int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        // One extra row tells us whether another page exists without a COUNT query.
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<TaskSummaryResponse> summaries;
+        if (cursor == null || cursor.isBlank()) {
+            summaries = taskRepository.findSummaryPage(status, visibleTo, limit);
+        } else {
+            TaskCursor after = TaskCursor.decode(cursor);
+            summaries = taskRepository.findSummaryPageAfter(status, visibleTo, after.getCreatedAt(), after.getId(), limit);
+        }
+
+        boolean hasMore = summaries.size() > pageSize;
+        if (hasMore) {
+            summaries = summaries.subList(0, pageSize);
+        }
+        String nextCursor = null;
+        if (hasMore) {
+            TaskSummaryResponse last = summaries.get(summaries.size() - 1);
+            nextCursor = new TaskCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponse<>(summaries, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaskSummaryResponse> getTaskSummariesByProjectId(UUID projectId) {
+        return taskRepository.findSummariesByProjectId(projectId);
+    }
+
+    @PreAuthorize("hasAnyRole('admin', 'project-manager', 'developer', 'observer')")
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<TaskResponse> filterTasks(TaskFilterRequest filter, Pageable pageable, String userId) {
+        if (filter.getDueFrom() != null && filter.getDueTo() != null && filter.getDueFrom().isAfter(filter.getDueTo())) {
+            throw new IllegalArgumentException("dueFrom must not be after dueTo");
+        }
+        for (Sort.Order order : pageable.getSort()) {
+            if (!FILTER_SORT_PROPERTIES.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Unsupported sort property: " + order.getProperty());
+            }
+        }
+        // A trailing id keeps page boundaries stable when the requested sort key has ties.
+        Sort sort = pageable.getSort().and(Sort.by(Sort.Direction.DESC, "id"));
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(pageable.getPageSize(), MAX_PAGE_SIZE), sort);
+
+        Specification<Task> specification = TaskSpecifications.matching(filter);
+        UUID visibleTo = visibleToUserId(userId);
+        if (visibleTo != null) {
+            specification = specification.and(TaskSpecifications.visibleTo(visibleTo));
+        }
+        Page<Task> tasks = taskRepository.findAll(specification, page);
+        return PageResponse.of(tasks, taskMapper::toListResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskBoardStatsResponse getProjectTaskStats(UUID projectId) {
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        for (TaskStatus status : TaskStatus.values()) {
+            byStatus.put(status, 0L);
+        }
+        Map<TaskPriority, Long> byPriority = new EnumMap<>(TaskPriority.class);
+        for (TaskPriority priority : TaskPriority.values()) {
+            byPriority.put(priority, 0L);
+        }
+
+        long total = 0;
+        long overdue = 0;
+        long hours = 0;
+        // One grouped row per (status, priority) pair; everything else is folded here.
+        for (TaskAggregateRow row : taskRepository.aggregateByProjectId(projectId, LocalDateTime.now(), CLOSED_STATUSES)) {
+            long count = row.getTaskCount() != null ? row.getTaskCount() : 0;
+            if (row.getStatus() != null) {
+                byStatus.merge(row.getStatus(), count, Long::sum);
+            }
+            if (row.getPriority() != null) {
+                byPriority.merge(row.getPriority(), count, Long::sum);
+            }
+            total += count;
+            overdue += row.getOverdueCount() != null ? row.getOverdueCount() : 0;
+            hours += row.getEstimatedHours() != null ? row.getEstimatedHours() : 0;
+        }
+
+        TaskBoardStatsResponse response = new TaskBoardStatsResponse();
+        response.setProjectId(projectId);
+        response.setTotalTasks(total);
+        response.setCountsByStatus(byStatus);
+        response.setCountsByPriority(byPriority);
+        response.setOverdueCount(overdue);
+        response.setTotalEstimatedHours(hours);
+        return response;
+    }
 }
@@ -5,10 +5,14 @@ import com.projectmanager.dto.request.UserUpdateRequest;
 import com.projectmanager.dto.response.UserResponse;
 import com.projectmanager.entity.Project;
 import com.projectmanager.entity.User;
+import com.projectmanager.event.ProjectMembershipChangedEvent;
 import jakarta.persistence.EntityNotFoundException;
 import com.projectmanager.mapper.UserMapper;
 import com.projectmanager.repository.UserRepository;
 import com.projectmanager.service.keycloak.KeycloakUserService;
+import com.projectmanager.service.project.ProjectMembershipCache;
+import com.projectmanager.service.project.UuidSet;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,11 +29,15 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final KeycloakUserService keycloakUserService;
     private final UserMapper userMapper;
+    private final ProjectMembershipCache projectMembershipCache;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UserServiceImpl(UserRepository userRepository, KeycloakUserService keycloakUserService, UserMapper userMapper) {
+    public UserServiceImpl(UserRepository userRepository, KeycloakUserService keycloakUserService, UserMapper userMapper, ProjectMembershipCache projectMembershipCache, ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
         this.keycloakUserService = keycloakUserService;
         this.userMapper = userMapper;
+        this.projectMembershipCache = projectMembershipCache;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -84,7 +92,11 @@ public class UserServiceImpl implements UserService {
 
         keycloakUserService.deleteKeycloakUser(user.getKeycloakId());
 
+        UuidSet projectIds = projectMembershipCache.getProjectIds(id);
         userRepository.deleteById(id);
+        for (UUID projectId : projectIds.toList()) {
+            eventPublisher.publishEvent(new ProjectMembershipChangedEvent(this, projectId, Set.of(), Set.of(id)));
+        }
     }
     @Override
     public List<User> getUsersByIds(Set<UUID> userIds) {
@@ -99,8 +111,13 @@ public class UserServiceImpl implements UserService {
     @Override
     @Transactional(readOnly = true)
     public Set<UserResponse> getProjectMembers(UUID projectId) {
-        Set<User> members = userRepository.findMembersByProject_Id(projectId);
-        return members.stream().map(userMapper::toResponse).collect(Collectors.toSet());
+        UuidSet memberIds = projectMembershipCache.getMemberIds(projectId);
+        if (memberIds.isEmpty()) {
+            return Set.of();
+        }
+        return userRepository.findAllById(memberIds.toList()).stream()
+                .map(userMapper::toResponse)
+                .collect(Collectors.toSet());
     }
 
 }
\ No newline at end of file
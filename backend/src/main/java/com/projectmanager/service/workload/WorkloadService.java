@@ -0,0 +1,19 @@
+package com.projectmanager.service.workload;
+
+import com.projectmanager.dto.response.WorkloadHeatmapResponse;
+
+import java.time.LocalDate;
+
+public interface WorkloadService {
+
+    /**
+     * Estimated hours of every assignee per ISO week, by task due date, for the weeks containing
+     * {@code from} through {@code to}.
+     */
+    WorkloadHeatmapResponse getHeatmap(LocalDate from, LocalDate to);
+
+    /**
+     * Recomputes the workload aggregate from the tasks; returns the number of (week, user) rows.
+     */
+    long rebuild();
+}
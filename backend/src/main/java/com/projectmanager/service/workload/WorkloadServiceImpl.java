@@ -0,0 +1,88 @@
+package com.projectmanager.service.workload;
+
+import com.projectmanager.dto.response.WorkloadHeatmapResponse;
+import com.projectmanager.repository.WorkloadRepository;
+import com.projectmanager.repository.projection.WeeklyWorkloadRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@Service
+public class WorkloadServiceImpl implements WorkloadService {
+
+    private static final int DEFAULT_WEEKS = 8;
+    private static final int MAX_WEEKS = 104;
+
+    private final WorkloadRepository workloadRepository;
+
+    @Autowired
+    public WorkloadServiceImpl(WorkloadRepository workloadRepository) {
+        this.workloadRepository = workloadRepository;
+    }
+
+    @PreAuthorize("hasAnyRole('admin','project-manager')")
+    @Override
+    @Transactional(readOnly = true)
+    public WorkloadHeatmapResponse getHeatmap(LocalDate from, LocalDate to) {
+        LocalDate fromWeek = weekStart(from == null ? LocalDate.now() : from);
+        LocalDate toWeek = to == null ? fromWeek.plusWeeks(DEFAULT_WEEKS - 1) : weekStart(to);
+        if (toWeek.isBefore(fromWeek)) {
+            throw new IllegalArgumentException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.WEEKS.between(fromWeek, toWeek) >= MAX_WEEKS) {
+            throw new IllegalArgumentException("Workload range exceeds the maximum of " + MAX_WEEKS + " weeks");
+        }
+
+        List<LocalDate> weeks = new ArrayList<>();
+        for (LocalDate week = fromWeek; !week.isAfter(toWeek); week = week.plusWeeks(1)) {
+            weeks.add(week);
+        }
+
+        // Rows arrive grouped by user, so each heatmap row is built in one pass.
+        Map<UUID, WorkloadHeatmapResponse.Member> members = new LinkedHashMap<>();
+        for (WeeklyWorkloadRow row : workloadRepository.findByWeekRange(fromWeek, toWeek)) {
+            WorkloadHeatmapResponse.Member member = members.computeIfAbsent(row.getUserId(), id -> {
+                WorkloadHeatmapResponse.Member created = new WorkloadHeatmapResponse.Member();
+                created.setUserId(id);
+                created.setUsername(row.getUsername());
+                created.setCells(new ArrayList<>());
+                return created;
+            });
+            WorkloadHeatmapResponse.Cell cell = new WorkloadHeatmapResponse.Cell();
+            cell.setWeekStart(row.getWeekStart());
+            cell.setTaskCount(row.getTaskCount());
+            cell.setEstimatedHours(row.getEstimatedHours());
+            cell.setOpenTaskCount(row.getOpenTaskCount());
+            cell.setOpenHours(row.getOpenHours());
+            member.getCells().add(cell);
+            member.setTotalHours(member.getTotalHours() + row.getEstimatedHours());
+        }
+
+        WorkloadHeatmapResponse response = new WorkloadHeatmapResponse();
+        response.setWeeks(weeks);
+        response.setMembers(new ArrayList<>(members.values()));
+        return response;
+    }
+
+    @PreAuthorize("hasAnyRole('admin')")
+    @Override
+    @Transactional
+    public long rebuild() {
+        return workloadRepository.rebuild();
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+}
@@ -0,0 +1,160 @@
+-- Per-project daily status buckets backing burndown and velocity series. A row holds the project's task
+-- counts and estimated hours per bucket at the end of its day (levels) plus the tasks completed that day
+-- (flow). Rows are only written for days on which something changed; a day without a row has the levels
+-- of the latest earlier row and no completions. Maintained by statement-level triggers on tasks, like
+-- project_change_versions and user_weekly_workload, so bulk SQL writes are counted as well.
+--
+-- Buckets: open = TODO; in progress = IN_PROGRESS, IN_REVIEW, TESTING; done = DONE, CLOSED.
+-- Deleted tasks leave all buckets. Completions count tasks moving into done, less tasks reopened.
+
+CREATE TABLE IF NOT EXISTS project_daily_status (
+    project_id        uuid    NOT NULL,
+    day               date    NOT NULL,
+    open_count        integer NOT NULL DEFAULT 0,
+    in_progress_count integer NOT NULL DEFAULT 0,
+    done_count        integer NOT NULL DEFAULT 0,
+    open_hours        bigint  NOT NULL DEFAULT 0,
+    in_progress_hours bigint  NOT NULL DEFAULT 0,
+    done_hours        bigint  NOT NULL DEFAULT 0,
+    completed_count   integer NOT NULL DEFAULT 0,
+    completed_hours   bigint  NOT NULL DEFAULT 0,
+    PRIMARY KEY (project_id, day)
+);
+
+CREATE OR REPLACE FUNCTION task_status_bucket(p_status text)
+    RETURNS text
+    LANGUAGE sql
+    IMMUTABLE
+AS $$
+    SELECT CASE
+               WHEN p_status IN ('DONE', 'CLOSED') THEN 'DONE'
+               WHEN p_status IN ('IN_PROGRESS', 'IN_REVIEW', 'TESTING') THEN 'IN_PROGRESS'
+               ELSE 'OPEN'
+           END
+$$;
+
+-- One counted task image: sign +1 for a row as written and -1 for the row it replaced, or a completion
+-- (+1) or reopening (-1) with no bucket.
+DO $$
+BEGIN
+    CREATE TYPE project_status_image AS (project_id uuid, bucket text, hours bigint, sign integer, completed integer);
+EXCEPTION
+    WHEN duplicate_object THEN NULL;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION apply_project_daily_status(p_day date, p_images project_status_image[])
+    RETURNS void
+    LANGUAGE sql
+AS $$
+    -- Start the day's row from the latest earlier levels; sorted so concurrent writers lock in the same order.
+    INSERT INTO project_daily_status (project_id, day, open_count, in_progress_count, done_count,
+                                      open_hours, in_progress_hours, done_hours)
+    SELECT d.project_id, p_day, coalesce(prev.open_count, 0), coalesce(prev.in_progress_count, 0),
+           coalesce(prev.done_count, 0), coalesce(prev.open_hours, 0), coalesce(prev.in_progress_hours, 0),
+           coalesce(prev.done_hours, 0)
+    FROM (SELECT DISTINCT project_id FROM unnest(p_images) WHERE project_id IS NOT NULL) d
+    LEFT JOIN LATERAL (
+        SELECT s.* FROM project_daily_status s
+        WHERE s.project_id = d.project_id AND s.day < p_day
+        ORDER BY s.day DESC LIMIT 1) prev ON true
+    ORDER BY d.project_id
+    ON CONFLICT (project_id, day) DO NOTHING;
+
+    UPDATE project_daily_status s SET
+        open_count        = s.open_count + d.open_count,
+        in_progress_count = s.in_progress_count + d.in_progress_count,
+        done_count        = s.done_count + d.done_count,
+        open_hours        = s.open_hours + d.open_hours,
+        in_progress_hours = s.in_progress_hours + d.in_progress_hours,
+        done_hours        = s.done_hours + d.done_hours,
+        completed_count   = s.completed_count + d.completed_count,
+        completed_hours   = s.completed_hours + d.completed_hours
+    FROM (
+        SELECT project_id,
+               coalesce(sum(sign) FILTER (WHERE bucket = 'OPEN'), 0) AS open_count,
+               coalesce(sum(sign) FILTER (WHERE bucket = 'IN_PROGRESS'), 0) AS in_progress_count,
+               coalesce(sum(sign) FILTER (WHERE bucket = 'DONE'), 0) AS done_count,
+               coalesce(sum(sign * hours) FILTER (WHERE bucket = 'OPEN'), 0) AS open_hours,
+               coalesce(sum(sign * hours) FILTER (WHERE bucket = 'IN_PROGRESS'), 0) AS in_progress_hours,
+               coalesce(sum(sign * hours) FILTER (WHERE bucket = 'DONE'), 0) AS done_hours,
+               sum(completed) AS completed_count,
+               sum(completed * hours) AS completed_hours
+        FROM unnest(p_images)
+        WHERE project_id IS NOT NULL
+        GROUP BY project_id) d
+    WHERE s.project_id = d.project_id AND s.day = p_day;
+$$;
+
+CREATE OR REPLACE FUNCTION tasks_apply_daily_status()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    images project_status_image[] := '{}';
+BEGIN
+    IF TG_OP = 'UPDATE' THEN
+        -- Only rows whose counted fields changed; a title edit writes nothing.
+        images := ARRAY(
+            SELECT ROW(n.project_id, task_status_bucket(n.status), coalesce(n.estimated_hours, 0), 1, 0)::project_status_image
+            FROM new_rows n JOIN old_rows o ON o.id = n.id
+            WHERE n.deleted_at IS NULL
+              AND (o.deleted_at IS NOT NULL OR o.status IS DISTINCT FROM n.status
+                   OR o.estimated_hours IS DISTINCT FROM n.estimated_hours OR o.project_id IS DISTINCT FROM n.project_id)
+            UNION ALL
+            SELECT ROW(o.project_id, task_status_bucket(o.status), coalesce(o.estimated_hours, 0), -1, 0)::project_status_image
+            FROM old_rows o JOIN new_rows n ON n.id = o.id
+            WHERE o.deleted_at IS NULL
+              AND (n.deleted_at IS NOT NULL OR o.status IS DISTINCT FROM n.status
+                   OR o.estimated_hours IS DISTINCT FROM n.estimated_hours OR o.project_id IS DISTINCT FROM n.project_id)
+            UNION ALL
+            SELECT ROW(n.project_id, NULL, coalesce(n.estimated_hours, 0), 0,
+                       CASE WHEN task_status_bucket(n.status) = 'DONE' THEN 1 ELSE -1 END)::project_status_image
+            FROM new_rows n JOIN old_rows o ON o.id = n.id
+            WHERE n.deleted_at IS NULL AND o.deleted_at IS NULL
+              AND (task_status_bucket(o.status) = 'DONE') <> (task_status_bucket(n.status) = 'DONE'));
+    ELSIF TG_OP = 'INSERT' THEN
+        images := ARRAY(
+            SELECT ROW(project_id, task_status_bucket(status), coalesce(estimated_hours, 0), 1, 0)::project_status_image
+            FROM new_rows WHERE deleted_at IS NULL);
+    ELSE
+        images := ARRAY(
+            SELECT ROW(project_id, task_status_bucket(status), coalesce(estimated_hours, 0), -1, 0)::project_status_image
+            FROM old_rows WHERE deleted_at IS NULL);
+    END IF;
+    IF cardinality(images) > 0 THEN
+        PERFORM apply_project_daily_status(CAST(now() AS date), images);
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_tasks_daily_status_insert ON tasks;
+CREATE TRIGGER trg_tasks_daily_status_insert AFTER INSERT ON tasks
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_apply_daily_status();
+
+DROP TRIGGER IF EXISTS trg_tasks_daily_status_update ON tasks;
+CREATE TRIGGER trg_tasks_daily_status_update AFTER UPDATE ON tasks
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_apply_daily_status();
+
+DROP TRIGGER IF EXISTS trg_tasks_daily_status_delete ON tasks;
+CREATE TRIGGER trg_tasks_daily_status_delete AFTER DELETE ON tasks
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_apply_daily_status();
+
+-- Existing projects start their series from today's levels.
+INSERT INTO project_daily_status (project_id, day, open_count, in_progress_count, done_count,
+                                  open_hours, in_progress_hours, done_hours)
+SELECT project_id, CAST(now() AS date),
+       count(*) FILTER (WHERE task_status_bucket(status) = 'OPEN'),
+       count(*) FILTER (WHERE task_status_bucket(status) = 'IN_PROGRESS'),
+       count(*) FILTER (WHERE task_status_bucket(status) = 'DONE'),
+       coalesce(sum(coalesce(estimated_hours, 0)) FILTER (WHERE task_status_bucket(status) = 'OPEN'), 0),
+       coalesce(sum(coalesce(estimated_hours, 0)) FILTER (WHERE task_status_bucket(status) = 'IN_PROGRESS'), 0),
+       coalesce(sum(coalesce(estimated_hours, 0)) FILTER (WHERE task_status_bucket(status) = 'DONE'), 0)
+FROM tasks
+WHERE project_id IS NOT NULL AND deleted_at IS NULL
+GROUP BY project_id
+ON CONFLICT (project_id, day) DO NOTHING;
@@ -0,0 +1,61 @@
+-- Manual board order. Tasks are ordered within their (project, status) column by board_rank, a base-36
+-- fractional key ('0'-'9', 'a'-'z'): a move writes one key between its neighbours' keys, so only the
+-- moved row changes. Keys are compared bytewise, hence the "C" collation. Keys never end in '0', so
+-- there is always room for a key between two others.
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS board_rank varchar(255);
+ALTER TABLE tasks ALTER COLUMN board_rank TYPE varchar(255) COLLATE "C";
+
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_rank ON tasks (project_id, status, board_rank)
+    WHERE deleted_at IS NULL;
+
+-- Base-36 digits of p_value left-padded to p_width, without trailing zeros.
+CREATE OR REPLACE FUNCTION task_rank_key(p_value numeric, p_width integer)
+    RETURNS text
+    LANGUAGE plpgsql
+    IMMUTABLE
+AS $$
+DECLARE
+    digits constant text := '0123456789abcdefghijklmnopqrstuvwxyz';
+    remaining numeric := trunc(p_value);
+    key text := '';
+BEGIN
+    FOR i IN 1..p_width LOOP
+        key := substr(digits, CAST(mod(remaining, 36) AS integer) + 1, 1) || key;
+        remaining := trunc(remaining / 36);
+    END LOOP;
+    RETURN rtrim(key, '0');
+END
+$$;
+
+-- Rewrites the keys of one column (or of every column of the project when p_status is null) as short,
+-- evenly spaced keys in their current order; tasks without a key go last, oldest first. The keys fill
+-- the lower half of the key space so that tasks appended at the end keep short keys.
+CREATE OR REPLACE FUNCTION rebalance_task_ranks(p_project_id uuid, p_status text)
+    RETURNS bigint
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    row_count bigint;
+BEGIN
+    UPDATE tasks t SET board_rank = task_rank_key(r.n * trunc(power(CAST(36 AS numeric), r.width) / (2 * (r.total + 1))), r.width)
+    FROM (
+        SELECT id,
+               row_number() OVER w AS n,
+               count(*) OVER (PARTITION BY status) AS total,
+               -- Two spare digits leave about 650 free keys between neighbours.
+               CAST(greatest(4, ceil(log(36, count(*) OVER (PARTITION BY status) + 1)) + 2) AS integer) AS width
+        FROM tasks
+        WHERE project_id = p_project_id AND (p_status IS NULL OR status = p_status) AND deleted_at IS NULL
+        WINDOW w AS (PARTITION BY status ORDER BY board_rank NULLS LAST, created_at, id)
+    ) r
+    WHERE t.id = r.id AND t.board_rank IS DISTINCT FROM
+          task_rank_key(r.n * trunc(power(CAST(36 AS numeric), r.width) / (2 * (r.total + 1))), r.width);
+    GET DIAGNOSTICS row_count = ROW_COUNT;
+    RETURN row_count;
+END
+$$;
+
+-- Existing columns keep their creation order.
+SELECT rebalance_task_ranks(p.project_id, NULL)
+FROM (SELECT DISTINCT project_id FROM tasks WHERE project_id IS NOT NULL AND board_rank IS NULL) p;
@@ -0,0 +1,69 @@
+-- Project templates and server-side cloning. A clone copies the project row, its live tasks and optionally
+-- its members and task dependencies with a handful of set-based statements, whatever the task count.
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS is_template boolean NOT NULL DEFAULT false;
+
+CREATE INDEX IF NOT EXISTS idx_projects_template ON projects (name) WHERE is_template AND deleted_at IS NULL;
+
+-- Copies p_source into a new project named p_name, created by p_actor, and returns its id, or null when the
+-- source does not exist. Start, end and due dates move by the distance between the source's start date and
+-- p_start_date (not at all when either is null). Tasks keep their status and board order and start a new
+-- history; assignees are kept only when members are copied.
+CREATE OR REPLACE FUNCTION clone_project(p_source uuid, p_name text, p_start_date timestamp, p_actor uuid,
+                                         p_template boolean, p_copy_members boolean, p_copy_dependencies boolean)
+    RETURNS uuid
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    source projects%ROWTYPE;
+    new_project_id uuid := gen_random_uuid();
+    shift interval := interval '0';
+BEGIN
+    SELECT * INTO source FROM projects WHERE id = p_source AND deleted_at IS NULL;
+    IF NOT FOUND THEN
+        RETURN NULL;
+    END IF;
+    IF p_start_date IS NOT NULL AND source.start_date IS NOT NULL THEN
+        shift := p_start_date - source.start_date;
+    END IF;
+
+    INSERT INTO projects (id, name, description, start_date, end_date, status, color, icon, created_by_user_id,
+                          created_at, updated_at, is_template)
+    VALUES (new_project_id, p_name, source.description, coalesce(source.start_date + shift, p_start_date),
+            source.end_date + shift, 'PLANNING', source.color, source.icon, p_actor, now(), now(), p_template);
+
+    IF p_copy_members THEN
+        INSERT INTO project_members (project_id, user_id)
+        SELECT new_project_id, user_id FROM project_members WHERE project_id = p_source ORDER BY user_id;
+    END IF;
+
+    -- New task ids are drawn once and shared by the task and dependency inserts of the same statement.
+    WITH ids AS MATERIALIZED (
+        SELECT id AS source_id, gen_random_uuid() AS new_id
+        FROM tasks
+        WHERE project_id = p_source AND deleted_at IS NULL
+    ), cloned AS (
+        INSERT INTO tasks (id, title, description, priority, type, status, estimated_hours, due_date, project_id,
+                           assigned_to_user_id, created_by_user_id, created_at, updated_at, version, board_rank)
+        SELECT ids.new_id, t.title, t.description, t.priority, t.type, t.status, t.estimated_hours,
+               t.due_date + shift, new_project_id, CASE WHEN p_copy_members THEN t.assigned_to_user_id END, p_actor,
+               now(), now(), 0, t.board_rank
+        FROM ids JOIN tasks t ON t.id = ids.source_id
+        RETURNING id
+    )
+    INSERT INTO task_dependencies (id, project_id, predecessor_task_id, successor_task_id, created_at)
+    SELECT gen_random_uuid(), new_project_id, p.new_id, s.new_id, now()
+    FROM task_dependencies d
+    JOIN ids p ON p.source_id = d.predecessor_task_id
+    JOIN ids s ON s.source_id = d.successor_task_id
+    WHERE p_copy_dependencies AND d.project_id = p_source;
+
+    -- Set-based inserts bypass TaskHistoryListener, so the cloned tasks get their first snapshot here.
+    INSERT INTO task_snapshots (task_id, version, taken_at, state)
+    SELECT t.id, t.version, t.created_at, task_history_state(t)
+    FROM tasks t
+    WHERE t.project_id = new_project_id;
+
+    RETURN new_project_id;
+END
+$$;
@@ -0,0 +1,168 @@
+-- activities becomes range-partitioned by month of created_at (activities_pYYYY_MM), so reads and deletes
+-- bounded by created_at only visit the months they need and old months leave as whole partitions. A default
+-- partition catches rows outside the created months until their partition exists. Months older than the
+-- retention are folded into activity_archive, one compressed jsonb document per project and month.
+--
+-- Hibernate created activities as a plain table before this runs; it is rebuilt here keeping its columns,
+-- index names and foreign key names, so later ddl-auto updates find everything they expect. The primary
+-- key has to include the partition key and becomes (id, created_at).
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM pg_class WHERE relname = 'activities' AND relkind = 'r'
+               AND relnamespace = current_schema()::regnamespace) THEN
+        ALTER TABLE activities RENAME TO activities_unpartitioned;
+        ALTER INDEX IF EXISTS activities_pkey RENAME TO activities_unpartitioned_pkey;
+        DROP INDEX IF EXISTS idx_activities_task_id;
+        DROP INDEX IF EXISTS idx_activities_project_created_at;
+    END IF;
+END
+$$;
+
+CREATE TABLE IF NOT EXISTS activities (
+    id         uuid         NOT NULL,
+    action     varchar(255),
+    details    varchar(255),
+    user_id    uuid         NOT NULL,
+    task_id    uuid,
+    project_id uuid,
+    created_at timestamp(6) NOT NULL,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE IF NOT EXISTS activities_default PARTITION OF activities DEFAULT;
+
+CREATE INDEX IF NOT EXISTS idx_activities_task_id ON activities (task_id);
+CREATE INDEX IF NOT EXISTS idx_activities_project_created_at ON activities (project_id, created_at);
+
+-- Creates the partitions of every month from p_from through p_to that do not exist yet; returns how many.
+-- Rows of such a month already in the default partition are moved into the new partition.
+CREATE OR REPLACE FUNCTION create_activity_partitions(p_from date, p_to date)
+    RETURNS integer
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    month_start date := CAST(date_trunc('month', p_from) AS date);
+    next_month date;
+    partition_name text;
+    created integer := 0;
+BEGIN
+    WHILE month_start <= p_to LOOP
+        next_month := CAST(month_start + interval '1 month' AS date);
+        partition_name := 'activities_p' || to_char(month_start, 'YYYY_MM');
+        IF to_regclass(partition_name) IS NULL THEN
+            IF EXISTS (SELECT 1 FROM activities_default WHERE created_at >= month_start AND created_at < next_month) THEN
+                ALTER TABLE activities DETACH PARTITION activities_default;
+                EXECUTE format('CREATE TABLE %I PARTITION OF activities FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, month_start, next_month);
+                INSERT INTO activities
+                SELECT * FROM activities_default WHERE created_at >= month_start AND created_at < next_month;
+                DELETE FROM activities_default WHERE created_at >= month_start AND created_at < next_month;
+                ALTER TABLE activities ATTACH PARTITION activities_default DEFAULT;
+            ELSE
+                EXECUTE format('CREATE TABLE %I PARTITION OF activities FOR VALUES FROM (%L) TO (%L)',
+                               partition_name, month_start, next_month);
+            END IF;
+            created := created + 1;
+        END IF;
+        month_start := next_month;
+    END LOOP;
+    RETURN created;
+END
+$$;
+
+CREATE TABLE IF NOT EXISTS activity_archive (
+    id             bigint GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    month          date         NOT NULL,
+    project_id     uuid,
+    activity_count integer      NOT NULL,
+    activities     jsonb        NOT NULL,
+    archived_at    timestamp(6) NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_activity_archive_project_month ON activity_archive (project_id, month);
+
+-- Archived documents are large and repetitive, so TOAST compresses them; lz4 where the server supports it.
+DO $$
+BEGIN
+    ALTER TABLE activity_archive ALTER COLUMN activities SET COMPRESSION lz4;
+EXCEPTION
+    WHEN feature_not_supported OR syntax_error OR invalid_parameter_value THEN NULL;
+END
+$$;
+
+-- Detaches every monthly partition that ends on or before p_before, folds its rows into activity_archive and
+-- drops it; default partition rows before p_before go the same way. Returns the number of rows archived.
+CREATE OR REPLACE FUNCTION archive_activity_partitions(p_before date)
+    RETURNS bigint
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    part record;
+    row_count bigint;
+    archived bigint := 0;
+BEGIN
+    FOR part IN
+        SELECT c.relname AS name, to_date(substr(c.relname, 13), 'YYYY_MM') AS month
+        FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = 'activities'::regclass AND c.relname ~ '^activities_p[0-9]{4}_[0-9]{2}$'
+        ORDER BY 2
+    LOOP
+        CONTINUE WHEN part.month + interval '1 month' > p_before;
+        EXECUTE format('ALTER TABLE activities DETACH PARTITION %I', part.name);
+        EXECUTE format('WITH archived_rows AS (' ||
+                       'INSERT INTO activity_archive (month, project_id, activity_count, activities) ' ||
+                       'SELECT %L, project_id, count(*), jsonb_agg(to_jsonb(a) - ''project_id'' ORDER BY created_at, id) ' ||
+                       'FROM %I a GROUP BY project_id RETURNING activity_count) ' ||
+                       'SELECT coalesce(sum(activity_count), 0) FROM archived_rows', part.month, part.name)
+            INTO row_count;
+        archived := archived + row_count;
+        EXECUTE format('DROP TABLE %I', part.name);
+    END LOOP;
+
+    WITH moved AS (
+        DELETE FROM activities_default WHERE created_at < p_before RETURNING *
+    ), archived_rows AS (
+        INSERT INTO activity_archive (month, project_id, activity_count, activities)
+        SELECT CAST(date_trunc('month', created_at) AS date), project_id, count(*),
+               jsonb_agg(to_jsonb(moved) - 'project_id' ORDER BY created_at, id)
+        FROM moved
+        GROUP BY 1, 2
+        RETURNING activity_count
+    )
+    SELECT coalesce(sum(activity_count), 0) INTO row_count FROM archived_rows;
+    RETURN archived + row_count;
+END
+$$;
+
+-- Moves the existing rows over, with partitions for every month they cover and the next few.
+DO $$
+DECLARE
+    fk record;
+    oldest date;
+BEGIN
+    IF to_regclass('activities_unpartitioned') IS NULL THEN
+        PERFORM create_activity_partitions(CAST(now() AS date), CAST(now() + interval '3 months' AS date));
+        RETURN;
+    END IF;
+
+    SELECT CAST(min(created_at) AS date) INTO oldest FROM activities_unpartitioned;
+    PERFORM create_activity_partitions(coalesce(oldest, CAST(now() AS date)), CAST(now() + interval '3 months' AS date));
+
+    -- Rows written without a timestamp are dated now; the partition key cannot be null.
+    INSERT INTO activities (id, action, details, user_id, task_id, project_id, created_at)
+    SELECT id, action, details, user_id, task_id, project_id, coalesce(created_at, now())
+    FROM activities_unpartitioned;
+
+    FOR fk IN
+        SELECT conname, pg_get_constraintdef(oid) AS definition
+        FROM pg_constraint
+        WHERE conrelid = 'activities_unpartitioned'::regclass AND contype = 'f'
+    LOOP
+        EXECUTE format('ALTER TABLE activities_unpartitioned DROP CONSTRAINT %I', fk.conname);
+        EXECUTE format('ALTER TABLE activities ADD CONSTRAINT %I %s', fk.conname, fk.definition);
+    END LOOP;
+
+    DROP TABLE activities_unpartitioned;
+END
+$$;
@@ -0,0 +1,8 @@
+-- Composite indexes behind the task filter (TaskSpecifications) and keyset listing. They used to be declared
+-- on the Task entity; databases where Hibernate already created them keep theirs under the same names.
+
+CREATE INDEX IF NOT EXISTS idx_tasks_project_created_at_id ON tasks (project_id, created_at, id);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_status_priority ON tasks (project_id, status, priority);
+CREATE INDEX IF NOT EXISTS idx_tasks_project_due_date ON tasks (project_id, due_date);
+CREATE INDEX IF NOT EXISTS idx_tasks_assignee_status_due_date ON tasks (assigned_to_user_id, status, due_date);
+CREATE INDEX IF NOT EXISTS idx_tasks_status_created_at ON tasks (status, created_at);
@@ -0,0 +1,10 @@
+-- Search highlights are HTML: ts_headline wraps matches in <mark>, so the text around them has to be escaped
+-- before it is highlighted. Entities are single tokens to the parser, so a highlight never splits one.
+CREATE OR REPLACE FUNCTION html_escape(p_text text)
+    RETURNS text
+    LANGUAGE sql
+    IMMUTABLE
+AS $$
+    SELECT replace(replace(replace(replace(replace(p_text,
+               '&', '&amp;'), '<', '&lt;'), '>', '&gt;'), '"', '&quot;'), '''', '&#39;')
+$$;
@@ -0,0 +1,69 @@
+-- Broadcasts membership changes to every application node on the project_membership channel, so each node
+-- can drop the affected entries of its in-memory membership cache (ProjectMembershipCache). Notifications
+-- are delivered on commit, and only then; identical payloads of one transaction are delivered once.
+--
+-- Payloads: '<project_id>:<user_id>' when that user gained or lost access to the project, and
+-- '<project_id>' when the project became inaccessible to everyone (soft deletion).
+
+CREATE OR REPLACE FUNCTION project_members_notify_membership()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM pg_notify('project_membership', project_id || ':' || user_id)
+        FROM (SELECT DISTINCT project_id, user_id FROM new_rows) AS changed;
+    ELSE
+        PERFORM pg_notify('project_membership', project_id || ':' || user_id)
+        FROM (SELECT DISTINCT project_id, user_id FROM old_rows) AS changed;
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_project_members_notify_insert ON project_members;
+CREATE TRIGGER trg_project_members_notify_insert AFTER INSERT ON project_members
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION project_members_notify_membership();
+
+DROP TRIGGER IF EXISTS trg_project_members_notify_delete ON project_members;
+CREATE TRIGGER trg_project_members_notify_delete AFTER DELETE ON project_members
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION project_members_notify_membership();
+
+-- The creator has access without being a member, and nobody has access to a deleted project.
+CREATE OR REPLACE FUNCTION projects_notify_membership()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM pg_notify('project_membership', id || ':' || created_by_user_id)
+        FROM new_rows WHERE created_by_user_id IS NOT NULL;
+        RETURN NULL;
+    END IF;
+
+    PERFORM pg_notify('project_membership', n.id::text)
+    FROM new_rows n JOIN old_rows o ON o.id = n.id
+    WHERE n.deleted_at IS DISTINCT FROM o.deleted_at;
+
+    PERFORM pg_notify('project_membership', changed.id || ':' || changed.user_id)
+    FROM (SELECT n.id, n.created_by_user_id AS user_id FROM new_rows n JOIN old_rows o ON o.id = n.id
+          WHERE n.created_by_user_id IS DISTINCT FROM o.created_by_user_id
+          UNION
+          SELECT o.id, o.created_by_user_id FROM new_rows n JOIN old_rows o ON o.id = n.id
+          WHERE n.created_by_user_id IS DISTINCT FROM o.created_by_user_id) AS changed
+    WHERE changed.user_id IS NOT NULL;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_projects_notify_insert ON projects;
+CREATE TRIGGER trg_projects_notify_insert AFTER INSERT ON projects
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION projects_notify_membership();
+
+DROP TRIGGER IF EXISTS trg_projects_notify_update ON projects;
+CREATE TRIGGER trg_projects_notify_update AFTER UPDATE ON projects
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION projects_notify_membership();
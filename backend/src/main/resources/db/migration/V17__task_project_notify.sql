@@ -0,0 +1,21 @@
+-- Broadcasts task moves between projects to every application node on the task_project channel, so each node
+-- can drop the task's entry from the target cache of ProjectPermissionEvaluator, which resolves tasks to their
+-- project. Like project_membership (V16), notifications are delivered on commit, and only then.
+--
+-- Payload: '<task_id>'.
+
+CREATE OR REPLACE FUNCTION tasks_notify_project()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM pg_notify('task_project', NEW.id::text);
+    RETURN NULL;
+END
+$$;
+
+-- Row level, but only for the rare updates that change the project.
+DROP TRIGGER IF EXISTS trg_tasks_notify_project ON tasks;
+CREATE TRIGGER trg_tasks_notify_project AFTER UPDATE OF project_id ON tasks
+    FOR EACH ROW WHEN (OLD.project_id IS DISTINCT FROM NEW.project_id)
+    EXECUTE FUNCTION tasks_notify_project();
@@ -0,0 +1,81 @@
+-- Replaces archive_activity_partitions (V13). It detached each month before folding it into activity_archive,
+-- so the ACCESS EXCLUSIVE lock that DETACH takes on activities was held while the rows were aggregated and,
+-- as every month ran in one transaction, until the last month was done; every read and write of activities
+-- waited meanwhile. Now each month is archived in its own transaction and folded before it is detached, so
+-- activities is locked only for the DETACH and DROP at the end.
+
+DROP FUNCTION IF EXISTS archive_activity_partitions(date);
+
+-- Monthly partitions of activities that end on or before p_before, oldest first.
+CREATE OR REPLACE FUNCTION activity_partitions_before(p_before date)
+    RETURNS SETOF text
+    LANGUAGE sql
+    STABLE
+AS $$
+    SELECT c.relname::text
+    FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+    WHERE i.inhparent = 'activities'::regclass AND c.relname ~ '^activities_p[0-9]{4}_[0-9]{2}$'
+      AND to_date(substr(c.relname, 13), 'YYYY_MM') + interval '1 month' <= p_before
+    ORDER BY 1
+$$;
+
+-- Folds one monthly partition into activity_archive, then detaches and drops it; returns the number of rows
+-- archived. Run it in a transaction of its own. The partition is share-locked first so no row can arrive
+-- after the fold; activities itself is only locked by the DETACH, which gives up after lock_timeout rather
+-- than queue every other query behind it. A partition already archived by another node counts 0.
+CREATE OR REPLACE FUNCTION archive_activity_partition(p_name text)
+    RETURNS bigint
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    row_count bigint;
+BEGIN
+    IF p_name !~ '^activities_p[0-9]{4}_[0-9]{2}$' THEN
+        RAISE EXCEPTION 'Not an activity partition: %', p_name;
+    END IF;
+    PERFORM set_config('lock_timeout', '5s', true);
+    BEGIN
+        EXECUTE format('LOCK TABLE %I IN SHARE MODE', p_name);
+    EXCEPTION
+        WHEN undefined_table THEN RETURN 0;
+    END;
+    IF NOT EXISTS (SELECT 1 FROM pg_inherits WHERE inhrelid = to_regclass(p_name) AND inhparent = 'activities'::regclass) THEN
+        RETURN 0;
+    END IF;
+
+    EXECUTE format('WITH archived_rows AS (' ||
+                   'INSERT INTO activity_archive (month, project_id, activity_count, activities) ' ||
+                   'SELECT %L, project_id, count(*), jsonb_agg(to_jsonb(a) - ''project_id'' ORDER BY created_at, id) ' ||
+                   'FROM %I a GROUP BY project_id RETURNING activity_count) ' ||
+                   'SELECT coalesce(sum(activity_count), 0) FROM archived_rows',
+                   to_date(substr(p_name, 13), 'YYYY_MM'), p_name)
+        INTO row_count;
+    EXECUTE format('ALTER TABLE activities DETACH PARTITION %I', p_name);
+    EXECUTE format('DROP TABLE %I', p_name);
+    RETURN row_count;
+END
+$$;
+
+-- Moves the rows of the default partition created before p_before into activity_archive; returns how many.
+-- Only the default partition is locked.
+CREATE OR REPLACE FUNCTION archive_default_activities(p_before date)
+    RETURNS bigint
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    row_count bigint;
+BEGIN
+    WITH moved AS (
+        DELETE FROM activities_default WHERE created_at < p_before RETURNING *
+    ), archived_rows AS (
+        INSERT INTO activity_archive (month, project_id, activity_count, activities)
+        SELECT CAST(date_trunc('month', created_at) AS date), project_id, count(*),
+               jsonb_agg(to_jsonb(moved) - 'project_id' ORDER BY created_at, id)
+        FROM moved
+        GROUP BY 1, 2
+        RETURNING activity_count
+    )
+    SELECT coalesce(sum(activity_count), 0) INTO row_count FROM archived_rows;
+    RETURN row_count;
+END
+$$;
@@ -0,0 +1,53 @@
+-- Fixes apply_project_daily_status (V10) for transactions that span midnight. The triggers date their
+-- changes by now(), the start of the transaction, but another transaction may already have started the next
+-- day's row from the levels it saw. That row, and any later one, then missed the change for good; the levels
+-- of every row from p_day on now take the deltas. Completions stay on p_day.
+
+CREATE OR REPLACE FUNCTION apply_project_daily_status(p_day date, p_images project_status_image[])
+    RETURNS void
+    LANGUAGE sql
+AS $$
+    -- Start the day's row from the latest earlier levels; sorted so concurrent writers lock in the same order.
+    INSERT INTO project_daily_status (project_id, day, open_count, in_progress_count, done_count,
+                                      open_hours, in_progress_hours, done_hours)
+    SELECT d.project_id, p_day, coalesce(prev.open_count, 0), coalesce(prev.in_progress_count, 0),
+           coalesce(prev.done_count, 0), coalesce(prev.open_hours, 0), coalesce(prev.in_progress_hours, 0),
+           coalesce(prev.done_hours, 0)
+    FROM (SELECT DISTINCT project_id FROM unnest(p_images) WHERE project_id IS NOT NULL) d
+    LEFT JOIN LATERAL (
+        SELECT s.* FROM project_daily_status s
+        WHERE s.project_id = d.project_id AND s.day < p_day
+        ORDER BY s.day DESC LIMIT 1) prev ON true
+    ORDER BY d.project_id
+    ON CONFLICT (project_id, day) DO NOTHING;
+
+    -- The update below may touch several days of a project; lock them in the same order as well.
+    SELECT 1 FROM project_daily_status s
+    WHERE s.project_id IN (SELECT project_id FROM unnest(p_images)) AND s.day >= p_day
+    ORDER BY s.project_id, s.day
+    FOR UPDATE;
+
+    UPDATE project_daily_status s SET
+        open_count        = s.open_count + d.open_count,
+        in_progress_count = s.in_progress_count + d.in_progress_count,
+        done_count        = s.done_count + d.done_count,
+        open_hours        = s.open_hours + d.open_hours,
+        in_progress_hours = s.in_progress_hours + d.in_progress_hours,
+        done_hours        = s.done_hours + d.done_hours,
+        completed_count   = s.completed_count + CASE WHEN s.day = p_day THEN d.completed_count ELSE 0 END,
+        completed_hours   = s.completed_hours + CASE WHEN s.day = p_day THEN d.completed_hours ELSE 0 END
+    FROM (
+        SELECT project_id,
+               coalesce(sum(sign) FILTER (WHERE bucket = 'OPEN'), 0) AS open_count,
+               coalesce(sum(sign) FILTER (WHERE bucket = 'IN_PROGRESS'), 0) AS in_progress_count,
+               coalesce(sum(sign) FILTER (WHERE bucket = 'DONE'), 0) AS done_count,
+               coalesce(sum(sign * hours) FILTER (WHERE bucket = 'OPEN'), 0) AS open_hours,
+               coalesce(sum(sign * hours) FILTER (WHERE bucket = 'IN_PROGRESS'), 0) AS in_progress_hours,
+               coalesce(sum(sign * hours) FILTER (WHERE bucket = 'DONE'), 0) AS done_hours,
+               sum(completed) AS completed_count,
+               sum(completed * hours) AS completed_hours
+        FROM unnest(p_images)
+        WHERE project_id IS NOT NULL
+        GROUP BY project_id) d
+    WHERE s.project_id = d.project_id AND s.day >= p_day;
+$$;
@@ -0,0 +1,56 @@
+-- Full-text search over tasks: weighted title (A) > description (B) > comment bodies (C).
+
+ALTER TABLE tasks ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION task_search_document(p_title text, p_description text, p_task_id uuid)
+    RETURNS tsvector
+    LANGUAGE sql
+    STABLE
+AS $$
+    SELECT setweight(to_tsvector('english', coalesce(p_title, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(p_description, '')), 'B')
+        || setweight(to_tsvector('english', coalesce(
+               (SELECT string_agg(c.content, ' ') FROM comments c WHERE c.task_id = p_task_id), '')), 'C')
+$$;
+
+CREATE OR REPLACE FUNCTION tasks_search_vector_trigger()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    NEW.search_vector := task_search_document(NEW.title, NEW.description, NEW.id);
+    RETURN NEW;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_tasks_search_vector ON tasks;
+CREATE TRIGGER trg_tasks_search_vector
+    BEFORE INSERT OR UPDATE OF title, description ON tasks
+    FOR EACH ROW EXECUTE FUNCTION tasks_search_vector_trigger();
+
+-- Comment changes only touch the owning task's vector; updating search_vector alone does not
+-- re-fire trg_tasks_search_vector because it is restricted to title/description updates.
+CREATE OR REPLACE FUNCTION comments_search_vector_trigger()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP <> 'INSERT' AND OLD.task_id IS NOT NULL THEN
+        UPDATE tasks SET search_vector = task_search_document(title, description, id) WHERE id = OLD.task_id;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.task_id IS NOT NULL
+        AND (TG_OP = 'INSERT' OR NEW.task_id IS DISTINCT FROM OLD.task_id) THEN
+        UPDATE tasks SET search_vector = task_search_document(title, description, id) WHERE id = NEW.task_id;
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_comments_search_vector ON comments;
+CREATE TRIGGER trg_comments_search_vector
+    AFTER INSERT OR DELETE OR UPDATE OF content, task_id ON comments
+    FOR EACH ROW EXECUTE FUNCTION comments_search_vector_trigger();
+
+UPDATE tasks SET search_vector = task_search_document(title, description, id) WHERE search_vector IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_tasks_search_vector ON tasks USING gin (search_vector);
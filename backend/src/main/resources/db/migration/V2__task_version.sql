@@ -0,0 +1,6 @@
+-- Backfill the @Version column Hibernate added to tasks so optimistic locking works for existing rows.
+
+UPDATE tasks SET version = 0 WHERE version IS NULL;
+
+ALTER TABLE tasks ALTER COLUMN version SET DEFAULT 0;
+ALTER TABLE tasks ALTER COLUMN version SET NOT NULL;
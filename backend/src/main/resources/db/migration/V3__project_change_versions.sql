@@ -0,0 +1,168 @@
+-- Monotonic per-project change counter backing conditional GETs on project, member and task reads.
+-- Bumped by statement-level triggers so bulk SQL writes are covered as well as JPA ones, and always
+-- in the same transaction as the write itself.
+
+CREATE TABLE IF NOT EXISTS project_change_versions (
+    project_id uuid PRIMARY KEY,
+    version    bigint NOT NULL DEFAULT 0
+);
+
+CREATE OR REPLACE FUNCTION bump_project_versions(p_project_ids uuid[])
+    RETURNS void
+    LANGUAGE sql
+AS $$
+    -- Sorted so concurrent bulk writers lock counter rows in the same order.
+    INSERT INTO project_change_versions AS v (project_id, version)
+    SELECT DISTINCT id, 1 FROM unnest(p_project_ids) AS id WHERE id IS NOT NULL ORDER BY id
+    ON CONFLICT (project_id) DO UPDATE SET version = v.version + 1
+$$;
+
+-- tasks ----------------------------------------------------------------------------------------
+
+CREATE OR REPLACE FUNCTION tasks_bump_project_version()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM bump_project_versions(ARRAY(SELECT project_id FROM new_rows));
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM bump_project_versions(ARRAY(SELECT project_id FROM new_rows UNION SELECT project_id FROM old_rows));
+    ELSE
+        PERFORM bump_project_versions(ARRAY(SELECT project_id FROM old_rows));
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_tasks_version_insert ON tasks;
+CREATE TRIGGER trg_tasks_version_insert AFTER INSERT ON tasks
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_bump_project_version();
+
+DROP TRIGGER IF EXISTS trg_tasks_version_update ON tasks;
+CREATE TRIGGER trg_tasks_version_update AFTER UPDATE ON tasks
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_bump_project_version();
+
+DROP TRIGGER IF EXISTS trg_tasks_version_delete ON tasks;
+CREATE TRIGGER trg_tasks_version_delete AFTER DELETE ON tasks
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_bump_project_version();
+
+-- comments -------------------------------------------------------------------------------------
+
+CREATE OR REPLACE FUNCTION comments_bump_project_version()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM bump_project_versions(ARRAY(
+            SELECT t.project_id FROM new_rows c JOIN tasks t ON t.id = c.task_id));
+    ELSIF TG_OP = 'UPDATE' THEN
+        PERFORM bump_project_versions(ARRAY(
+            SELECT t.project_id FROM new_rows c JOIN tasks t ON t.id = c.task_id
+            UNION
+            SELECT t.project_id FROM old_rows c JOIN tasks t ON t.id = c.task_id));
+    ELSE
+        PERFORM bump_project_versions(ARRAY(
+            SELECT t.project_id FROM old_rows c JOIN tasks t ON t.id = c.task_id));
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_comments_version_insert ON comments;
+CREATE TRIGGER trg_comments_version_insert AFTER INSERT ON comments
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION comments_bump_project_version();
+
+DROP TRIGGER IF EXISTS trg_comments_version_update ON comments;
+CREATE TRIGGER trg_comments_version_update AFTER UPDATE ON comments
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION comments_bump_project_version();
+
+DROP TRIGGER IF EXISTS trg_comments_version_delete ON comments;
+CREATE TRIGGER trg_comments_version_delete AFTER DELETE ON comments
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION comments_bump_project_version();
+
+-- attachments (owned by a task directly or through a comment) ----------------------------------
+
+CREATE OR REPLACE FUNCTION attachments_bump_project_version()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM bump_project_versions(ARRAY(
+            SELECT t.project_id FROM new_rows a JOIN tasks t ON t.id = a.task_id
+            UNION
+            SELECT t.project_id FROM new_rows a JOIN comments c ON c.id = a.comment_id JOIN tasks t ON t.id = c.task_id));
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM bump_project_versions(ARRAY(
+            SELECT t.project_id FROM old_rows a JOIN tasks t ON t.id = a.task_id
+            UNION
+            SELECT t.project_id FROM old_rows a JOIN comments c ON c.id = a.comment_id JOIN tasks t ON t.id = c.task_id));
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_attachments_version_insert ON attachments;
+CREATE TRIGGER trg_attachments_version_insert AFTER INSERT ON attachments
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION attachments_bump_project_version();
+
+DROP TRIGGER IF EXISTS trg_attachments_version_update ON attachments;
+CREATE TRIGGER trg_attachments_version_update AFTER UPDATE ON attachments
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION attachments_bump_project_version();
+
+DROP TRIGGER IF EXISTS trg_attachments_version_delete ON attachments;
+CREATE TRIGGER trg_attachments_version_delete AFTER DELETE ON attachments
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION attachments_bump_project_version();
+
+-- project rows and membership ------------------------------------------------------------------
+
+CREATE OR REPLACE FUNCTION projects_bump_project_version()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    PERFORM bump_project_versions(ARRAY(SELECT id FROM new_rows));
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_projects_version_update ON projects;
+CREATE TRIGGER trg_projects_version_update AFTER UPDATE ON projects
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION projects_bump_project_version();
+
+CREATE OR REPLACE FUNCTION project_members_bump_project_version()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        PERFORM bump_project_versions(ARRAY(SELECT project_id FROM new_rows));
+    ELSE
+        PERFORM bump_project_versions(ARRAY(SELECT project_id FROM old_rows));
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_project_members_version_insert ON project_members;
+CREATE TRIGGER trg_project_members_version_insert AFTER INSERT ON project_members
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION project_members_bump_project_version();
+
+DROP TRIGGER IF EXISTS trg_project_members_version_delete ON project_members;
+CREATE TRIGGER trg_project_members_version_delete AFTER DELETE ON project_members
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION project_members_bump_project_version();
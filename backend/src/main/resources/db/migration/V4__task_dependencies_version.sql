@@ -0,0 +1,12 @@
+-- Dependency edges feed the network map, so they advance the project change counter too.
+-- task_dependencies carries project_id directly, like project_members, so the same trigger function applies.
+
+DROP TRIGGER IF EXISTS trg_task_dependencies_version_insert ON task_dependencies;
+CREATE TRIGGER trg_task_dependencies_version_insert AFTER INSERT ON task_dependencies
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION project_members_bump_project_version();
+
+DROP TRIGGER IF EXISTS trg_task_dependencies_version_delete ON task_dependencies;
+CREATE TRIGGER trg_task_dependencies_version_delete AFTER DELETE ON task_dependencies
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION project_members_bump_project_version();
@@ -0,0 +1,14 @@
+-- Due-date reminders. The partial index only holds open tasks that have a due date, so the reminder
+-- poller's range scans stay proportional to the window being scanned rather than to the table.
+
+CREATE INDEX IF NOT EXISTS idx_tasks_open_due_date
+    ON tasks (due_date, id)
+    WHERE due_date IS NOT NULL AND status NOT IN ('DONE', 'CLOSED');
+
+-- One row per task whose reminder was sent, for the due date it was sent for; moving the due date
+-- re-arms the reminder. Inserting here is how a node claims a reminder, so only one node sends it.
+CREATE TABLE IF NOT EXISTS task_reminders (
+    task_id  uuid PRIMARY KEY REFERENCES tasks (id) ON DELETE CASCADE,
+    due_date timestamp(6) NOT NULL,
+    sent_at  timestamp(6) NOT NULL
+);
@@ -0,0 +1,22 @@
+-- Bulk task import inserts comments with a single INSERT ... SELECT; rebuilding the owning task's
+-- search vector once per comment row would dominate the load. The import sets this (transaction-local)
+-- flag and refreshes the vectors of the affected tasks once after the merge.
+
+CREATE OR REPLACE FUNCTION comments_search_vector_trigger()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF current_setting('projectmanager.bulk_import', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP <> 'INSERT' AND OLD.task_id IS NOT NULL THEN
+        UPDATE tasks SET search_vector = task_search_document(title, description, id) WHERE id = OLD.task_id;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.task_id IS NOT NULL
+        AND (TG_OP = 'INSERT' OR NEW.task_id IS DISTINCT FROM OLD.task_id) THEN
+        UPDATE tasks SET search_vector = task_search_document(title, description, id) WHERE id = NEW.task_id;
+    END IF;
+    RETURN NULL;
+END
+$$;
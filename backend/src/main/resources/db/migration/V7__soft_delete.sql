@@ -0,0 +1,27 @@
+-- Soft delete: deleted_at (added by Hibernate) hides a project or task until the background purge
+-- removes it in chunks. The partial indexes keep the purge sweeper's lookups off the live rows.
+
+CREATE INDEX IF NOT EXISTS idx_tasks_deleted_at ON tasks (deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_projects_deleted_at ON projects (deleted_at) WHERE deleted_at IS NOT NULL;
+
+-- Purged comments belong to deleted tasks, whose search vectors are never read again.
+CREATE OR REPLACE FUNCTION comments_search_vector_trigger()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+BEGIN
+    IF current_setting('projectmanager.bulk_import', true) = 'on' THEN
+        RETURN NULL;
+    END IF;
+    IF TG_OP <> 'INSERT' AND OLD.task_id IS NOT NULL THEN
+        UPDATE tasks SET search_vector = task_search_document(title, description, id)
+        WHERE id = OLD.task_id AND deleted_at IS NULL;
+    END IF;
+    IF TG_OP <> 'DELETE' AND NEW.task_id IS NOT NULL
+        AND (TG_OP = 'INSERT' OR NEW.task_id IS DISTINCT FROM OLD.task_id) THEN
+        UPDATE tasks SET search_vector = task_search_document(title, description, id)
+        WHERE id = NEW.task_id AND deleted_at IS NULL;
+    END IF;
+    RETURN NULL;
+END
+$$;
@@ -0,0 +1,46 @@
+-- Field-level task history. task_changes holds one row per task version with only the fields that
+-- changed ({"field": [old, new]}); task_snapshots holds the full tracked state every few versions, so
+-- the state at any time is the latest snapshot before it plus the changes in between.
+
+CREATE TABLE IF NOT EXISTS task_changes (
+    task_id    uuid         NOT NULL REFERENCES tasks (id) ON DELETE CASCADE,
+    version    bigint       NOT NULL,
+    changed_at timestamp(6) NOT NULL,
+    actor_key  uuid,
+    changes    jsonb        NOT NULL,
+    PRIMARY KEY (task_id, version)
+);
+
+CREATE TABLE IF NOT EXISTS task_snapshots (
+    task_id  uuid         NOT NULL REFERENCES tasks (id) ON DELETE CASCADE,
+    version  bigint       NOT NULL,
+    taken_at timestamp(6) NOT NULL,
+    state    jsonb        NOT NULL,
+    PRIMARY KEY (task_id, version)
+);
+
+CREATE INDEX IF NOT EXISTS idx_task_snapshots_task_taken_at ON task_snapshots (task_id, taken_at);
+
+-- Tracked state of a task row; keys match the Task property names used by TaskHistoryListener.
+CREATE OR REPLACE FUNCTION task_history_state(t tasks)
+    RETURNS jsonb
+    LANGUAGE sql
+    STABLE
+AS $$
+    SELECT jsonb_build_object(
+        'title', t.title,
+        'description', t.description,
+        'priority', t.priority,
+        'type', t.type,
+        'status', t.status,
+        'estimatedHours', t.estimated_hours,
+        'dueDate', t.due_date,
+        'assignedTo', t.assigned_to_user_id,
+        'project', t.project_id)
+$$;
+
+-- Existing tasks start their history from their current state as of their last update.
+INSERT INTO task_snapshots (task_id, version, taken_at, state)
+SELECT t.id, t.version, coalesce(t.updated_at, t.created_at, now()), task_history_state(t)
+FROM tasks t
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,118 @@
+-- Committed estimated hours per assignee and ISO week (Monday) of the task's due date, across projects.
+-- Kept current by statement-level triggers that apply only the net delta of each write, so bulk SQL
+-- writes are covered as well as JPA ones and always in the same transaction as the write itself.
+-- Tasks without an assignee or a due date, and deleted tasks, do not count.
+
+CREATE TABLE IF NOT EXISTS user_weekly_workload (
+    week_start      date    NOT NULL,
+    user_id         uuid    NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    task_count      integer NOT NULL DEFAULT 0,
+    estimated_hours bigint  NOT NULL DEFAULT 0,
+    open_task_count integer NOT NULL DEFAULT 0,
+    open_hours      bigint  NOT NULL DEFAULT 0,
+    PRIMARY KEY (week_start, user_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_weekly_workload_user_week ON user_weekly_workload (user_id, week_start);
+
+-- One counted task image: +1 for a row as written, -1 for the row it replaced.
+DO $$
+BEGIN
+    CREATE TYPE workload_image AS (week_start date, user_id uuid, hours bigint, open boolean, sign integer);
+EXCEPTION
+    WHEN duplicate_object THEN NULL;
+END
+$$;
+
+CREATE OR REPLACE FUNCTION apply_workload_delta(p_images workload_image[])
+    RETURNS void
+    LANGUAGE sql
+AS $$
+    -- Images of rows whose counted fields did not change cancel out and write nothing.
+    -- Sorted so concurrent writers lock aggregate rows in the same order.
+    INSERT INTO user_weekly_workload AS w (week_start, user_id, task_count, estimated_hours, open_task_count, open_hours)
+    SELECT week_start, user_id, sum(sign), sum(sign * hours),
+           coalesce(sum(sign) FILTER (WHERE open), 0), coalesce(sum(sign * hours) FILTER (WHERE open), 0)
+    FROM unnest(p_images)
+    GROUP BY week_start, user_id
+    HAVING sum(sign) <> 0 OR sum(sign * hours) <> 0
+        OR coalesce(sum(sign) FILTER (WHERE open), 0) <> 0 OR coalesce(sum(sign * hours) FILTER (WHERE open), 0) <> 0
+    ORDER BY week_start, user_id
+    ON CONFLICT (week_start, user_id) DO UPDATE SET
+        task_count      = w.task_count + EXCLUDED.task_count,
+        estimated_hours = w.estimated_hours + EXCLUDED.estimated_hours,
+        open_task_count = w.open_task_count + EXCLUDED.open_task_count,
+        open_hours      = w.open_hours + EXCLUDED.open_hours;
+
+    DELETE FROM user_weekly_workload w
+    USING (SELECT DISTINCT week_start, user_id FROM unnest(p_images) WHERE sign < 0) d
+    WHERE w.week_start = d.week_start AND w.user_id = d.user_id AND w.task_count <= 0;
+$$;
+
+CREATE OR REPLACE FUNCTION tasks_apply_workload()
+    RETURNS trigger
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    images workload_image[] := '{}';
+BEGIN
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        images := images || ARRAY(
+            SELECT ROW(CAST(date_trunc('week', due_date) AS date), assigned_to_user_id, coalesce(estimated_hours, 0),
+                       status NOT IN ('DONE', 'CLOSED'), 1)::workload_image
+            FROM new_rows
+            WHERE assigned_to_user_id IS NOT NULL AND due_date IS NOT NULL AND deleted_at IS NULL);
+    END IF;
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        images := images || ARRAY(
+            SELECT ROW(CAST(date_trunc('week', due_date) AS date), assigned_to_user_id, coalesce(estimated_hours, 0),
+                       status NOT IN ('DONE', 'CLOSED'), -1)::workload_image
+            FROM old_rows
+            WHERE assigned_to_user_id IS NOT NULL AND due_date IS NOT NULL AND deleted_at IS NULL);
+    END IF;
+    IF cardinality(images) > 0 THEN
+        PERFORM apply_workload_delta(images);
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_tasks_workload_insert ON tasks;
+CREATE TRIGGER trg_tasks_workload_insert AFTER INSERT ON tasks
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_apply_workload();
+
+DROP TRIGGER IF EXISTS trg_tasks_workload_update ON tasks;
+CREATE TRIGGER trg_tasks_workload_update AFTER UPDATE ON tasks
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_apply_workload();
+
+DROP TRIGGER IF EXISTS trg_tasks_workload_delete ON tasks;
+CREATE TRIGGER trg_tasks_workload_delete AFTER DELETE ON tasks
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION tasks_apply_workload();
+
+-- Recomputes the whole aggregate from tasks; returns the number of (week, user) rows.
+CREATE OR REPLACE FUNCTION rebuild_user_weekly_workload()
+    RETURNS bigint
+    LANGUAGE plpgsql
+AS $$
+DECLARE
+    row_count bigint;
+BEGIN
+    -- Blocks task writers' triggers until the rebuilt rows are committed.
+    LOCK TABLE user_weekly_workload IN EXCLUSIVE MODE;
+    DELETE FROM user_weekly_workload;
+    INSERT INTO user_weekly_workload (week_start, user_id, task_count, estimated_hours, open_task_count, open_hours)
+    SELECT CAST(date_trunc('week', due_date) AS date), assigned_to_user_id, count(*), sum(coalesce(estimated_hours, 0)),
+           count(*) FILTER (WHERE status NOT IN ('DONE', 'CLOSED')),
+           coalesce(sum(coalesce(estimated_hours, 0)) FILTER (WHERE status NOT IN ('DONE', 'CLOSED')), 0)
+    FROM tasks
+    WHERE assigned_to_user_id IS NOT NULL AND due_date IS NOT NULL AND deleted_at IS NULL
+    GROUP BY 1, 2;
+    GET DIAGNOSTICS row_count = ROW_COUNT;
+    RETURN row_count;
+END
+$$;
+
+SELECT rebuild_user_weekly_workload();
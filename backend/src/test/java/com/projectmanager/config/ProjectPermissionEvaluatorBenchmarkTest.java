@@ -0,0 +1,125 @@
+package com.projectmanager.config;
+
+import com.projectmanager.repository.ProjectRepository;
+import com.projectmanager.repository.ProjectScopeRepository;
+import com.projectmanager.repository.UserRepository;
+import com.projectmanager.service.project.ProjectMembershipCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Cost of one warm {@code hasPermission} check of {@link ProjectPermissionEvaluator}: project and task targets,
+ * read and write, for callers with 10, 1k and 10k projects, with the user, membership and task caches already
+ * loaded. Timing only, so it is skipped unless run with {@code -Dbenchmarks=true}, e.g.
+ * {@code ./mvnw test -Dtest=ProjectPermissionEvaluatorBenchmarkTest -Dbenchmarks=true}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class ProjectPermissionEvaluatorBenchmarkTest {
+
+    private static final int TASKS_PER_PROJECT = 10;
+    private static final int CHECKS_PER_RUN = 10_000;
+    private static final int RUNS = 50;
+
+    @Test
+    void warmChecks() {
+        System.out.printf("%10s %10s %22s %22s%n", "projects", "target", "read (median ns/check)", "write (median ns/check)");
+        for (int size : List.of(10, 1_000, 10_000)) {
+            Random random = new Random(size);
+            UUID userKey = UUID.randomUUID();
+            UUID userId = UUID.randomUUID();
+            List<UUID> projectIds = new ArrayList<>(size);
+            Map<UUID, UUID> taskProjects = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                UUID projectId = UUID.randomUUID();
+                projectIds.add(projectId);
+                for (int t = 0; t < TASKS_PER_PROJECT; t++) {
+                    taskProjects.put(UUID.randomUUID(), projectId);
+                }
+            }
+            List<UUID> taskIds = new ArrayList<>(taskProjects.keySet());
+
+            ProjectRepository projectRepository = mock(ProjectRepository.class);
+            when(projectRepository.findAccessibleProjectIds(userId)).thenReturn(new HashSet<>(projectIds));
+            ProjectScopeRepository projectScopeRepository = mock(ProjectScopeRepository.class);
+            when(projectScopeRepository.findProjectIdByTaskId(any()))
+                    .thenAnswer(invocation -> Optional.ofNullable(taskProjects.get(invocation.<UUID>getArgument(0))));
+            UserRepository userRepository = mock(UserRepository.class);
+            when(userRepository.findIdByKeycloakId(userKey)).thenReturn(Optional.of(userId));
+
+            ProjectMembershipCache membershipCache = new ProjectMembershipCache(projectRepository, new SimpleMeterRegistry(),
+                    1_000_000, Duration.ofHours(1));
+            ProjectPermissionEvaluator evaluator = new ProjectPermissionEvaluator(membershipCache, projectScopeRepository,
+                    userRepository, new SimpleMeterRegistry(), 1_000_000, Duration.ofHours(1));
+            Authentication developer = new TestingAuthenticationToken(userKey.toString(), null, "ROLE_developer");
+
+            // Loads every cache entry, then lets the JIT settle before measuring.
+            taskIds.forEach(taskId -> assertTrue(evaluator.hasPermission(developer, taskId, "task", "write")));
+            for (int i = 0; i < 5; i++) {
+                run(evaluator, developer, projectIds, "project", "read", random);
+                run(evaluator, developer, taskIds, "task", "write", random);
+            }
+
+            for (String type : List.of("project", "task")) {
+                List<UUID> targets = "project".equals(type) ? projectIds : taskIds;
+                double read = median(evaluator, developer, targets, type, "read", random);
+                double write = median(evaluator, developer, targets, type, "write", random);
+                System.out.printf("%10d %10s %22.1f %22.1f%n", size, type, read, write);
+            }
+        }
+    }
+
+    private static double median(ProjectPermissionEvaluator evaluator, Authentication authentication, List<UUID> targets,
+                                 String type, String permission, Random random) {
+        long[] samples = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            samples[i] = run(evaluator, authentication, targets, type, permission, random);
+        }
+        Arrays.sort(samples);
+        return (double) samples[RUNS / 2] / CHECKS_PER_RUN;
+    }
+
+    /**
+     * Nanoseconds for {@link #CHECKS_PER_RUN} checks of random targets; every check is expected to pass.
+     */
+    private static long run(ProjectPermissionEvaluator evaluator, Authentication authentication, List<UUID> targets,
+                            String type, String permission, Random random) {
+        UUID[] picked = new UUID[CHECKS_PER_RUN];
+        for (int i = 0; i < CHECKS_PER_RUN; i++) {
+            picked[i] = targets.get(random.nextInt(targets.size()));
+        }
+        int granted = 0;
+        long start = System.nanoTime();
+        for (UUID target : picked) {
+            if (evaluator.hasPermission(authentication, target, type, permission)) {
+                granted++;
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        // Also keeps the JIT from dropping the checks.
+        if (granted != CHECKS_PER_RUN) {
+            throw new AssertionError("Only " + granted + " of " + CHECKS_PER_RUN + " checks passed");
+        }
+        return elapsed;
+    }
+}
@@ -0,0 +1,217 @@
+package com.projectmanager.repository.specification;
+
+import com.projectmanager.config.FlywayConfig;
+import com.projectmanager.dto.request.TaskFilterRequest;
+import com.projectmanager.model.task.TaskPriority;
+import com.projectmanager.model.task.TaskStatus;
+import com.projectmanager.repository.TaskRepository;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query plans of the SQL Hibernate generates for {@link TaskSpecifications#matching}, checked against the
+ * composite indexes of V14__task_filter_indexes.sql on a PostgreSQL container migrated like production
+ * (Hibernate schema, then Flyway) and seeded with 20k analyzed tasks. Needs Docker, so it is skipped unless
+ * run with {@code -Dbenchmarks=true}, e.g.
+ * {@code ./mvnw test -Dtest=TaskSpecificationsPlanTest -Dbenchmarks=true}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+@Testcontainers(disabledWithoutDocker = true)
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(FlywayConfig.class)
+class TaskSpecificationsPlanTest {
+
+    private static final int PROJECTS = 50;
+    private static final int USERS = 200;
+    private static final int TASKS = 20_000;
+    private static final int PAGE_SIZE = 20;
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @TestConfiguration
+    static class StatementCapture {
+
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+                STATEMENTS.add(sql);
+                return sql;
+            });
+        }
+    }
+
+    @Autowired
+    private TaskRepository taskRepository;
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+    private UUID projectId;
+    private UUID assigneeId;
+
+    @BeforeEach
+    void seed() {
+        // Runs in the test's transaction, so every test starts from the same rows and rolls them back.
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.update("INSERT INTO users (id, keycloak_id, username, email, created_at) " +
+                "SELECT gen_random_uuid(), gen_random_uuid(), 'plan-user-' || n, 'plan-user-' || n || '@example.com', now() " +
+                "FROM generate_series(1, ?) n", USERS);
+        jdbcTemplate.update("INSERT INTO projects (id, name, status, created_by_user_id, created_at) " +
+                "SELECT gen_random_uuid(), 'plan-project-' || n, 'ON_TRACK', " +
+                "(SELECT id FROM users WHERE username = 'plan-user-1'), now() " +
+                "FROM generate_series(1, ?) n", PROJECTS);
+        jdbcTemplate.update("INSERT INTO tasks (id, title, priority, type, status, project_id, assigned_to_user_id, " +
+                "created_by_user_id, created_at, updated_at, due_date, version) " +
+                "SELECT gen_random_uuid(), 'Task ' || n, " +
+                "(ARRAY['CRITICAL', 'HIGH', 'MEDIUM', 'LOW'])[1 + (n * 7) % 4], " +
+                "(ARRAY['BUG', 'FEATURE', 'TASK', 'STORY'])[1 + (n * 3) % 4], " +
+                "(ARRAY['TODO', 'IN_PROGRESS', 'IN_REVIEW', 'TESTING', 'DONE', 'CLOSED'])[1 + (n * 11) % 6], " +
+                "p.ids[1 + n % cardinality(p.ids)], u.ids[1 + (n * 13) % cardinality(u.ids)], u.ids[1], " +
+                "TIMESTAMP '2025-01-01' + n * INTERVAL '7 minutes', TIMESTAMP '2025-01-01' + n * INTERVAL '7 minutes', " +
+                "TIMESTAMP '2025-01-01' + (n % 365) * INTERVAL '1 day', 0 " +
+                "FROM generate_series(1, ?) n, " +
+                "(SELECT array_agg(id ORDER BY name) AS ids FROM projects WHERE name LIKE 'plan-project-%') p, " +
+                "(SELECT array_agg(id ORDER BY username) AS ids FROM users WHERE username LIKE 'plan-user-%') u", TASKS);
+        jdbcTemplate.execute("ANALYZE users");
+        jdbcTemplate.execute("ANALYZE projects");
+        jdbcTemplate.execute("ANALYZE tasks");
+        projectId = jdbcTemplate.queryForObject("SELECT id FROM projects WHERE name = 'plan-project-1'", UUID.class);
+        assigneeId = jdbcTemplate.queryForObject("SELECT id FROM users WHERE username = 'plan-user-2'", UUID.class);
+    }
+
+    @Test
+    void projectStatusAndPriorityUseTheProjectStatusPriorityIndex() {
+        TaskFilterRequest filter = new TaskFilterRequest();
+        filter.setProjectId(projectId);
+        filter.setStatus(List.of(TaskStatus.TODO));
+        filter.setPriority(List.of(TaskPriority.HIGH));
+
+        assertUsesIndex(filter, Sort.by("title"), "idx_tasks_project_status_priority");
+    }
+
+    @Test
+    void projectAndDueRangeUseTheProjectDueDateIndex() {
+        TaskFilterRequest filter = new TaskFilterRequest();
+        filter.setProjectId(projectId);
+        filter.setDueFrom(LocalDateTime.of(2025, 3, 1, 0, 0));
+        filter.setDueTo(LocalDateTime.of(2025, 4, 1, 0, 0));
+
+        assertUsesIndex(filter, Sort.by("dueDate"), "idx_tasks_project_due_date");
+    }
+
+    @Test
+    void assigneeAndStatusUseTheAssigneeStatusDueDateIndex() {
+        TaskFilterRequest filter = new TaskFilterRequest();
+        filter.setAssignedToUserId(assigneeId);
+        filter.setStatus(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS));
+
+        assertUsesIndex(filter, Sort.by("dueDate"), "idx_tasks_assignee_status_due_date");
+    }
+
+    @Test
+    void statusSortedByCreationUsesTheStatusCreatedAtIndex() {
+        TaskFilterRequest filter = new TaskFilterRequest();
+        filter.setStatus(List.of(TaskStatus.DONE));
+
+        assertUsesIndex(filter, Sort.by(Sort.Direction.DESC, "createdAt"), "idx_tasks_status_created_at");
+    }
+
+    private void assertUsesIndex(TaskFilterRequest filter, Sort sort, String index) {
+        // The same paging shape as TaskServiceImpl#filterTasks: first page, with id as the tie-breaker.
+        PageRequest page = PageRequest.of(0, PAGE_SIZE, sort.and(Sort.by(Sort.Direction.DESC, "id")));
+        STATEMENTS.clear();
+        taskRepository.findAll(TaskSpecifications.matching(filter), page);
+        String sql = STATEMENTS.stream()
+                .filter(statement -> statement.toLowerCase().startsWith("select") && statement.contains(" from tasks "))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No task query captured in " + STATEMENTS));
+
+        String plan = String.join("\n", explain(sql, bindValues(filter)));
+        System.out.printf("%s%n%s%n%n", sql, plan);
+        assertTrue(plan.contains(index), () -> "Expected " + index + " in the plan of " + sql + "\n" + plan);
+        assertFalse(plan.contains("Seq Scan on tasks"), () -> "Unexpected sequential scan of tasks in\n" + plan);
+    }
+
+    /**
+     * The parameters of the filter in the order {@link TaskSpecifications#matching} adds its predicates.
+     */
+    private static List<Object> bindValues(TaskFilterRequest filter) {
+        List<Object> values = new ArrayList<>();
+        if (filter.getProjectId() != null) {
+            values.add(filter.getProjectId());
+        }
+        if (filter.getAssignedToUserId() != null) {
+            values.add(filter.getAssignedToUserId());
+        }
+        if (filter.getStatus() != null) {
+            filter.getStatus().forEach(status -> values.add(status.name()));
+        }
+        if (filter.getPriority() != null) {
+            filter.getPriority().forEach(priority -> values.add(priority.name()));
+        }
+        if (filter.getType() != null) {
+            filter.getType().forEach(type -> values.add(type.name()));
+        }
+        if (filter.getDueFrom() != null) {
+            values.add(filter.getDueFrom());
+        }
+        if (filter.getDueTo() != null) {
+            values.add(filter.getDueTo());
+        }
+        return values;
+    }
+
+    /**
+     * Plans the statement with its actual parameters rather than a generic plan, which would assume an
+     * unknown LIMIT. Placeholders after the filter's own are the page limit.
+     */
+    private List<String> explain(String sql, List<Object> values) {
+        long placeholders = sql.chars().filter(c -> c == '?').count();
+        assertTrue(placeholders >= values.size(), () -> "Fewer placeholders than filter values in " + sql);
+        return jdbcTemplate.query("EXPLAIN " + sql, statement -> {
+            for (int i = 0; i < placeholders; i++) {
+                statement.setObject(i + 1, i < values.size() ? values.get(i) : PAGE_SIZE);
+            }
+        }, (row, rowNum) -> row.getString(1));
+    }
+}
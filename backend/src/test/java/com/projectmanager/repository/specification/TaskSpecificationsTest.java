@@ -0,0 +1,102 @@
+package com.projectmanager.repository.specification;
+
+import com.projectmanager.dto.request.TaskFilterRequest;
+import com.projectmanager.entity.Task;
+import com.projectmanager.model.task.TaskStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link TaskSpecifications#matching} against mocked Criteria API objects.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskSpecificationsTest {
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Root<Task> root;
+
+    @Mock
+    private CriteriaQuery<Object> query;
+
+    @Mock
+    private CriteriaBuilder cb;
+
+    @Test
+    void countQueryDoesNotFetchAssociations() {
+        doReturn(Long.class).when(query).getResultType();
+
+        TaskSpecifications.matching(new TaskFilterRequest()).toPredicate(root, query, cb);
+
+        verify(root, never()).fetch(anyString(), any(JoinType.class));
+    }
+
+    @Test
+    void primitiveCountQueryDoesNotFetchAssociations() {
+        doReturn(long.class).when(query).getResultType();
+
+        TaskSpecifications.matching(new TaskFilterRequest()).toPredicate(root, query, cb);
+
+        verify(root, never()).fetch(anyString(), any(JoinType.class));
+    }
+
+    @Test
+    void entityQueryFetchesToOneAssociations() {
+        doReturn(Task.class).when(query).getResultType();
+
+        TaskSpecifications.matching(new TaskFilterRequest()).toPredicate(root, query, cb);
+
+        verify(root).fetch("project", JoinType.LEFT);
+        verify(root).fetch("assignedTo", JoinType.LEFT);
+        verify(root).fetch("createdBy", JoinType.LEFT);
+    }
+
+    @Test
+    void emptyFilterMatchesEveryTask() {
+        doReturn(Long.class).when(query).getResultType();
+
+        TaskSpecifications.matching(new TaskFilterRequest()).toPredicate(root, query, cb);
+
+        verify(cb).and();
+    }
+
+    @Test
+    void criteriaUseForeignKeyColumnsAndHalfOpenDueRange() {
+        doReturn(Long.class).when(query).getResultType();
+        UUID projectId = UUID.randomUUID();
+        UUID assigneeId = UUID.randomUUID();
+        LocalDateTime dueFrom = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime dueTo = LocalDateTime.of(2025, 2, 1, 0, 0);
+        TaskFilterRequest filter = new TaskFilterRequest();
+        filter.setProjectId(projectId);
+        filter.setAssignedToUserId(assigneeId);
+        filter.setStatus(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS));
+        filter.setDueFrom(dueFrom);
+        filter.setDueTo(dueTo);
+
+        TaskSpecifications.matching(filter).toPredicate(root, query, cb);
+
+        verify(cb).equal(root.get("project").get("id"), projectId);
+        verify(cb).equal(root.get("assignedTo").get("id"), assigneeId);
+        verify(root.get("status")).in(List.of(TaskStatus.TODO, TaskStatus.IN_PROGRESS));
+        verify(cb).greaterThanOrEqualTo(root.<LocalDateTime>get("dueDate"), dueFrom);
+        verify(cb).lessThan(root.<LocalDateTime>get("dueDate"), dueTo);
+        verify(root, never()).join(anyString());
+    }
+}
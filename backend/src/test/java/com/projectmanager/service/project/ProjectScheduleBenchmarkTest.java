@@ -0,0 +1,71 @@
+package com.projectmanager.service.project;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares a full schedule rebuild with the incremental update applied by {@link ProjectScheduleCache} when one
+ * task's estimate changes, at 1k, 10k and 100k tasks. Timing only, so it is skipped unless run with
+ * {@code -Dbenchmarks=true}, e.g. {@code ./mvnw test -Dtest=ProjectScheduleBenchmarkTest -Dbenchmarks=true}.
+ */
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = "benchmarks", matches = "true")
+class ProjectScheduleBenchmarkTest {
+
+    private static final int FULL_RUNS = 10;
+    private static final int INCREMENTAL_RUNS = 1000;
+
+    @Test
+    void incrementalVersusFullRecompute() {
+        System.out.printf("%10s %18s %24s %10s%n", "tasks", "full (median ms)", "incremental (median ms)", "speed-up");
+        for (int size : List.of(1_000, 10_000, 100_000)) {
+            Random random = new Random(size);
+            ProjectScheduleTest.RandomProject project = ProjectScheduleTest.RandomProject.generateLayered(random, size);
+
+            // Warm-up, then the median of several rebuilds.
+            for (int i = 0; i < 3; i++) {
+                project.build();
+            }
+            long[] full = new long[FULL_RUNS];
+            ProjectSchedule schedule = null;
+            for (int i = 0; i < FULL_RUNS; i++) {
+                long start = System.nanoTime();
+                schedule = project.build();
+                full[i] = System.nanoTime() - start;
+            }
+
+            long[] incremental = new long[INCREMENTAL_RUNS];
+            for (int i = 0; i < INCREMENTAL_RUNS; i++) {
+                int task = random.nextInt(size);
+                ProjectScheduleTest.Row row = project.rows.get(task);
+                ProjectScheduleTest.Row changed = new ProjectScheduleTest.Row(row.id(), row.projectId(), row.status(),
+                        random.nextInt(40), row.dueDate());
+                project.rows.set(task, changed);
+                long start = System.nanoTime();
+                schedule.updateTask(changed);
+                incremental[i] = System.nanoTime() - start;
+            }
+            // The benchmark is only meaningful if the incremental result is still right.
+            assertEquals(CriticalPathEngine.compute(project.nodes(), project.engineEdges()).projectDurationHours(),
+                    schedule.getProjectDuration());
+
+            double fullMedian = median(full) / 1e6;
+            double incrementalMedian = median(incremental) / 1e6;
+            System.out.printf("%10d %18.3f %24.4f %9.0fx%n", size, fullMedian, incrementalMedian,
+                    fullMedian / Math.max(incrementalMedian, 1e-6));
+        }
+    }
+
+    private static long median(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,303 @@
+package com.projectmanager.service.project;
+
+import com.projectmanager.dto.response.NetworkMapTaskResponse;
+import com.projectmanager.model.task.TaskPriority;
+import com.projectmanager.model.task.TaskStatus;
+import com.projectmanager.model.task.TaskType;
+import com.projectmanager.repository.projection.TaskDependencyRow;
+import com.projectmanager.repository.projection.TaskScheduleRow;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the incremental propagation of {@link ProjectSchedule} against a full {@link CriticalPathEngine}
+ * recompute after every change of a random sequence on random DAGs.
+ */
+class ProjectScheduleTest {
+
+    static final LocalDateTime ANCHOR = LocalDateTime.of(2025, 1, 6, 9, 0);
+    static final UUID PROJECT_ID = UUID.randomUUID();
+
+    @Test
+    void incrementalUpdatesMatchFullRecompute() {
+        for (long seed = 1; seed <= 200; seed++) {
+            RandomProject project = RandomProject.generate(new Random(seed), 2 + (int) (seed % 40), 0.15);
+            ProjectSchedule schedule = project.build();
+            assertMatchesFullRecompute(project, schedule, "seed " + seed + ", initial");
+
+            for (int step = 0; step < 30; step++) {
+                Map<UUID, NetworkMapTaskResponse> before = byId(schedule.toResponses());
+                List<Integer> changed = project.mutate(schedule);
+                if (changed == null) {
+                    // The change needs a rebuild, as ProjectScheduleCache does.
+                    schedule = project.build();
+                    assertMatchesFullRecompute(project, schedule, "seed " + seed + ", step " + step + " (rebuilt)");
+                    continue;
+                }
+                String context = "seed " + seed + ", step " + step;
+                assertMatchesFullRecompute(project, schedule, context);
+                assertChangedTasksReported(schedule, before, changed, context);
+            }
+        }
+    }
+
+    @Test
+    void edgeAgainstTopologicalOrderRequiresRebuild() {
+        RandomProject project = RandomProject.generate(new Random(7), 2, 0);
+        ProjectSchedule schedule = project.build();
+        List<NetworkMapTaskResponse> ordered = schedule.toResponses();
+        UUID first = ordered.get(0).getId();
+        UUID second = ordered.get(1).getId();
+
+        assertNull(schedule.addEdge(second, first));
+        assertNotNull(schedule.addEdge(first, second));
+    }
+
+    @Test
+    void unknownTaskRequiresRebuild() {
+        RandomProject project = RandomProject.generate(new Random(11), 3, 0.5);
+        ProjectSchedule schedule = project.build();
+
+        assertNull(schedule.updateTask(new Row(UUID.randomUUID(), PROJECT_ID, TaskStatus.TODO, 4, null)));
+        assertNull(schedule.removeEdge(UUID.randomUUID(), project.rows.get(0).getId()));
+    }
+
+    private static void assertMatchesFullRecompute(RandomProject project, ProjectSchedule schedule, String context) {
+        CriticalPathEngine.Schedule expected = CriticalPathEngine.compute(project.nodes(), project.engineEdges());
+        assertEquals(expected.projectDurationHours(), schedule.getProjectDuration(), context + ": project duration");
+
+        Map<UUID, NetworkMapTaskResponse> actual = byId(schedule.toResponses());
+        assertEquals(expected.nodes().size(), actual.size(), context + ": task count");
+        for (CriticalPathEngine.NodeSchedule node : expected.nodes()) {
+            NetworkMapTaskResponse response = actual.get(node.id());
+            assertNotNull(response, context + ": missing task " + node.id());
+            assertEquals(ANCHOR.plusHours(node.earliestStart()), response.getEarliestStart(), context + ": earliest start of " + node.id());
+            assertEquals(ANCHOR.plusHours(node.earliestFinish()), response.getEarliestFinish(), context + ": earliest finish of " + node.id());
+            assertEquals(ANCHOR.plusHours(node.latestStart()), response.getLatestStart(), context + ": latest start of " + node.id());
+            assertEquals(ANCHOR.plusHours(node.latestFinish()), response.getLatestFinish(), context + ": latest finish of " + node.id());
+            assertEquals(node.slack(), response.getSlackHours(), context + ": slack of " + node.id());
+        }
+    }
+
+    private static void assertChangedTasksReported(ProjectSchedule schedule, Map<UUID, NetworkMapTaskResponse> before,
+                                                   List<Integer> changed, String context) {
+        Set<UUID> reported = new HashSet<>();
+        for (int i : changed) {
+            reported.add(schedule.toResponse(i).getId());
+        }
+        for (NetworkMapTaskResponse after : schedule.toResponses()) {
+            NetworkMapTaskResponse previous = before.get(after.getId());
+            boolean moved = !previous.getEarliestStart().equals(after.getEarliestStart())
+                    || !previous.getEarliestFinish().equals(after.getEarliestFinish())
+                    || !previous.getLatestStart().equals(after.getLatestStart())
+                    || !previous.getLatestFinish().equals(after.getLatestFinish());
+            assertTrue(!moved || reported.contains(after.getId()), context + ": unreported change of " + after.getId());
+        }
+    }
+
+    private static Map<UUID, NetworkMapTaskResponse> byId(List<NetworkMapTaskResponse> responses) {
+        Map<UUID, NetworkMapTaskResponse> byId = new HashMap<>();
+        responses.forEach(response -> byId.put(response.getId(), response));
+        return byId;
+    }
+
+    /**
+     * Tasks and edges of a random project; edges always point forward in a hidden random order, so the
+     * graph stays acyclic whatever the schedule's own topological order is.
+     */
+    static final class RandomProject {
+
+        final Random random;
+        final List<Row> rows = new ArrayList<>();
+        final Map<UUID, Integer> rank = new HashMap<>();
+        final Set<Edge> edges = new LinkedHashSet<>();
+
+        private RandomProject(Random random) {
+            this.random = random;
+        }
+
+        static RandomProject generate(Random random, int size, double edgeDensity) {
+            RandomProject project = new RandomProject(random);
+            for (int i = 0; i < size; i++) {
+                Row row = project.randomRow(new UUID(random.nextLong(), random.nextLong()));
+                project.rows.add(row);
+                project.rank.put(row.getId(), i);
+            }
+            // Shuffled so the input order of the rows differs from the order of the edges.
+            Collections.shuffle(project.rows, random);
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    if (i != j && random.nextDouble() < edgeDensity / Math.max(1, Math.sqrt(size))) {
+                        project.addEdge(project.rows.get(i).getId(), project.rows.get(j).getId());
+                    }
+                }
+            }
+            return project;
+        }
+
+        /**
+         * Edges over chains of random length, as wide and deep as a large project: every task depends on up to
+         * three of the tasks created shortly before it.
+         */
+        static RandomProject generateLayered(Random random, int size) {
+            RandomProject project = new RandomProject(random);
+            for (int i = 0; i < size; i++) {
+                Row row = project.randomRow(new UUID(random.nextLong(), random.nextLong()));
+                project.rows.add(row);
+                project.rank.put(row.getId(), i);
+                int predecessors = random.nextInt(4);
+                for (int k = 0; k < predecessors && i > 0; k++) {
+                    int from = Math.max(0, i - 1 - random.nextInt(50));
+                    project.edges.add(new Edge(project.rows.get(from).getId(), row.getId()));
+                }
+            }
+            return project;
+        }
+
+        ProjectSchedule build() {
+            return ProjectSchedule.build(PROJECT_ID, ANCHOR, new ArrayList<>(rows), new ArrayList<>(edges));
+        }
+
+        List<CriticalPathEngine.Node> nodes() {
+            List<CriticalPathEngine.Node> nodes = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                boolean closed = row.getStatus() == TaskStatus.DONE || row.getStatus() == TaskStatus.CLOSED;
+                long duration = closed || row.getEstimatedHours() == null ? 0 : Math.max(0, row.getEstimatedHours());
+                Long deadline = row.getDueDate() == null ? null : Duration.between(ANCHOR, row.getDueDate()).toHours();
+                nodes.add(new CriticalPathEngine.Node(row.getId(), duration, deadline));
+            }
+            return nodes;
+        }
+
+        List<CriticalPathEngine.Edge> engineEdges() {
+            return edges.stream().map(edge -> new CriticalPathEngine.Edge(edge.getPredecessorId(), edge.getSuccessorId())).toList();
+        }
+
+        /**
+         * Applies one random change to the project and the schedule; returns what the schedule returned.
+         */
+        List<Integer> mutate(ProjectSchedule schedule) {
+            int kind = random.nextInt(4);
+            if (kind <= 1 || rows.size() < 2) {
+                int i = random.nextInt(rows.size());
+                Row row = randomRow(rows.get(i).getId());
+                rows.set(i, row);
+                return schedule.updateTask(row);
+            }
+            if (kind == 2) {
+                UUID a = rows.get(random.nextInt(rows.size())).getId();
+                UUID b = rows.get(random.nextInt(rows.size())).getId();
+                if (a.equals(b)) {
+                    return schedule.updateTask(rows.get(0));
+                }
+                UUID from = rank.get(a) < rank.get(b) ? a : b;
+                UUID to = from == a ? b : a;
+                addEdge(from, to);
+                return schedule.addEdge(from, to);
+            }
+            if (edges.isEmpty()) {
+                return schedule.updateTask(rows.get(0));
+            }
+            Edge edge = new ArrayList<>(edges).get(random.nextInt(edges.size()));
+            edges.remove(edge);
+            return schedule.removeEdge(edge.getPredecessorId(), edge.getSuccessorId());
+        }
+
+        private void addEdge(UUID from, UUID to) {
+            if (rank.get(from) < rank.get(to)) {
+                edges.add(new Edge(from, to));
+            }
+        }
+
+        private Row randomRow(UUID id) {
+            TaskStatus status = random.nextInt(6) == 0 ? TaskStatus.DONE : TaskStatus.TODO;
+            Integer hours = random.nextInt(8) == 0 ? null : random.nextInt(40);
+            LocalDateTime dueDate = random.nextInt(3) == 0 ? ANCHOR.plusHours(random.nextInt(400) - 50) : null;
+            return new Row(id, PROJECT_ID, status, hours, dueDate);
+        }
+    }
+
+    record Edge(UUID predecessorId, UUID successorId) implements TaskDependencyRow {
+
+        @Override
+        public UUID getPredecessorId() {
+            return predecessorId;
+        }
+
+        @Override
+        public UUID getSuccessorId() {
+            return successorId;
+        }
+    }
+
+    record Row(UUID id, UUID projectId, TaskStatus status, Integer estimatedHours, LocalDateTime dueDate)
+            implements TaskScheduleRow {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public String getTitle() {
+            return "Task " + id;
+        }
+
+        @Override
+        public String getDescription() {
+            return null;
+        }
+
+        @Override
+        public TaskPriority getPriority() {
+            return TaskPriority.MEDIUM;
+        }
+
+        @Override
+        public TaskType getType() {
+            return TaskType.FEATURE;
+        }
+
+        @Override
+        public TaskStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public Integer getEstimatedHours() {
+            return estimatedHours;
+        }
+
+        @Override
+        public LocalDateTime getDueDate() {
+            return dueDate;
+        }
+
+        @Override
+        public UUID getAssignedToUserId() {
+            return null;
+        }
+
+        @Override
+        public UUID getProjectId() {
+            return projectId;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.projectmanager.service.project;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidSetTest {
+
+    @Test
+    void emptyCollectionGivesTheEmptySet() {
+        UuidSet set = UuidSet.of(List.of());
+
+        assertSame(UuidSet.EMPTY, set);
+        assertTrue(set.isEmpty());
+        assertEquals(0, set.size());
+        assertFalse(set.contains(UUID.randomUUID()));
+        assertEquals(List.of(), set.toList());
+    }
+
+    @Test
+    void duplicatesAreCountedOnce() {
+        UUID a = UUID.randomUUID();
+        UUID b = UUID.randomUUID();
+        UuidSet set = UuidSet.of(List.of(a, b, a, new UUID(b.getMostSignificantBits(), b.getLeastSignificantBits())));
+
+        assertEquals(2, set.size());
+        assertFalse(set.isEmpty());
+        assertTrue(set.contains(a));
+        assertTrue(set.contains(b));
+    }
+
+    @Test
+    void containsHandlesSignedBits() {
+        // Ids that agree in one half and differ in sign in the other.
+        List<UUID> ids = List.of(
+                new UUID(Long.MIN_VALUE, 0), new UUID(-1, -1), new UUID(0, Long.MIN_VALUE),
+                new UUID(0, 0), new UUID(0, Long.MAX_VALUE), new UUID(Long.MAX_VALUE, -1));
+        UuidSet set = UuidSet.of(ids);
+
+        assertEquals(ids.size(), set.size());
+        ids.forEach(id -> assertTrue(set.contains(id), id + " missing"));
+        assertFalse(set.contains(new UUID(-1, 0)));
+        assertFalse(set.contains(new UUID(0, -1)));
+        assertFalse(set.contains(new UUID(Long.MIN_VALUE, -1)));
+        assertFalse(set.contains(new UUID(Long.MAX_VALUE, Long.MAX_VALUE)));
+    }
+
+    @Test
+    void matchesHashSetOnRandomIds() {
+        Random random = new Random(5);
+        for (int round = 0; round < 200; round++) {
+            List<UUID> ids = new ArrayList<>();
+            int count = random.nextInt(300);
+            for (int i = 0; i < count; i++) {
+                // A narrow range of high bits makes duplicates and shared halves likely.
+                ids.add(new UUID(random.nextInt(8) - 4, random.nextInt(64) - 32));
+            }
+            Set<UUID> expected = new HashSet<>(ids);
+            UuidSet set = UuidSet.of(ids);
+
+            assertEquals(expected.size(), set.size(), "round " + round);
+            assertEquals(expected, new HashSet<>(set.toList()), "round " + round);
+            for (int i = 0; i < 100; i++) {
+                UUID probe = new UUID(random.nextInt(10) - 5, random.nextInt(70) - 35);
+                assertEquals(expected.contains(probe), set.contains(probe), "round " + round + ", " + probe);
+            }
+        }
+    }
+}
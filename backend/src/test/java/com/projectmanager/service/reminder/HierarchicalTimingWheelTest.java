@@ -0,0 +1,107 @@
+package com.projectmanager.service.reminder;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_000_000;
+
+    @Test
+    void timersDueWithinTheCurrentTickAreRejected() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 8, START + 250);
+
+        assertFalse(wheel.add(START - 5_000, "past"));
+        assertFalse(wheel.add(START, "now"));
+        assertFalse(wheel.add(START + TICK - 1, "this tick"));
+        assertTrue(wheel.add(START + TICK, "next tick"));
+    }
+
+    @Test
+    void firesTimerOnceItsTickIsReached() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 8, START);
+        assertTrue(wheel.add(START + 3_500, "a"));
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(START + 2_999, fired::add);
+        assertEquals(List.of(), fired);
+        wheel.advance(START + 3_000, fired::add);
+        assertEquals(List.of("a"), fired);
+        wheel.advance(START + 10_000, fired::add);
+        assertEquals(List.of("a"), fired);
+    }
+
+    @Test
+    void cascadesFromOverflowLevels() {
+        // Levels span 4s, 16s and 64s; the timer starts two levels up.
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 4, START);
+        long expiration = START + 50_000;
+        assertTrue(wheel.add(expiration, "far"));
+
+        List<String> fired = new ArrayList<>();
+        for (long now = START; now < expiration; now += TICK) {
+            wheel.advance(now, fired::add);
+            assertEquals(List.of(), fired, "fired early at " + (now - START));
+        }
+        wheel.advance(expiration, fired::add);
+        assertEquals(List.of("far"), fired);
+    }
+
+    @Test
+    void cascadesWithinOneLargeAdvance() {
+        HierarchicalTimingWheel<String> wheel = new HierarchicalTimingWheel<>(TICK, 4, START);
+        assertTrue(wheel.add(START + 50_000, "far"));
+        assertTrue(wheel.add(START + 2_000, "near"));
+
+        List<String> fired = new ArrayList<>();
+        wheel.advance(START + 200_000, fired::add);
+        assertEquals(List.of("near", "far"), fired);
+    }
+
+    @Test
+    void randomTimersFireInTheirOwnTick() {
+        Random random = new Random(42);
+        HierarchicalTimingWheel<Integer> wheel = new HierarchicalTimingWheel<>(TICK, 8, START);
+        Map<Integer, Long> expirations = new HashMap<>();
+        Map<Integer, Long> firedAt = new HashMap<>();
+        long now = START;
+        int next = 0;
+        while (now < START + 2_000_000) {
+            for (int k = random.nextInt(5); k > 0; k--) {
+                // Up to three overflow levels out, and some already due.
+                long expiration = now - 2_000 + (long) (random.nextDouble() * 600_000);
+                int id = next++;
+                expirations.put(id, expiration);
+                if (!wheel.add(expiration, id)) {
+                    assertTrue(expiration < now - now % TICK + TICK, "timer " + id + " rejected although not due");
+                    firedAt.put(id, now);
+                }
+            }
+            now += 1 + random.nextInt(3_000);
+            long current = now;
+            wheel.advance(current, id -> firedAt.put(id, current));
+        }
+
+        for (Map.Entry<Integer, Long> timer : expirations.entrySet()) {
+            long expiration = timer.getValue();
+            if (expiration > now - TICK) {
+                continue;
+            }
+            Long fired = firedAt.get(timer.getKey());
+            assertTrue(fired != null, "timer " + timer.getKey() + " never fired");
+            // Fired in the first advance that reached its tick, never before.
+            assertTrue(fired >= expiration - expiration % TICK, "timer " + timer.getKey() + " fired early");
+            assertTrue(fired < expiration - expiration % TICK + TICK + 3_000, "timer " + timer.getKey() + " fired late");
+        }
+    }
+}
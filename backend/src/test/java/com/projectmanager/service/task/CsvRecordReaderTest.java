@@ -0,0 +1,103 @@
+package com.projectmanager.service.task;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Unit tests for {@link CsvRecordReader}.
+ */
+class CsvRecordReaderTest {
+
+    @Test
+    void splitsRecordsAndFields() throws IOException {
+        assertEquals(List.of(List.of("title", "status"), List.of("Write docs", "TODO")),
+                readAll("title,status\nWrite docs,TODO\n"));
+    }
+
+    @Test
+    void returnsEmptyFieldsAsNull() throws IOException {
+        assertEquals(List.of(Arrays.asList("a", null, null)), readAll("a,,\n"));
+    }
+
+    @Test
+    void keepsAnEmptyQuotedFieldAsEmptyString() throws IOException {
+        assertEquals(List.of(Arrays.asList("a", "", null)), readAll("a,\"\",\n"));
+    }
+
+    @Test
+    void quotedFieldsMayContainSeparatorsAndEscapedQuotes() throws IOException {
+        assertEquals(List.of(List.of("a, b", "say \"hi\"")), readAll("\"a, b\",\"say \"\"hi\"\"\"\n"));
+    }
+
+    @Test
+    void quotedFieldsMaySpanLines() throws IOException {
+        CsvRecordReader reader = reader("title,description\nFirst,\"line one\nline two\r\nline three\"\nSecond,x\n");
+
+        reader.next();
+        assertEquals(List.of("First", "line one\nline two\r\nline three"), reader.next());
+        assertEquals(2, reader.recordLine());
+        assertEquals(List.of("Second", "x"), reader.next());
+        // The record after the multi-line field starts on the fifth line of the file.
+        assertEquals(5, reader.recordLine());
+    }
+
+    @Test
+    void acceptsCrlfLineEndings() throws IOException {
+        CsvRecordReader reader = reader("a,b\r\nc,d\r\n");
+
+        assertEquals(List.of("a", "b"), reader.next());
+        assertEquals(List.of("c", "d"), reader.next());
+        assertEquals(2, reader.recordLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void skipsBlankLinesAndReadsALastRecordWithoutLineBreak() throws IOException {
+        CsvRecordReader reader = reader("a\n\n\r\nb");
+
+        assertEquals(List.of("a"), reader.next());
+        assertEquals(List.of("b"), reader.next());
+        assertEquals(4, reader.recordLine());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void rejectsAnUnterminatedQuotedField() {
+        CsvRecordReader reader = reader("a,\"never closed\nb\n");
+
+        IOException e = assertThrows(IOException.class, reader::next);
+        assertEquals("Unterminated quoted field starting on line 1", e.getMessage());
+    }
+
+    @Test
+    void readsRecordsAcrossBufferRefills() throws IOException {
+        String longText = "x".repeat(100_000);
+        Reader input = new StringReader("\"" + longText + "\",tail\n");
+
+        assertEquals(List.of(longText, "tail"), new CsvRecordReader(input).next());
+    }
+
+    private static List<List<String>> readAll(String text) throws IOException {
+        CsvRecordReader reader = reader(text);
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static CsvRecordReader reader(String text) {
+        return new CsvRecordReader(new StringReader(text));
+    }
+}
@@ -0,0 +1,65 @@
+package com.projectmanager.service.task;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LexoRankTest {
+
+    @Test
+    void nullBoundsStandForTheEndsOfTheColumn() {
+        assertEquals("i", LexoRank.between(null, null));
+        assertEquals("n", LexoRank.between("a", null));
+        assertEquals("5", LexoRank.between(null, "a"));
+        assertBetween(null, "1");
+        assertBetween("z", null);
+        assertBetween("zzz", null);
+    }
+
+    @Test
+    void adjacentDigitsExtendTheLowerKey() {
+        assertEquals("ai", LexoRank.between("a", "b"));
+        assertEquals("azi", LexoRank.between("az", "b"));
+        assertEquals("0i", LexoRank.between(null, "1"));
+        assertEquals("0000i", LexoRank.between(null, "0001"));
+        assertBetween("a1", "a2");
+        assertBetween("a", "a1");
+        assertBetween("azz", "b");
+    }
+
+    @Test
+    void neverEndsInZero() {
+        Random random = new Random(3);
+        List<String> column = new ArrayList<>();
+        column.add(LexoRank.between(null, null));
+        for (int i = 0; i < 5_000; i++) {
+            // Biased towards the front so keys grow long and hit many adjacent digits.
+            int position = random.nextInt(4) == 0 ? random.nextInt(column.size() + 1) : random.nextInt(Math.min(3, column.size() + 1));
+            String before = position == 0 ? null : column.get(position - 1);
+            String after = position == column.size() ? null : column.get(position);
+            column.add(position, assertBetween(before, after));
+        }
+    }
+
+    @Test
+    void rejectsBoundsOutOfOrder() {
+        assertThrows(IllegalArgumentException.class, () -> LexoRank.between("b", "a"));
+        assertThrows(IllegalArgumentException.class, () -> LexoRank.between("a", "a"));
+        assertThrows(IllegalArgumentException.class, () -> LexoRank.between("", ""));
+        assertThrows(IllegalArgumentException.class, () -> LexoRank.between("A", null));
+    }
+
+    private static String assertBetween(String before, String after) {
+        String key = LexoRank.between(before, after);
+        assertTrue(before == null || before.compareTo(key) < 0, key + " does not sort after " + before);
+        assertTrue(after == null || key.compareTo(after) < 0, key + " does not sort before " + after);
+        assertTrue(!key.endsWith("0"), key + " ends in '0'");
+        return key;
+    }
+}
@@ -0,0 +1,169 @@
+package com.projectmanager.service.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanager.dto.response.TaskStateResponse;
+import com.projectmanager.repository.TaskHistoryRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.repository.projection.TaskChangeRow;
+import com.projectmanager.repository.projection.TaskSnapshotRow;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for rebuilding a task from its latest snapshot and the changes after it in
+ * {@link TaskHistoryServiceImpl#getStateAt}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskHistoryServiceImplTest {
+
+    private static final UUID TASK_ID = UUID.randomUUID();
+    private static final LocalDateTime SNAPSHOT_AT = LocalDateTime.of(2025, 3, 1, 9, 0);
+    private static final LocalDateTime AT = LocalDateTime.of(2025, 3, 1, 12, 0);
+
+    @Mock
+    private TaskHistoryRepository taskHistoryRepository;
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskHistoryServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskHistoryServiceImpl(taskHistoryRepository, taskRepository, new ObjectMapper());
+        lenient().when(taskRepository.existsById(TASK_ID)).thenReturn(true);
+    }
+
+    @Test
+    void replaysTheChangesAfterTheSnapshotInOrder() {
+        when(taskHistoryRepository.findLatestSnapshot(TASK_ID, AT)).thenReturn(Optional.of(
+                snapshot(3, "{\"title\":\"Draft\",\"status\":\"TODO\",\"priority\":\"LOW\"}")));
+        when(taskHistoryRepository.findChangesBetween(TASK_ID, 3L, AT)).thenReturn(List.of(
+                change(4, SNAPSHOT_AT.plusHours(1), "{\"status\":[\"TODO\",\"IN_PROGRESS\"]}"),
+                change(5, SNAPSHOT_AT.plusHours(2), "{\"status\":[\"IN_PROGRESS\",\"IN_REVIEW\"],\"title\":[\"Draft\",\"Final\"]}")));
+
+        TaskStateResponse response = service.getStateAt(TASK_ID, AT);
+
+        assertEquals(TASK_ID, response.getTaskId());
+        assertEquals(AT, response.getAsOf());
+        assertEquals(5, response.getVersion());
+        assertEquals(Map.of("title", "Final", "status", "IN_REVIEW", "priority", "LOW"), response.getState());
+    }
+
+    @Test
+    void keepsTheSnapshotWhenNoChangesFollowIt() {
+        when(taskHistoryRepository.findLatestSnapshot(TASK_ID, AT)).thenReturn(Optional.of(
+                snapshot(7, "{\"title\":\"Draft\",\"estimatedHours\":3}")));
+        when(taskHistoryRepository.findChangesBetween(TASK_ID, 7L, AT)).thenReturn(List.of());
+
+        TaskStateResponse response = service.getStateAt(TASK_ID, AT);
+
+        assertEquals(7, response.getVersion());
+        assertEquals(Map.of("title", "Draft", "estimatedHours", 3), response.getState());
+    }
+
+    @Test
+    void replaysOnlyTheChangesMadeUpToTheRequestedTime() {
+        LocalDateTime earlier = SNAPSHOT_AT.plusMinutes(30);
+        when(taskHistoryRepository.findLatestSnapshot(TASK_ID, earlier)).thenReturn(Optional.of(
+                snapshot(3, "{\"status\":\"TODO\"}")));
+        // The stub only answers for the requested time; the change at 11:00 is past it and is not returned.
+        when(taskHistoryRepository.findChangesBetween(TASK_ID, 3L, earlier)).thenReturn(List.of());
+        when(taskHistoryRepository.findChangesBetween(TASK_ID, 3L, AT)).thenReturn(List.of(
+                change(4, SNAPSHOT_AT.plusHours(2), "{\"status\":[\"TODO\",\"DONE\"]}")));
+        when(taskHistoryRepository.findLatestSnapshot(TASK_ID, AT)).thenReturn(Optional.of(
+                snapshot(3, "{\"status\":\"TODO\"}")));
+
+        TaskStateResponse before = service.getStateAt(TASK_ID, earlier);
+        TaskStateResponse after = service.getStateAt(TASK_ID, AT);
+
+        assertEquals(3, before.getVersion());
+        assertEquals(Map.of("status", "TODO"), before.getState());
+        assertEquals(4, after.getVersion());
+        assertEquals(Map.of("status", "DONE"), after.getState());
+    }
+
+    @Test
+    void reportsNotFoundWithoutASnapshotBeforeTheRequestedTime() {
+        when(taskHistoryRepository.findLatestSnapshot(TASK_ID, AT)).thenReturn(Optional.empty());
+
+        assertThrows(EntityNotFoundException.class, () -> service.getStateAt(TASK_ID, AT));
+        verify(taskHistoryRepository, never()).findChangesBetween(eq(TASK_ID), anyLong(), any());
+    }
+
+    @Test
+    void reportsNotFoundForAnUnknownTask() {
+        UUID unknown = UUID.randomUUID();
+        when(taskRepository.existsById(unknown)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> service.getStateAt(unknown, AT));
+        verify(taskHistoryRepository, never()).findLatestSnapshot(any(), any());
+    }
+
+    private static TaskSnapshotRow snapshot(long version, String state) {
+        return new TaskSnapshotRow() {
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+
+            @Override
+            public LocalDateTime getTakenAt() {
+                return SNAPSHOT_AT;
+            }
+
+            @Override
+            public String getState() {
+                return state;
+            }
+        };
+    }
+
+    private static TaskChangeRow change(long version, LocalDateTime changedAt, String changes) {
+        return new TaskChangeRow() {
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+
+            @Override
+            public LocalDateTime getChangedAt() {
+                return changedAt;
+            }
+
+            @Override
+            public UUID getActorUserId() {
+                return null;
+            }
+
+            @Override
+            public String getActorUsername() {
+                return null;
+            }
+
+            @Override
+            public String getChanges() {
+                return changes;
+            }
+        };
+    }
+}
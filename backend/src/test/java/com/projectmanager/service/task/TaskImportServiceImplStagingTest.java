@@ -0,0 +1,161 @@
+package com.projectmanager.service.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanager.dto.response.TaskImportErrorResponse;
+import com.projectmanager.dto.response.TaskImportJobResponse;
+import com.projectmanager.model.task.TaskImportFormat;
+import com.projectmanager.service.project.ProjectMembershipCache;
+import com.projectmanager.service.project.ProjectService;
+import com.projectmanager.service.user.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Unit tests for how {@link TaskImportServiceImpl} stages rows and maps invalid ones to per-line errors.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskImportServiceImplStagingTest {
+
+    private static final UUID ACTOR_ID = UUID.randomUUID();
+
+    @Mock
+    private ProjectService projectService;
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+    @Mock
+    private UserService userService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TaskExecutor taskExecutor;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskImportServiceImpl importService;
+    private TaskImportJob job;
+    private StringWriter out;
+
+    @BeforeEach
+    void setUp() {
+        importService = new TaskImportServiceImpl(projectService, projectMembershipCache, userService, new ObjectMapper(),
+                jdbcTemplate, eventPublisher, taskExecutor, transactionManager, 1000);
+        job = new TaskImportJob(UUID.randomUUID(), ACTOR_ID, TaskImportFormat.CSV, 1000);
+        out = new StringWriter();
+    }
+
+    @Test
+    void stagesAValidTask() throws IOException {
+        Map<String, String> row = row("title", "Write \"docs\"", "status", "in_progress", "priority", "high",
+                "estimatedHours", " 3 ", "dueDate", "2025-03-01");
+
+        importService.stageTask(job, 7, row, new HashSet<>(), out);
+
+        String staged = out.toString();
+        assertTrue(staged.startsWith("7,"), staged);
+        assertTrue(staged.contains(",\"Write \"\"docs\"\"\","), staged);
+        assertTrue(staged.contains(",HIGH,,IN_PROGRESS,3,2025-03-01T00:00,"), staged);
+        // No createdBy column: the importing user.
+        assertTrue(staged.contains(",\"" + ACTOR_ID + "\","), staged);
+        TaskImportJobResponse response = job.toResponse();
+        assertEquals(1, response.getRowsStaged());
+        assertEquals(0, response.getErrorCount());
+    }
+
+    @Test
+    void reportsInvalidTaskFieldsOnTheirLine() throws IOException {
+        assertTaskRejected(row("status", "TODO"), "title is required");
+        assertTaskRejected(row("title", "   "), "title is required");
+        assertTaskRejected(row("title", "x".repeat(256)), "title is longer than 255 characters");
+        assertTaskRejected(row("title", "a\0b"), "title contains a NUL character");
+        assertTaskRejected(row("title", "t", "priority", "urgent"), "invalid priority: urgent");
+        assertTaskRejected(row("title", "t", "status", "BLOCKED"), "invalid status: BLOCKED");
+        assertTaskRejected(row("title", "t", "estimatedHours", "-1"), "estimatedHours must not be negative");
+        assertTaskRejected(row("title", "t", "estimatedHours", "two"), "invalid estimatedHours: two");
+        assertTaskRejected(row("title", "t", "dueDate", "tomorrow"), "invalid dueDate: tomorrow");
+        assertTaskRejected(row("title", "t", "kind", "epic"), "unknown kind: epic");
+    }
+
+    @Test
+    void rejectsASecondRowWithTheSameExternalId() throws IOException {
+        Set<String> externalIds = new HashSet<>();
+        importService.stageTask(job, 2, row("title", "first", "externalId", "T-1"), externalIds, out);
+        importService.stageTask(job, 3, row("title", "second", "externalId", "T-1"), externalIds, out);
+
+        TaskImportJobResponse response = job.toResponse();
+        assertEquals(2, response.getRowsRead());
+        assertEquals(1, response.getRowsStaged());
+        assertError(response, 3, "duplicate externalId: T-1");
+    }
+
+    @Test
+    void reportsInvalidCommentsOnTheirLine() throws IOException {
+        importService.stageComment(job, 4, row("content", "hello"), out);
+        importService.stageComment(job, 5, row("content", "hello", "taskId", "not-a-uuid"), out);
+        importService.stageComment(job, 6, row("taskExternalId", "T-1"), out);
+
+        TaskImportJobResponse response = job.toResponse();
+        assertEquals(0, response.getRowsStaged());
+        assertEquals(List.of(4L, 5L, 6L), response.getErrors().stream().map(TaskImportErrorResponse::getLine).toList());
+        assertEquals(List.of("taskExternalId or taskId is required", "invalid taskId: not-a-uuid", "content is required"),
+                response.getErrors().stream().map(TaskImportErrorResponse::getMessage).toList());
+        assertEquals("", out.toString());
+    }
+
+    @Test
+    void keepsOnlyTheFirstErrorsButCountsAll() throws IOException {
+        job = new TaskImportJob(UUID.randomUUID(), ACTOR_ID, TaskImportFormat.CSV, 2);
+        for (int line = 2; line <= 5; line++) {
+            importService.stageTask(job, line, row("status", "TODO"), new HashSet<>(), out);
+        }
+
+        TaskImportJobResponse response = job.toResponse();
+        assertEquals(4, response.getErrorCount());
+        assertEquals(List.of(2L, 3L), response.getErrors().stream().map(TaskImportErrorResponse::getLine).toList());
+    }
+
+    private void assertTaskRejected(Map<String, String> row, String message) throws IOException {
+        job = new TaskImportJob(UUID.randomUUID(), ACTOR_ID, TaskImportFormat.CSV, 1000);
+        importService.stageTask(job, 9, row, new HashSet<>(), out);
+
+        TaskImportJobResponse response = job.toResponse();
+        assertEquals(1, response.getRowsRead());
+        assertEquals(0, response.getRowsStaged());
+        assertError(response, 9, message);
+        assertEquals("", out.toString());
+    }
+
+    private static void assertError(TaskImportJobResponse response, long line, String message) {
+        assertEquals(1, response.getErrors().size());
+        assertEquals(line, response.getErrors().get(0).getLine());
+        assertEquals(message, response.getErrors().get(0).getMessage());
+    }
+
+    private static Map<String, String> row(String... fieldsAndValues) {
+        Map<String, String> row = new HashMap<>();
+        for (int i = 0; i < fieldsAndValues.length; i += 2) {
+            row.put(fieldsAndValues[i], fieldsAndValues[i + 1]);
+        }
+        return row;
+    }
+}
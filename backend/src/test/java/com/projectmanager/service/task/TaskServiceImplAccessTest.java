@@ -0,0 +1,185 @@
+package com.projectmanager.service.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.projectmanager.dto.request.TaskStatusTransitionRequest;
+import com.projectmanager.entity.Project;
+import com.projectmanager.entity.Task;
+import com.projectmanager.entity.User;
+import com.projectmanager.mapper.TaskMapper;
+import com.projectmanager.model.task.TaskStatus;
+import com.projectmanager.repository.CommentRepository;
+import com.projectmanager.repository.TaskDependencyRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.repository.projection.TaskVersionRow;
+import com.projectmanager.service.project.ProjectMembershipCache;
+import com.projectmanager.service.project.ProjectService;
+import com.projectmanager.service.user.UserService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the project membership checks of the task writes whose targets {@code @PreAuthorize} cannot see.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskServiceImplAccessTest {
+
+    private static final UUID ACTOR_KEY = UUID.randomUUID();
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskMapper taskMapper;
+    @Mock
+    private ProjectService projectService;
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+    @Mock
+    private UserService userService;
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskServiceImpl taskService;
+    private User actor;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskServiceImpl(taskRepository, taskMapper, projectService, projectMembershipCache, userService,
+                taskDependencyRepository, commentRepository, eventPublisher, new ObjectMapper(), 16);
+        actor = new User();
+        actor.setId(UUID.randomUUID());
+        when(userService.findByKey(ACTOR_KEY)).thenReturn(Optional.of(actor));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void statusTransitionRequiresAccessToEveryProject() {
+        authenticateAs("ROLE_developer");
+        UUID memberProject = UUID.randomUUID();
+        UUID otherProject = UUID.randomUUID();
+        TaskStatusTransitionRequest request = transition(memberProject, otherProject);
+        // Projects are checked in no particular order, so the check may stop before reaching this one.
+        lenient().when(projectMembershipCache.canAccess(actor.getId(), memberProject)).thenReturn(true);
+        when(projectMembershipCache.canAccess(actor.getId(), otherProject)).thenReturn(false);
+
+        EntityNotFoundException e = assertThrows(EntityNotFoundException.class,
+                () -> taskService.transitionStatus(request, ACTOR_KEY.toString()));
+
+        assertEquals("Project not found with ID: " + otherProject, e.getMessage());
+        verify(taskRepository, never()).transitionStatus(anyString(), anyString(), anyString(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void statusTransitionByMemberIsApplied() {
+        authenticateAs("ROLE_developer");
+        UUID project = UUID.randomUUID();
+        TaskStatusTransitionRequest request = transition(project);
+        when(projectMembershipCache.canAccess(actor.getId(), project)).thenReturn(true);
+        when(taskRepository.transitionStatus(anyString(), anyString(), eq("DONE"), any(), eq(ACTOR_KEY))).thenReturn(1);
+
+        assertEquals(1, taskService.transitionStatus(request, ACTOR_KEY.toString()).getUpdatedCount());
+    }
+
+    @Test
+    void adminsSkipTheMembershipCheck() {
+        authenticateAs("ROLE_admin");
+        TaskStatusTransitionRequest request = transition(UUID.randomUUID());
+        when(taskRepository.transitionStatus(anyString(), anyString(), eq("DONE"), any(), eq(ACTOR_KEY))).thenReturn(1);
+
+        assertEquals(1, taskService.transitionStatus(request, ACTOR_KEY.toString()).getUpdatedCount());
+        verifyNoInteractions(projectMembershipCache);
+    }
+
+    @Test
+    void patchCannotMoveATaskIntoAnInaccessibleProject() {
+        authenticateAs("ROLE_developer");
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setProject(project(UUID.randomUUID()));
+        Project target = project(UUID.randomUUID());
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
+        when(projectService.findProjectById(target.getId())).thenReturn(Optional.of(target));
+        when(projectMembershipCache.canAccess(actor.getId(), target.getId())).thenReturn(false);
+        ObjectNode patch = new ObjectMapper().createObjectNode().put("projectId", target.getId().toString());
+
+        assertThrows(EntityNotFoundException.class, () -> taskService.patchTask(task.getId(), patch, null, ACTOR_KEY.toString()));
+        verify(taskRepository, never()).saveAndFlush(any());
+    }
+
+    private TaskStatusTransitionRequest transition(UUID... projectIds) {
+        TaskStatusTransitionRequest request = new TaskStatusTransitionRequest();
+        request.setStatus(TaskStatus.DONE);
+        List<TaskVersionRow> rows = new ArrayList<>();
+        List<TaskStatusTransitionRequest.Item> items = new ArrayList<>();
+        for (UUID projectId : projectIds) {
+            TaskStatusTransitionRequest.Item item = new TaskStatusTransitionRequest.Item();
+            item.setId(UUID.randomUUID());
+            items.add(item);
+            rows.add(new VersionRow(item.getId(), projectId, 3L));
+        }
+        request.setTasks(items);
+        when(taskRepository.findVersionRowsByIdIn(any())).thenReturn(rows);
+        return request;
+    }
+
+    private static Project project(UUID id) {
+        Project project = new Project();
+        project.setId(id);
+        return project;
+    }
+
+    private static void authenticateAs(String role) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(ACTOR_KEY.toString(), null, role));
+    }
+
+    private record VersionRow(UUID id, UUID projectId, Long version) implements TaskVersionRow {
+
+        @Override
+        public UUID getId() {
+            return id;
+        }
+
+        @Override
+        public UUID getProjectId() {
+            return projectId;
+        }
+
+        @Override
+        public Long getVersion() {
+            return version;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.projectmanager.service.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.projectmanager.dto.request.TaskFilterRequest;
+import com.projectmanager.entity.Task;
+import com.projectmanager.entity.User;
+import com.projectmanager.mapper.TaskMapper;
+import com.projectmanager.repository.CommentRepository;
+import com.projectmanager.repository.TaskDependencyRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.service.project.ProjectMembershipCache;
+import com.projectmanager.service.project.ProjectService;
+import com.projectmanager.service.user.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the paging and sorting rules of {@link TaskServiceImpl#filterTasks}.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskServiceImplFilterTest {
+
+    private static final UUID ACTOR_KEY = UUID.randomUUID();
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskMapper taskMapper;
+    @Mock
+    private ProjectService projectService;
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+    @Mock
+    private UserService userService;
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskServiceImpl taskService;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskServiceImpl(taskRepository, taskMapper, projectService, projectMembershipCache, userService,
+                taskDependencyRepository, commentRepository, eventPublisher, new ObjectMapper(), 16);
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rejectsSortPropertiesOutsideTheWhitelist() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("createdBy.password"));
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.filterTasks(new TaskFilterRequest(), pageable, ACTOR_KEY.toString()));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void capsThePageSize() {
+        Pageable page = filter(PageRequest.of(3, 10_000));
+
+        assertEquals(200, page.getPageSize());
+        assertEquals(3, page.getPageNumber());
+    }
+
+    @Test
+    void appendsIdAsTieBreaker() {
+        Pageable page = filter(PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "dueDate")));
+
+        assertEquals(List.of(Sort.Order.asc("dueDate"), Sort.Order.desc("id")), page.getSort().toList());
+    }
+
+    @Test
+    void rejectsAnInvertedDueRange() {
+        TaskFilterRequest filter = new TaskFilterRequest();
+        filter.setDueFrom(LocalDateTime.of(2025, 2, 1, 0, 0));
+        filter.setDueTo(LocalDateTime.of(2025, 1, 1, 0, 0));
+
+        assertThrows(IllegalArgumentException.class, () -> taskService.filterTasks(filter, PageRequest.of(0, 20), ACTOR_KEY.toString()));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    void adminsAreNotLimitedToTheirProjects() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(ACTOR_KEY.toString(), null, "ROLE_admin"));
+
+        filter(PageRequest.of(0, 20));
+
+        verifyNoInteractions(userService);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Pageable filter(Pageable requested) {
+        User actor = new User();
+        actor.setId(UUID.randomUUID());
+        // Only callers who are not admins are limited to their projects.
+        lenient().when(userService.findByKey(ACTOR_KEY)).thenReturn(Optional.of(actor));
+        when(taskRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<Task>(List.of(), invocation.getArgument(1), 0));
+
+        taskService.filterTasks(new TaskFilterRequest(), requested, ACTOR_KEY.toString());
+
+        ArgumentCaptor<Pageable> captor = ArgumentCaptor.forClass(Pageable.class);
+        verify(taskRepository).findAll(any(Specification.class), captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,180 @@
+package com.projectmanager.service.task;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.projectmanager.entity.Project;
+import com.projectmanager.entity.Task;
+import com.projectmanager.entity.TaskDependency;
+import com.projectmanager.entity.User;
+import com.projectmanager.event.TaskDependencyChangedEvent;
+import com.projectmanager.mapper.TaskMapper;
+import com.projectmanager.model.task.TaskStatus;
+import com.projectmanager.repository.CommentRepository;
+import com.projectmanager.repository.TaskDependencyRepository;
+import com.projectmanager.repository.TaskRepository;
+import com.projectmanager.service.project.ProjectMembershipCache;
+import com.projectmanager.service.project.ProjectService;
+import com.projectmanager.service.user.UserService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for what follows a task into another project or board column.
+ */
+@ExtendWith(MockitoExtension.class)
+class TaskServiceImplMoveTest {
+
+    private static final UUID ACTOR_KEY = UUID.randomUUID();
+
+    @Mock
+    private TaskRepository taskRepository;
+    @Mock
+    private TaskMapper taskMapper;
+    @Mock
+    private ProjectService projectService;
+    @Mock
+    private ProjectMembershipCache projectMembershipCache;
+    @Mock
+    private UserService userService;
+    @Mock
+    private TaskDependencyRepository taskDependencyRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private TaskServiceImpl taskService;
+    private Project source;
+    private Project target;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        taskService = new TaskServiceImpl(taskRepository, taskMapper, projectService, projectMembershipCache, userService,
+                taskDependencyRepository, commentRepository, eventPublisher, new ObjectMapper(), 16);
+        SecurityContextHolder.getContext().setAuthentication(
+                new TestingAuthenticationToken(ACTOR_KEY.toString(), null, "ROLE_admin"));
+        User actor = new User();
+        actor.setId(UUID.randomUUID());
+        // Only a change of project looks up the actor and the target project.
+        lenient().when(userService.findByKey(ACTOR_KEY)).thenReturn(Optional.of(actor));
+
+        source = project();
+        target = project();
+        task = task(source);
+        when(taskRepository.findById(task.getId())).thenReturn(Optional.of(task));
+        when(taskRepository.saveAndFlush(task)).thenReturn(task);
+        lenient().when(projectService.findProjectById(target.getId())).thenReturn(Optional.of(target));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void movingATaskDropsItsDependencies() {
+        Task predecessor = task(source);
+        Task successor = task(source);
+        List<TaskDependency> edges = List.of(
+                new TaskDependency(source, predecessor, task, LocalDateTime.now()),
+                new TaskDependency(source, task, successor, LocalDateTime.now()));
+        when(taskDependencyRepository.findByTaskId(task.getId())).thenReturn(edges);
+
+        taskService.patchTask(task.getId(), patch(target), null, ACTOR_KEY.toString());
+
+        assertEquals(target, task.getProject());
+        verify(taskDependencyRepository).deleteAllInBatch(edges);
+        ArgumentCaptor<TaskDependencyChangedEvent> events = ArgumentCaptor.forClass(TaskDependencyChangedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        for (TaskDependencyChangedEvent event : events.getAllValues()) {
+            assertEquals(source.getId(), event.getProjectId());
+            assertFalse(event.isAdded());
+        }
+        assertEquals(predecessor.getId(), events.getAllValues().get(0).getPredecessorId());
+        assertEquals(successor.getId(), events.getAllValues().get(1).getSuccessorId());
+    }
+
+    @Test
+    void movingATaskWithoutDependenciesDeletesNothing() {
+        when(taskDependencyRepository.findByTaskId(task.getId())).thenReturn(List.of());
+
+        taskService.patchTask(task.getId(), patch(target), null, ACTOR_KEY.toString());
+
+        assertEquals(target, task.getProject());
+        verify(taskDependencyRepository, never()).deleteAllInBatch(any());
+    }
+
+    @Test
+    void movingATaskAppendsItToTheTargetProjectsColumn() {
+        when(taskDependencyRepository.findByTaskId(task.getId())).thenReturn(List.of());
+        when(taskRepository.findLastRank(target.getId(), "TODO")).thenReturn(Optional.of("m"));
+
+        taskService.patchTask(task.getId(), patch(target), null, ACTOR_KEY.toString());
+
+        assertEquals(LexoRank.between("m", null), task.getRank());
+    }
+
+    @Test
+    void changingTheStatusAppendsTheTaskToTheNewColumn() {
+        when(taskRepository.findLastRank(source.getId(), "DONE")).thenReturn(Optional.empty());
+        ObjectNode patch = new ObjectMapper().createObjectNode().put("status", "DONE");
+
+        taskService.patchTask(task.getId(), patch, null, ACTOR_KEY.toString());
+
+        assertEquals(LexoRank.between(null, null), task.getRank());
+        verifyNoInteractions(taskDependencyRepository);
+    }
+
+    @Test
+    void editsWithinTheColumnKeepTheRank() {
+        ObjectNode patch = new ObjectMapper().createObjectNode().put("title", "Renamed").put("status", "TODO");
+
+        taskService.patchTask(task.getId(), patch, null, ACTOR_KEY.toString());
+
+        assertEquals("zz", task.getRank());
+        verify(taskRepository, never()).findLastRank(any(), any());
+    }
+
+    private static ObjectNode patch(Project project) {
+        return new ObjectMapper().createObjectNode().put("projectId", project.getId().toString());
+    }
+
+    private static Project project() {
+        Project project = new Project();
+        project.setId(UUID.randomUUID());
+        return project;
+    }
+
+    private static Task task(Project project) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setProject(project);
+        task.setStatus(TaskStatus.TODO);
+        task.setRank("zz");
+        return task;
+    }
+}